@@ -0,0 +1,44 @@
+package com.example.gagso.bench;
+
+import com.example.gagso.GagsoApplication;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 기동
+ *
+ * 기본은 벤치마크 인스턴스마다 새 내장 H2(MySQL 모드) 를 쓰고,
+ * -Dbench.datasource.url / username / password 로 실제 MySQL 을 지정할 수 있다.
+ * 웹 서버는 띄우지 않는다.
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String... extraArgs) {
+        String url = System.getProperty("bench.datasource.url",
+                "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+
+        List<String> args = new ArrayList<>();
+        args.add("--spring.datasource.url=" + url);
+        args.add("--spring.datasource.username=" + System.getProperty("bench.datasource.username", "sa"));
+        args.add("--spring.datasource.password=" + System.getProperty("bench.datasource.password", ""));
+        args.add("--spring.jpa.hibernate.ddl-auto=create-drop");
+        args.add("--spring.jpa.open-in-view=false");
+        args.add("--spring.jpa.show-sql=false");
+        args.add("--spring.main.web-application-type=none");
+        args.add("--logging.level.root=WARN");
+        args.add("--gagso.attachment.root=" + System.getProperty("java.io.tmpdir") + "/gagso-bench");
+        args.addAll(List.of(extraArgs));
+
+        return new SpringApplicationBuilder(GagsoApplication.class)
+                .bannerMode(Banner.Mode.OFF)
+                .run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.gagso.bench;
+
+import com.example.gagso.Clubs.enums.Visibility;
+import com.example.gagso.Clubs.models.Club;
+import com.example.gagso.Log.model.ActionType;
+import com.example.gagso.Log.model.LogEntry;
+import com.example.gagso.WorkRoom.models.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.ApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+/**
+ * 벤치마크 기초 데이터 적재
+ * 서비스/리포지토리를 거치지 않고 EntityManager 로 직접 persist 한다. (로그, 이벤트 없이 순수 데이터만)
+ */
+public final class BenchmarkData {
+
+    private static final int FLUSH_EVERY = 1_000;
+    private static final int COMMIT_EVERY = 10_000;
+
+    static final String[] TITLE_WORDS = {
+            "주간", "보고", "회의", "예산", "검토", "계획", "점검", "교육", "정산", "개선",
+            "시스템", "운영", "보안", "인사", "평가", "홍보", "행사", "민원", "계약", "감사"
+    };
+
+    private static final String[] UNIT_TASKS = {"기획", "총무", "재무", "전산", "대외협력"};
+
+    private BenchmarkData() {
+    }
+
+    public static void insertTasks(ApplicationContext context, int rows) {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate base = LocalDate.of(2025, 1, 1);
+        persistAll(context, rows, i -> {
+            Task task = new Task();
+            task.setTitle(title(random, i));
+            task.setStartDate(base.plusDays(random.nextInt(365)));
+            task.setEndDate(task.getStartDate().plusDays(random.nextInt(1, 30)));
+            task.setPublic(random.nextBoolean());
+            task.setAlarmEnabled(random.nextInt(10) == 0);
+            task.setUnitTask(UNIT_TASKS[random.nextInt(UNIT_TASKS.length)]);
+            task.setManagerId("user" + (i % 500));
+            task.setManagerName("담당자" + (i % 500));
+            task.setDeptId(String.format("D%02d", i % 20 + 1));
+            return task;
+        });
+    }
+
+    /** PUBLIC 70% / GROUP 20% / PRIVATE 10%, 개설자는 user0 ~ user499 */
+    public static void insertClubs(ApplicationContext context, int rows) {
+        SplittableRandom random = new SplittableRandom(7);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        persistAll(context, rows, i -> {
+            int bucket = random.nextInt(10);
+            Club club = new Club();
+            club.setName("동호회" + i);
+            club.setDescription(TITLE_WORDS[i % TITLE_WORDS.length] + " 모임");
+            club.setCreateDate(base.plusMinutes(random.nextInt(60 * 24 * 365)));
+            club.setMemberCount(random.nextInt(1, 300));
+            club.setCreatorName("user" + (i % 500));
+            club.setVisibility(bucket < 7 ? Visibility.PUBLIC : bucket < 9 ? Visibility.GROUP : Visibility.PRIVATE);
+            return club;
+        });
+    }
+
+    public static void insertLogs(ApplicationContext context, int rows) {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        persistAll(context, rows, i -> newLog(i, base.plusSeconds(i)));
+    }
+
+    public static LogEntry newLog(int i, LocalDateTime timeStamp) {
+        LogEntry entry = new LogEntry();
+        entry.setActorId("user" + (i % 500));
+        entry.setActionType(ActionType.REGISTER);
+        entry.setTargetType("Task");
+        entry.setTargetId("bench-" + i);
+        entry.setTimeStamp(timeStamp);
+        return entry;
+    }
+
+    public static List<LogEntry> newLogs(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<LogEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(newLog(i, now));
+        }
+        return entries;
+    }
+
+    static String title(SplittableRandom random, int i) {
+        return TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " "
+                + TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " " + i;
+    }
+
+    private static void persistAll(ApplicationContext context, int rows, IntFunction<Object> factory) {
+        EntityManagerFactory emf = context.getBean(EntityManagerFactory.class);
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (int i = 0; i < rows; i++) {
+                em.persist(factory.apply(i));
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    em.flush();
+                    em.clear();
+                }
+                if ((i + 1) % COMMIT_EVERY == 0) {
+                    em.getTransaction().commit();
+                    em.getTransaction().begin();
+                }
+            }
+            em.getTransaction().commit();
+        } finally {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            em.close();
+        }
+    }
+}
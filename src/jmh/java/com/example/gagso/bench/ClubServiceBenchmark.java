@@ -0,0 +1,92 @@
+package com.example.gagso.bench;
+
+import com.example.gagso.Clubs.dto.ClubPageDTO;
+import com.example.gagso.Clubs.enums.ClubSort;
+import com.example.gagso.Clubs.enums.Visibility;
+import com.example.gagso.Clubs.helper.ClubRankingCache;
+import com.example.gagso.Clubs.models.Club;
+import com.example.gagso.Clubs.repository.ClubRepository;
+import com.example.gagso.Clubs.service.ClubService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동호회 정렬 목록 경로
+ * getClubsSorted(랭킹 캐시) / findPage(DB keyset, PUBLIC + 본인 GROUP 두 번) / legacyFindAllAndSort(전체 조회 후 메모리 필터+정렬) 비교
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ClubServiceBenchmark {
+
+    private static final String USERNAME = "user7";
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    @Param({"popular", "newest"})
+    public String sort;
+
+    private ConfigurableApplicationContext context;
+    private ClubService clubService;
+    private ClubRepository clubRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        BenchmarkData.insertClubs(context, rows);
+        context.getBean(ClubRankingCache.class).rebuild();
+        clubService = context.getBean(ClubService.class);
+        clubRepository = context.getBean(ClubRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ClubPageDTO getClubsSorted() {
+        return clubService.getClubsSorted(sort, USERNAME, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public int findPage() {
+        ClubSort order = ClubSort.from(sort);
+        return clubRepository.findPage(Visibility.PUBLIC, null, order, null, PAGE_SIZE + 1).size()
+                + clubRepository.findPage(Visibility.GROUP, USERNAME, order, null, PAGE_SIZE + 1).size();
+    }
+
+    @Benchmark
+    public List<Club> legacyFindAllAndSort() {
+        Comparator<Club> order = "popular".equals(sort)
+                ? Comparator.comparingInt(Club::getMemberCount).reversed()
+                : Comparator.comparing(Club::getCreateDate, Comparator.reverseOrder());
+        return clubRepository.findAll().stream()
+                .filter(club -> club.getVisibility() == Visibility.PUBLIC
+                        || (club.getVisibility() == Visibility.GROUP && USERNAME.equals(club.getCreatorName())))
+                .sorted(order)
+                .limit(PAGE_SIZE)
+                .toList();
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.gagso.bench;
+
+import com.example.gagso.common.id.IdGenerator;
+import com.example.gagso.common.id.RandomUuidGenerator;
+import com.example.gagso.common.id.TimeOrderedUuidGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/** ID 생성 비용 (UUIDv7 CAS 경합 확인을 위해 4 스레드로 측정) */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator timeOrdered = new TimeOrderedUuidGenerator();
+    private final IdGenerator random = new RandomUuidGenerator();
+
+    @Benchmark
+    public UUID uuidv7() {
+        return timeOrdered.next();
+    }
+
+    @Benchmark
+    public UUID randomUuid() {
+        return random.next();
+    }
+}
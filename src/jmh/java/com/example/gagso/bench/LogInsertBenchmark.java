@@ -0,0 +1,73 @@
+package com.example.gagso.bench;
+
+import com.example.gagso.Log.model.LogEntry;
+import com.example.gagso.Log.repository.LogBatchInserter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감사 로그 INSERT 처리량: ID 생성기(uuidv7 / random) x 저장 형식(CHAR / BINARY) x 기존 행 수
+ * 랜덤 UUID 는 PK 인덱스 중간 삽입이 잦아 기존 행이 많을수록 차이가 커진다.
+ * (H2 는 InnoDB 버퍼 풀을 흉내 내지 않으므로 최종 판단은 -Dbench.datasource.url 로 MySQL 에서)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class LogInsertBenchmark {
+
+    private static final int BATCH = 500;
+
+    @Param({"uuidv7", "random"})
+    public String generator;
+
+    @Param({"CHAR", "BINARY"})
+    public String storage;
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private LogBatchInserter batchInserter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(
+                "--gagso.id.generator=" + generator,
+                "--gagso.id.storage=" + storage,
+                "--gagso.log.async.enabled=false");
+        BenchmarkData.insertLogs(context, rows);
+        batchInserter = context.getBean(LogBatchInserter.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /** 결과 단위는 행/초 */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void insertBatch() {
+        List<LogEntry> entries = BenchmarkData.newLogs(BATCH);
+        batchInserter.insertAll(entries);
+    }
+}
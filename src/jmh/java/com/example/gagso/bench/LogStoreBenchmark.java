@@ -0,0 +1,86 @@
+package com.example.gagso.bench;
+
+import com.example.gagso.Log.dto.LogSearchCondition;
+import com.example.gagso.Log.model.LogEntry;
+import com.example.gagso.Log.storage.LogStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감사 로그 저장소별 배치 저장 처리량과 최근 1시간 조회 (jpa: LogEntry 테이블 / file: 세그먼트 파일)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class LogStoreBenchmark {
+
+    private static final int BATCH = 500;
+
+    @Param({"jpa", "file"})
+    public String store;
+
+    @Param({"true", "false"})
+    public boolean fsync;
+
+    private ConfigurableApplicationContext context;
+    private LogStore logStore;
+    private Path dir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("gagso-log-bench");
+        context = BenchmarkApplication.start(
+                "--gagso.log.store=" + store,
+                "--gagso.log.file.dir=" + dir,
+                "--gagso.log.file.fsync=" + fsync,
+                "--gagso.log.async.enabled=false");
+        logStore = context.getBean(LogStore.class);
+        for (int i = 0; i < 200; i++) {
+            logStore.appendAll(BenchmarkData.newLogs(BATCH));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(dir);
+    }
+
+    /** 결과 단위는 건/초 */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void appendBatch() {
+        List<LogEntry> entries = BenchmarkData.newLogs(BATCH);
+        logStore.appendAll(entries);
+    }
+
+    @Benchmark
+    public Object searchLastHour() {
+        LocalDateTime now = LocalDateTime.now();
+        return logStore.search(new LogSearchCondition(null, "user7", null, now.minusHours(1), now), null, 50);
+    }
+}
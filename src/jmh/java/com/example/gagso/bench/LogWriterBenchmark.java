@@ -0,0 +1,68 @@
+package com.example.gagso.bench;
+
+import com.example.gagso.Log.model.ActionType;
+import com.example.gagso.Log.repository.LogBatchInserter;
+import com.example.gagso.Log.service.TaskLogWriter;
+import com.example.gagso.WorkRoom.models.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LogWriter.save 호출 측 지연
+ * save 는 비동기 파이프라인 큐에 넣고 바로 돌아오고, saveSync 는 건별로 바로 INSERT 하던 예전 방식이다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class LogWriterBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private TaskLogWriter taskLogWriter;
+    private LogBatchInserter batchInserter;
+    private Task target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        taskLogWriter = context.getBean(TaskLogWriter.class);
+        batchInserter = context.getBean(LogBatchInserter.class);
+        target = new Task();
+        target.setTaskId(UUID.randomUUID());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void save() {
+        taskLogWriter.save("user1", ActionType.REGISTER, target);
+    }
+
+    @Benchmark
+    public void saveSync() {
+        batchInserter.insertAll(List.of(BenchmarkData.newLog(0, LocalDateTime.now())));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.gagso.bench;
+
+import com.example.gagso.WorkRoom.dto.TaskListItemDTO;
+import com.example.gagso.WorkRoom.dto.TaskPageDTO;
+import com.example.gagso.WorkRoom.helper.TaskSearchIndex;
+import com.example.gagso.WorkRoom.repository.TaskRepository;
+import com.example.gagso.WorkRoom.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업무 목록/검색 경로
+ * getAllTasksEntity 는 엔티티 전체를 읽어 DTO 로 바꾸던 예전 방식(비교 기준)이고,
+ * searchLike 는 색인 없이 LIKE '%q%' 로 찾는 DB 경로다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TaskServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    @Param({"보고"})
+    public String query;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        BenchmarkData.insertTasks(context, rows);
+        context.getBean(TaskSearchIndex.class).rebuild();
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskListItemDTO> getAllTasks() {
+        return taskService.getAllTasks();
+    }
+
+    @Benchmark
+    public List<TaskListItemDTO> getAllTasksEntity() {
+        return taskRepository.findAll().stream()
+                .map(task -> new TaskListItemDTO(task.getTaskId(), task.getTitle(),
+                        task.getStartDate(), task.getEndDate(), task.getManagerName()))
+                .toList();
+    }
+
+    @Benchmark
+    public TaskPageDTO firstPage() {
+        return taskService.getTaskPage(null, 50);
+    }
+
+    @Benchmark
+    public List<TaskListItemDTO> searchIndexed() {
+        return taskService.search(query, 50);
+    }
+
+    @Benchmark
+    public List<TaskListItemDTO> searchLike() {
+        return taskRepository.findByCondition(query);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.gagso.bench;
+
+import com.example.gagso.Clubs.dto.ClubRegisterRequestDTO;
+import com.example.gagso.Clubs.dto.ValidationResult;
+import com.example.gagso.Clubs.enums.Visibility;
+import com.example.gagso.Clubs.helper.ClubValidator;
+import com.example.gagso.WorkRoom.dto.TaskDTO;
+import com.example.gagso.WorkRoom.helper.TaskValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/** 입력 검증기 (스프링 컨텍스트 없이 직접 생성) */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ValidatorBenchmark {
+
+    private final TaskValidator taskValidator = new TaskValidator();
+    private final ClubValidator clubValidator = new ClubValidator();
+
+    private TaskDTO validTask;
+    private TaskDTO invalidTask;
+    private ClubRegisterRequestDTO validClub;
+    private ClubRegisterRequestDTO invalidClub;
+
+    @Setup
+    public void setUp() {
+        LocalDate today = LocalDate.now();
+        validTask = new TaskDTO("주간 보고", today, today.plusDays(7), true, null, null,
+                false, "user1", "D01", "기획", "담당자1");
+        invalidTask = new TaskDTO(" ", today.plusDays(7), today, true, null, null,
+                false, "user1", null, "기획", "담당자1");
+        validClub = new ClubRegisterRequestDTO("등산 동호회", "주말 산행", LocalDateTime.now(), 0,
+                Visibility.PUBLIC, 0, "user1");
+        invalidClub = new ClubRegisterRequestDTO(null, null, LocalDateTime.now(), 0,
+                Visibility.PUBLIC, 0, " ");
+    }
+
+    @Benchmark
+    public String taskValid() {
+        return taskValidator.validate(validTask);
+    }
+
+    @Benchmark
+    public String taskInvalid() {
+        return taskValidator.validate(invalidTask);
+    }
+
+    @Benchmark
+    public ValidationResult clubValid() {
+        return clubValidator.validate(validClub);
+    }
+
+    @Benchmark
+    public ValidationResult clubInvalid() {
+        return clubValidator.validate(invalidClub);
+    }
+}
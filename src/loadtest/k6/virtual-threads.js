@@ -0,0 +1,77 @@
+// 플랫폼 스레드 / 가상 스레드 모드 처리량, p99 비교용 부하 테스트
+//
+// 1) 서버 기동 (모드별로 한 번씩)
+//      ./gradlew bootRun --args='--spring.datasource.hikari.maximum-pool-size=20 --spring.datasource.hikari.minimum-idle=20'
+//      ./gradlew bootRun --args='--spring.profiles.active=virtual-threads'
+//    (가상 스레드 프로필은 풀을 20 으로 고정하므로 플랫폼 스레드 모드도 같은 풀 크기로 맞춰서 비교)
+// 2) 부하 실행
+//      k6 run -e BASE_URL=http://localhost:8080 -e VUS=800 --summary-export=platform.json src/loadtest/k6/virtual-threads.js
+//      k6 run -e BASE_URL=http://localhost:8080 -e VUS=800 --summary-export=virtual.json  src/loadtest/k6/virtual-threads.js
+// 3) 두 결과의 http_reqs(처리량), http_req_duration p(99) 를 비교하고,
+//    서버 쪽 /actuator/prometheus 의 hikaricp_connections_pending 으로 풀 대기 여부를 함께 확인한다.
+//
+// 플랫폼 스레드 모드는 Tomcat 기본 200 스레드에서, 가상 스레드 모드는 hikari 풀 크기에서 막혀야 정상이다.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '800', 10);
+const DURATION = __ENV.DURATION || '2m';
+
+const attachment = new Uint8Array(64 * 1024).map((_, i) => i % 251).buffer;
+
+export const options = {
+    discardResponseBodies: true,
+    scenarios: {
+        read: {
+            executor: 'constant-vus',
+            exec: 'read',
+            vus: Math.floor(VUS * 0.9),
+            duration: DURATION,
+        },
+        register: {
+            executor: 'constant-vus',
+            exec: 'register',
+            vus: Math.max(1, Math.ceil(VUS * 0.1)),
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function read() {
+    const pick = Math.random();
+    let res;
+    if (pick < 0.4) {
+        res = http.get(`${BASE_URL}/api/tasks?size=50`, { tags: { name: 'tasks-page' } });
+    } else if (pick < 0.7) {
+        res = http.get(`${BASE_URL}/api/tasks/search?title=${encodeURIComponent('보고')}`, { tags: { name: 'tasks-search' } });
+    } else if (pick < 0.9) {
+        res = http.get(`${BASE_URL}/api/clubs?sort=popular&userId=user${__VU % 500}`, { tags: { name: 'clubs' } });
+    } else {
+        res = http.get(`${BASE_URL}/api/departments`, { tags: { name: 'departments' } });
+    }
+    check(res, { 'status 2xx/304': (r) => (r.status >= 200 && r.status < 300) || r.status === 304 });
+}
+
+// 업로드 + INSERT 2건 (TaskService.register)
+export function register() {
+    const today = new Date().toISOString().slice(0, 10);
+    const taskDto = JSON.stringify({
+        title: `부하 테스트 ${__VU}-${__ITER}`,
+        startDate: today,
+        endDate: today,
+        isPublic: true,
+        alarmEnabled: false,
+        managerId: `user${__VU % 500}`,
+        managerName: `담당자${__VU % 500}`,
+        deptId: 'D01',
+        unitTask: '기획',
+    });
+    const res = http.post(`${BASE_URL}/api/tasks`, {
+        taskDto: http.file(taskDto, 'taskDto.json', 'application/json'),
+        file: http.file(attachment, `attach-${__VU}-${__ITER}.bin`, 'application/octet-stream'),
+    }, { tags: { name: 'tasks-register' } });
+    check(res, { 'registered': (r) => r.status === 200 });
+}
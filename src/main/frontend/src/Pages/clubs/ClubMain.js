@@ -1,21 +1,62 @@
-import React, { useEffect, useState } from "react";
+import React, { useEffect, useRef, useState } from "react";
 import { useNavigate, useLocation } from "react-router-dom";
 import axios from "axios";
 
+const PAGE_SIZE = 50;
+
 const ClubMain = () => {
     const nav = useNavigate();
     const location = useLocation();
 
     const [clubs, setClubs] = useState([]);
     const [sort, setSort] = useState("popular");
+    const [nextCursor, setNextCursor] = useState(null);
+
+    // 피드 수신 시 판단용 (이벤트 핸들러 안에서 최신 값을 보도록 ref 사용)
+    const reachedEndRef = useRef(false);  // 마지막 페이지까지 불러왔는지
+
+    // 목록은 커서 페이지 단위로 불러옴 (cursor 가 있으면 이어서 추가)
+    const fetchClubs = async (cursor = null) => {
+        const username = localStorage.getItem("username");  // ✅ 이 변수명 사용
+        try {
+            const res = await axios.get("/api/clubs", {
+                params: { sort, userId: username, size: PAGE_SIZE, cursor: cursor || undefined },
+            });
+            const hasNext = res.headers["x-has-next"] === "true";
+            setClubs(prev => (cursor ? [...prev, ...res.data] : res.data));
+            setNextCursor(hasNext ? res.headers["x-next-cursor"] : null);
+            reachedEndRef.current = !hasNext;
+        } catch (err) {
+            console.error("조회 실패:", err);
+        }
+    };
+
+    useEffect(() => {
+        fetchClubs();
+    }, [sort, location.key]);
 
+    // 새 동호회는 목록을 다시 받지 않고 피드(SSE)로 받아서 정렬 위치에 끼워 넣는다
+    // (피드로는 PUBLIC 동호회만 온다)
     useEffect(() => {
-    const username = localStorage.getItem("username");  // ✅ 이 변수명 사용
-    axios
-        .get(`/api/clubs?sort=${sort}&userId=${username}`) // ✅ 맞는 이름으로 호출
-        .then(res => setClubs(res.data))
-        .catch(err => console.error("조회 실패:", err));
-}, [sort, location.key]);
+        const compare = sort === "newest"
+            ? (a, b) => (b.createDate || "").localeCompare(a.createDate || "")
+            : (a, b) => b.memberCount - a.memberCount;
+
+        const source = new EventSource("/api/feed?topics=club");
+        source.addEventListener("club", (event) => {
+            const club = JSON.parse(event.data);
+            setClubs(prev => {
+                if (prev.some(c => c.clubId === club.clubId)) return prev;
+                const at = prev.findIndex(c => compare(club, c) < 0);
+                // 불러온 범위 뒤에 올 동호회는 '더 보기' 때 함께 받게 됨
+                if (at === -1 && !reachedEndRef.current) return prev;
+                const next = [...prev];
+                next.splice(at === -1 ? next.length : at, 0, club);
+                return next;
+            });
+        });
+        return () => source.close();
+    }, [sort]);
 
     const renderTable = () => (
         <div>
@@ -80,6 +121,12 @@ const ClubMain = () => {
             </div>
 
             {renderTable()}
+
+            {nextCursor && (
+                <button onClick={() => fetchClubs(nextCursor)} style={{ marginTop: "20px" }}>
+                    더 보기
+                </button>
+            )}
         </div>
     );
 };
@@ -1,19 +1,56 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import axios from 'axios';
 import './TaskSearchView.css';
 
+const PAGE_SIZE = 50;
+
 function TaskSearchView() {
     const [tasks, setTasks] = useState([]);
     const [searchTerm, setSearchTerm] = useState('');
+    const [nextCursor, setNextCursor] = useState(null);
+
+    // 피드 수신 시 판단용 (이벤트 핸들러 안에서 최신 값을 보도록 ref 사용)
+    const listModeRef = useRef(true);     // 검색 결과가 아니라 전체 목록을 보고 있는지
+    const reachedEndRef = useRef(false);  // 전체 목록을 마지막 페이지까지 불러왔는지
+    const lastPageCursorRef = useRef(null); // 마지막으로 불러온 페이지의 커서 (일괄 등록 알림 때 그 페이지부터 다시 읽음)
 
     useEffect(() => {
         fetchAllTasks();
     }, []);
 
-    const fetchAllTasks = async () => {
+    // 새 업무는 목록을 다시 받지 않고 피드(SSE)로 받아서 붙인다
+    useEffect(() => {
+        const source = new EventSource('/api/feed?topics=task');
+        source.addEventListener('task', (event) => {
+            // 아직 안 불러온 페이지가 있으면 '더 보기' 때 함께 받게 됨 (목록은 등록순)
+            if (!listModeRef.current || !reachedEndRef.current) return;
+            const task = JSON.parse(event.data);
+            setTasks((prev) => (prev.some((t) => t.taskId === task.taskId) ? prev : [...prev, task]));
+        });
+        // 일괄 등록은 건마다 오지 않고 청크마다 한 번 온다 → 마지막 페이지부터 다시 읽어 이어 붙임
+        source.addEventListener('task-refresh', () => {
+            if (!listModeRef.current || !reachedEndRef.current) return;
+            fetchAllTasks(lastPageCursorRef.current);
+        });
+        return () => source.close();
+    }, []);
+
+    // 전체 목록은 커서 페이지 단위로 불러옴 (cursor 가 있으면 이어서 추가)
+    const fetchAllTasks = async (cursor = null) => {
         try {
-            const response = await axios.get('/api/tasks');
-            setTasks(response.data);
+            const response = await axios.get('/api/tasks', {
+                params: { size: PAGE_SIZE, cursor: cursor || undefined },
+            });
+            const page = response.data;
+            setTasks((prev) => {
+                if (!cursor) return page.items;
+                const loaded = new Set(prev.map((t) => t.taskId));
+                return [...prev, ...page.items.filter((t) => !loaded.has(t.taskId))];
+            });
+            setNextCursor(page.hasNext ? page.nextCursor : null);
+            lastPageCursorRef.current = cursor;
+            listModeRef.current = true;
+            reachedEndRef.current = !page.hasNext;
         } catch (error) {
             console.error('업무 목록 조회 실패:', error);
         }
@@ -25,6 +62,8 @@ function TaskSearchView() {
                 params: { title: searchTerm },
             });
             setTasks(response.data);
+            setNextCursor(null);
+            listModeRef.current = false;
         } catch (error) {
             console.error('검색 실패:', error);
         }
@@ -73,7 +112,7 @@ function TaskSearchView() {
                 </thead>
                 <tbody>
                     {tasks.map((task, index) => (
-                        <tr key={index}>
+                        <tr key={task.taskId || index}>
                             <td>{index + 1}</td>
                             <td>{task.title}</td>
                             <td>{task.managerName}</td>
@@ -83,6 +122,12 @@ function TaskSearchView() {
                     ))}
                 </tbody>
             </table>
+
+            {nextCursor && (
+                <button className="task-search-button" onClick={() => fetchAllTasks(nextCursor)}>
+                    더 보기
+                </button>
+            )}
         </div>
     );
 }
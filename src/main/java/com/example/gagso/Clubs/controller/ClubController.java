@@ -1,22 +1,23 @@
 package com.example.gagso.Clubs.controller;
 
+import com.example.gagso.Clubs.dto.ClubPageDTO;
 import com.example.gagso.Clubs.dto.ClubRegisterRequestDTO;
 import com.example.gagso.Clubs.dto.ClubRegistrationResult;
-import com.example.gagso.Clubs.models.Club;
 import com.example.gagso.Clubs.service.ClubService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/clubs")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "http://localhost:3004")
+@CrossOrigin(origins = "http://localhost:3004", exposedHeaders = {"X-Has-Next", "X-Next-Cursor"})
 public class ClubController {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final ClubService clubService;
 
     @PostMapping("/register")
@@ -36,13 +37,29 @@ public class ClubController {
         ));
     }
 
+    /**
+     * 목록 조회: GET /api/clubs?sort=popular&userId=...&size=100&cursor=...
+     * 본문은 기존처럼 배열이고, 다음 페이지 여부/커서는 헤더(X-Has-Next, X-Next-Cursor)로 알려준다.
+     */
     @GetMapping
-    public ResponseEntity<List<Club>> getClubs(
+    public ResponseEntity<?> getClubs(
             @RequestParam(name = "sort", defaultValue = "default") String sort,
-            @RequestParam(name = "userId") String userId
+            @RequestParam(name = "userId") String userId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "100") int size
     ) {
-        List<Club> clubs = clubService.getClubsSorted(sort, userId);
-        return ResponseEntity.ok(clubs);
+        ClubPageDTO page;
+        try {
+            page = clubService.getClubsSorted(sort, userId, cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("잘못된 커서입니다.");
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header("X-Has-Next", String.valueOf(page.isHasNext()));  // ✅ 다음 페이지 여부
+        if (page.getNextCursor() != null) {
+            response.header("X-Next-Cursor", page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     @GetMapping("/open")
@@ -0,0 +1,39 @@
+package com.example.gagso.Clubs.controller;
+
+import com.example.gagso.Clubs.service.ClubService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동호회 랭킹 캐시 수동 재구성 (운영용): POST /actuator/clubrankings
+ *
+ * 전체 PUBLIC/GROUP 동호회를 다시 읽으므로 일반 API 가 아니라 actuator 엔드포인트로만 연다.
+ * 기본 노출 목록에는 없어서, 쓰려면 관리 포트(management.server.port)를 내부망으로 분리한 뒤
+ * management.endpoints.web.exposure.include 에 추가한다.
+ * 재구성 중에 온 요청은 기다리지 않고 바로 돌려보낸다.
+ */
+@Component
+@Endpoint(id = "clubrankings")
+@RequiredArgsConstructor
+public class ClubRankingEndpoint {
+
+    private final ClubService clubService;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    @WriteOperation
+    public String rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return "이미 동호회 랭킹을 다시 만드는 중입니다.";
+        }
+        try {
+            clubService.rebuildRankings();
+            return "동호회 랭킹을 다시 만들었습니다.";
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+}
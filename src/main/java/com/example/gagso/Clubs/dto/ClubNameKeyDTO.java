@@ -0,0 +1,18 @@
+package com.example.gagso.Clubs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 중복 검사 필터 재구성용 projection (이름 + 개설자)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClubNameKeyDTO {
+    private String name;
+    private String creatorName;
+}
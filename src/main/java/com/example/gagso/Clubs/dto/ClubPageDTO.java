@@ -0,0 +1,19 @@
+package com.example.gagso.Clubs.dto;
+
+import com.example.gagso.Clubs.models.Club;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClubPageDTO {
+    private List<Club> items;
+    private String nextCursor;  // 다음 페이지 요청 시 cursor 로 전달, 마지막 페이지면 null
+    private boolean hasNext;
+}
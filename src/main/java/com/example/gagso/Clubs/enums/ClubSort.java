@@ -0,0 +1,16 @@
+package com.example.gagso.Clubs.enums;
+
+/** 동호회 목록 정렬 (모두 clubId 로 동률을 끊어서 keyset 페이지가 흔들리지 않음) */
+public enum ClubSort {
+    POPULAR,    // 회원 수 내림차순, 같으면 clubId 내림차순
+    NEWEST,     // 개설일 내림차순, 같으면 clubId 내림차순
+    DEFAULT;    // clubId 오름차순
+
+    public static ClubSort from(String value) {
+        return switch (value == null ? "" : value) {
+            case "popular" -> POPULAR;
+            case "newest" -> NEWEST;
+            default -> DEFAULT;
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.gagso.Clubs.event;
+
+import com.example.gagso.Clubs.models.Club;
+
+/**
+ * 동호회 등록 이벤트 (구독 측은 커밋 이후에만 반영)
+ */
+public record ClubRegisteredEvent(Club club) {
+}
@@ -0,0 +1,51 @@
+package com.example.gagso.Clubs.helper;
+
+import com.example.gagso.Clubs.models.Club;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 동호회 목록 keyset 커서 (이전 페이지 마지막 동호회의 정렬 키)
+ * 정렬마다 쓰는 값만 다르고 커서 모양은 같다. 클라이언트에는 base64url 문자열로만 노출한다.
+ */
+public record ClubCursor(int memberCount, LocalDateTime createDate, UUID clubId) {
+
+    public static ClubCursor of(Club club) {
+        return new ClubCursor(club.getMemberCount(), club.getCreateDate(), club.getClubId());
+    }
+
+    public String encode() {
+        String raw = memberCount + "|" + createDate + "|" + clubId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ClubCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new ClubCursor(
+                    Integer.parseInt(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    UUID.fromString(parts[2]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    /** 정렬 비교용 (정렬 키만 채운 Club) */
+    public Club toProbe() {
+        Club probe = new Club();
+        probe.setMemberCount(memberCount);
+        probe.setCreateDate(createDate);
+        probe.setClubId(clubId);
+        return probe;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.gagso.Clubs.helper;
+
+import com.example.gagso.Clubs.dto.ClubNameKeyDTO;
+import com.example.gagso.Clubs.event.ClubRegisteredEvent;
+import com.example.gagso.Clubs.repository.ClubRepository;
+import com.example.gagso.common.bloom.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * (동호회 이름, 개설자) 중복 사전 검사용 Bloom filter
+ *
+ * "없음" 이면 DB 조회 없이 바로 등록하고, "있을 수 있음" 일 때만 exists 쿼리로 확인한다.
+ * 최종 판단은 DB 유니크 제약(uk_club_name_creator) 이라 필터가 늦게 반영되어도 중복이 들어가지는 않는다.
+ * DB 정렬 규칙처럼 대소문자/앞뒤 공백은 구분하지 않는다.
+ */
+@Slf4j
+@Component
+public class ClubNameFilter {
+
+    private final ClubRepository clubRepository;
+    private final long expectedInsertions;
+    private final double fpp;
+
+    private volatile BloomFilter filter;    // null 이면 아직 준비 안 됨 → 항상 DB 확인
+
+    public ClubNameFilter(ClubRepository clubRepository,
+                          @Value("${gagso.club.name-filter.expected-insertions}") long expectedInsertions,
+                          @Value("${gagso.club.name-filter.fpp}") double fpp) {
+        this.clubRepository = clubRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClubRegistered(ClubRegisteredEvent event) {
+        put(event.club().getName(), event.club().getCreatorName());
+    }
+
+    /** 현재 건수의 2배를 예상치로 잡아서 다시 만든다 (예상치를 넘기면 오탐률이 올라가므로) */
+    public synchronized void rebuild() {
+        List<ClubNameKeyDTO> keys = clubRepository.findAllNameKeys();
+        BloomFilter fresh = BloomFilter.create(Math.max(expectedInsertions, keys.size() * 2L), fpp);
+        for (ClubNameKeyDTO key : keys) {
+            fresh.put(key(key.getName(), key.getCreatorName()));
+        }
+        filter = fresh;
+        log.info("동호회 중복 검사 필터 재구성 완료: {}건, {} bits", keys.size(), fresh.bitSize());
+    }
+
+    public void put(String name, String creatorName) {
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(key(name, creatorName));
+        }
+    }
+
+    /** false 면 확실히 없음, true 면 DB 로 확인 필요 */
+    public boolean mightExist(String name, String creatorName) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(key(name, creatorName));
+    }
+
+    private static String key(String name, String creatorName) {
+        return normalize(name) + '\u0000' + normalize(creatorName);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.gagso.Clubs.helper;
+
+import com.example.gagso.Clubs.enums.ClubSort;
+import com.example.gagso.Clubs.models.Club;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * 목록 정렬을 메모리에서 할 때 쓰는 비교 (DB ORDER BY 와 같은 순서)
+ * clubId 는 DB 처럼 바이트 순서(부호 없는 비교)로 비교한다. UUID.compareTo 는 부호 있는 비교라 순서가 다르다.
+ */
+public final class ClubOrder {
+
+    private static final Comparator<UUID> ID_ASC = ClubOrder::compareUnsigned;
+
+    public static final Comparator<Club> POPULAR = Comparator.comparingInt(Club::getMemberCount).reversed()
+            .thenComparing(Club::getClubId, ID_ASC.reversed());
+
+    public static final Comparator<Club> NEWEST = Comparator.comparing(Club::getCreateDate, Comparator.reverseOrder())
+            .thenComparing(Club::getClubId, ID_ASC.reversed());
+
+    public static final Comparator<Club> DEFAULT = Comparator.comparing(Club::getClubId, ID_ASC);
+
+    private ClubOrder() {
+    }
+
+    public static Comparator<Club> of(ClubSort sort) {
+        return switch (sort) {
+            case POPULAR -> POPULAR;
+            case NEWEST -> NEWEST;
+            case DEFAULT -> DEFAULT;
+        };
+    }
+
+    public static int compareUnsigned(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.gagso.Clubs.helper;
+
+import com.example.gagso.Clubs.enums.ClubSort;
+import com.example.gagso.Clubs.enums.Visibility;
+import com.example.gagso.Clubs.event.ClubRegisteredEvent;
+import com.example.gagso.Clubs.models.Club;
+import com.example.gagso.Clubs.repository.ClubRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+
+/**
+ * 동호회 "인기순" / "최신순" 랭킹 메모리 캐시
+ *
+ * PUBLIC 동호회는 정렬 기준별 skip list 에, GROUP 동호회는 개설자별로 들고 있다가
+ * 요청 시 (PUBLIC 정렬 목록) + (본인 GROUP 목록) 을 병합해서 커서 다음부터 N 건만 꺼낸다.
+ * 기동 시 한 번 DB 에서 만들고 이후에는 등록 이벤트로 증분 갱신한다.
+ * 회원 수는 아직 바꾸는 기능이 없어서 이벤트가 없다. DB 를 직접 고친 경우에는 운영용 /actuator/clubrankings 로 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClubRankingCache {
+
+    // DB 정렬과 같은 순서 (clubId 동률은 부호 없는 비교, DB 커서로 이어 읽어도 순서가 맞도록)
+    static final Comparator<Club> POPULAR = ClubOrder.POPULAR;
+    static final Comparator<Club> NEWEST = ClubOrder.NEWEST;
+
+    private final ClubRepository clubRepository;
+    private final Object rebuildLock = new Object();
+
+    private volatile Rankings rankings;   // null 이면 아직 준비 안 됨 / 무효화됨
+    private List<Consumer<Rankings>> pending;   // 재구성 중에 온 변경, this 로 동기화 (null 이면 재구성 중 아님)
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClubRegistered(ClubRegisteredEvent event) {
+        Club club = copyOf(event.club());
+        apply(current -> current.put(club));
+    }
+
+    /**
+     * DB 에서 다시 만든다 (동시에 부르면 차례로 실행)
+     * 읽는 동안 온 변경은 지금 목록에 반영하면서 따로 모아 두었다가 새 목록에도 다시 반영한다.
+     * (put 은 clubId 로 교체하므로 DB 에서 이미 읽은 동호회에 다시 반영해도 중복되지 않음)
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pending = new ArrayList<>();
+            }
+            Rankings fresh = new Rankings();
+            try {
+                for (Club club : clubRepository.findByVisibilityIn(List.of(Visibility.PUBLIC, Visibility.GROUP))) {
+                    fresh.put(copyOf(club));
+                }
+            } catch (RuntimeException | Error e) {
+                synchronized (this) {
+                    pending = null;
+                }
+                throw e;
+            }
+            int replayed;
+            synchronized (this) {
+                replayed = pending.size();
+                pending.forEach(change -> change.accept(fresh));
+                pending = null;
+                rankings = fresh;
+            }
+            log.info("동호회 랭킹 캐시 재구성 완료: {}건 (재구성 중 변경 {}건 반영)", fresh.byId.size(), replayed);
+        }
+    }
+
+    private synchronized void apply(Consumer<Rankings> change) {
+        if (pending != null) {
+            pending.add(change);
+        }
+        Rankings current = rankings;
+        if (current != null) {
+            change.accept(current);
+        }
+    }
+
+    /** 캐시를 비움 (다음 rebuild 전까지는 DB 조회로 대체됨) */
+    public void invalidate() {
+        rankings = null;
+    }
+
+    public boolean isReady() {
+        return rankings != null;
+    }
+
+    /**
+     * 정렬된 목록에서 after 다음부터 limit 건
+     * @param after 이전 페이지의 마지막 커서, 첫 페이지면 null
+     * @return 캐시가 준비되지 않았거나 지원하지 않는 정렬이면 empty
+     */
+    public Optional<List<Club>> top(ClubSort sort, String username, ClubCursor after, int limit) {
+        Rankings current = rankings;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return switch (sort) {
+            case POPULAR -> Optional.of(current.merged(current.popular, POPULAR, username, after, limit));
+            case NEWEST -> Optional.of(current.merged(current.newest, NEWEST, username, after, limit));
+            case DEFAULT -> Optional.empty();
+        };
+    }
+
+    private static Club copyOf(Club source) {
+        Club club = new Club();
+        club.setClubId(source.getClubId());
+        club.setName(source.getName());
+        club.setDescription(source.getDescription());
+        club.setCreateDate(source.getCreateDate());
+        club.setMemberCount(source.getMemberCount());
+        club.setCreatorName(source.getCreatorName());
+        club.setVisibility(source.getVisibility());
+        return club;
+    }
+
+    private static final class Rankings {
+        private final NavigableSet<Club> popular = new ConcurrentSkipListSet<>(POPULAR);
+        private final NavigableSet<Club> newest = new ConcurrentSkipListSet<>(NEWEST);
+        private final Map<String, Set<Club>> groupByCreator = new ConcurrentHashMap<>();
+        private final Map<UUID, Club> byId = new ConcurrentHashMap<>();
+
+        /** 캐시 안의 Club 은 수정하지 않고 항상 새 객체로 교체한다 (정렬 키가 바뀌면 skip list 가 깨지므로) */
+        synchronized void put(Club club) {
+            remove(club.getClubId());
+            if (club.getVisibility() == Visibility.PUBLIC) {
+                popular.add(club);
+                newest.add(club);
+            } else if (club.getVisibility() == Visibility.GROUP) {
+                groupByCreator.computeIfAbsent(club.getCreatorName(), key -> ConcurrentHashMap.newKeySet()).add(club);
+            } else {
+                return;
+            }
+            byId.put(club.getClubId(), club);
+        }
+
+        private void remove(UUID clubId) {
+            Club old = byId.remove(clubId);
+            if (old == null) {
+                return;
+            }
+            popular.remove(old);
+            newest.remove(old);
+            Set<Club> group = groupByCreator.get(old.getCreatorName());
+            if (group != null) {
+                group.remove(old);
+            }
+        }
+
+        /** PUBLIC 정렬 목록과 사용자의 GROUP 목록을 같은 기준으로 병합 (커서 다음부터) */
+        List<Club> merged(NavigableSet<Club> publicSorted, Comparator<Club> order,
+                          String username, ClubCursor after, int limit) {
+            Club probe = after == null ? null : after.toProbe();
+            List<Club> groupSorted = new ArrayList<>();
+            Set<Club> group = username == null ? Set.of() : groupByCreator.getOrDefault(username, Set.of());
+            for (Club club : group) {
+                if (probe == null || order.compare(club, probe) > 0) {
+                    groupSorted.add(club);
+                }
+            }
+            groupSorted.sort(order);
+
+            Iterator<Club> a = (probe == null ? publicSorted : publicSorted.tailSet(probe, false)).iterator();
+            Iterator<Club> b = groupSorted.iterator();
+            Club nextA = a.hasNext() ? a.next() : null;
+            Club nextB = b.hasNext() ? b.next() : null;
+
+            List<Club> result = new ArrayList<>(Math.min(limit, 256));
+            while ((nextA != null || nextB != null) && result.size() < limit) {
+                if (nextB == null || (nextA != null && order.compare(nextA, nextB) <= 0)) {
+                    result.add(nextA);
+                    nextA = a.hasNext() ? a.next() : null;
+                } else {
+                    result.add(nextB);
+                    nextB = b.hasNext() ? b.next() : null;
+                }
+            }
+            return result;
+        }
+    }
+}
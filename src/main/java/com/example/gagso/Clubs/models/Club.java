@@ -1,6 +1,7 @@
 package com.example.gagso.Clubs.models;
 
 import com.example.gagso.Clubs.enums.Visibility;
+import com.example.gagso.common.id.IdGenerators;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -10,20 +11,30 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "club") // ✅ 테이블명도 snake_case로
+@Table(name = "club", indexes = { // ✅ 테이블명도 snake_case로
+        // 목록 조회(keyset) 용 인덱스: PUBLIC 은 정렬별 (visibility, 정렬컬럼, PK) 범위 스캔,
+        // 본인 GROUP 은 (creator_name, visibility) 로 몇 건만 읽는다
+        @Index(name = "idx_club_visibility_member_count", columnList = "visibility, member_count"),
+        @Index(name = "idx_club_visibility_create_date", columnList = "visibility, create_date"),
+        @Index(name = "idx_club_visibility", columnList = "visibility"),
+        @Index(name = "idx_club_creator_visibility", columnList = "creator_name, visibility")
+}, uniqueConstraints = {
+        // 같은 개설자가 같은 이름으로 두 번 만들 수 없음 (동시 등록의 최종 판단)
+        @UniqueConstraint(name = ClubConstraints.UK_NAME_CREATOR, columnNames = {"name", "creator_name"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
 public class Club {
 
     @Id
-    @Column(name = "club_id", length = 36, nullable = false, updatable = false) // ✅ clubId → club_id
-    private String clubId;
+    @Column(name = "club_id", nullable = false, updatable = false) // ✅ clubId → club_id
+    private UUID clubId;
 
     @PrePersist
     public void prePersist() {
         if (this.clubId == null) {
-            this.clubId = UUID.randomUUID().toString();
+            this.clubId = IdGenerators.next();
         }
     }
 
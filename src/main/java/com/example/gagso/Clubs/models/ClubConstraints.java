@@ -0,0 +1,12 @@
+package com.example.gagso.Clubs.models;
+
+/**
+ * club 테이블 제약 이름 (위반 예외에서 어떤 제약인지 구분할 때 사용)
+ */
+public final class ClubConstraints {
+
+    public static final String UK_NAME_CREATOR = "uk_club_name_creator";
+
+    private ClubConstraints() {
+    }
+}
@@ -1,15 +1,31 @@
 package com.example.gagso.Clubs.repository;
 
+import com.example.gagso.Clubs.dto.ClubNameKeyDTO;
+import com.example.gagso.Clubs.enums.Visibility;
 import com.example.gagso.Clubs.models.Club;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
 @Repository
-public interface ClubRepository extends JpaRepository<Club, String> {
+public interface ClubRepository extends JpaRepository<Club, UUID>, ClubRepositoryCustom {
 
     // 기존 메서드 유지 가능
     boolean existsByName(String name);
 
-    // ✅ 중복 체크용 메서드 추가
+    // ✅ 중복 체크용 메서드 추가 (uk_club_name_creator 인덱스 사용)
     boolean existsByNameAndCreatorName(String name, String creatorName);
+
+    // ✅ 중복 검사 필터 재구성용
+    @Query("SELECT new com.example.gagso.Clubs.dto.ClubNameKeyDTO(c.name, c.creatorName) FROM Club c")
+    List<ClubNameKeyDTO> findAllNameKeys();
+
+    // 목록 페이지(keyset) 조회는 ClubRepositoryImpl.findPage
+
+    // ✅ 랭킹 캐시 재구성용
+    List<Club> findByVisibilityIn(Collection<Visibility> visibilities);
 }
@@ -0,0 +1,18 @@
+package com.example.gagso.Clubs.repository;
+
+import com.example.gagso.Clubs.enums.ClubSort;
+import com.example.gagso.Clubs.enums.Visibility;
+import com.example.gagso.Clubs.helper.ClubCursor;
+import com.example.gagso.Clubs.models.Club;
+
+import java.util.List;
+
+public interface ClubRepositoryCustom {
+
+    /**
+     * 공개 범위(와 개설자)가 같은 동호회를 sort 순서로 limit 건 조회
+     * @param creatorName 개설자 조건, 없으면 null
+     * @param after       이전 페이지의 마지막 커서, 첫 페이지면 null
+     */
+    List<Club> findPage(Visibility visibility, String creatorName, ClubSort sort, ClubCursor after, int limit);
+}
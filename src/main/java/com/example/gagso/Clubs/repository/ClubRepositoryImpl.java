@@ -0,0 +1,70 @@
+package com.example.gagso.Clubs.repository;
+
+import com.example.gagso.Clubs.enums.ClubSort;
+import com.example.gagso.Clubs.enums.Visibility;
+import com.example.gagso.Clubs.helper.ClubCursor;
+import com.example.gagso.Clubs.models.Club;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ClubRepositoryCustom 구현 (Spring Data 가 이름 규칙으로 ClubRepository 에 합쳐줌)
+ * 조건이 등호 + keyset 범위뿐이라 Club 의 (visibility, 정렬컬럼) / (creator_name, visibility) 인덱스를
+ * 범위 스캔하고 정렬 없이 limit 건에서 멈춘다. (InnoDB 보조 인덱스 끝에 PK 가 붙어 clubId 동률 순서도 인덱스 순서)
+ */
+public class ClubRepositoryImpl implements ClubRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Club> findPage(Visibility visibility, String creatorName, ClubSort sort, ClubCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Club> query = cb.createQuery(Club.class);
+        Root<Club> club = query.from(Club.class);
+
+        List<Predicate> where = new ArrayList<>();
+        where.add(cb.equal(club.get("visibility"), visibility));
+        if (creatorName != null) {
+            where.add(cb.equal(club.get("creatorName"), creatorName));
+        }
+        if (after != null) {
+            where.add(switch (sort) {
+                // (memberCount, clubId) < (cursor.memberCount, cursor.clubId)
+                case POPULAR -> cb.or(
+                        cb.lessThan(club.<Integer>get("memberCount"), after.memberCount()),
+                        cb.and(
+                                cb.equal(club.get("memberCount"), after.memberCount()),
+                                cb.lessThan(club.<UUID>get("clubId"), after.clubId())));
+                // (createDate, clubId) < (cursor.createDate, cursor.clubId)
+                case NEWEST -> cb.or(
+                        cb.lessThan(club.<LocalDateTime>get("createDate"), after.createDate()),
+                        cb.and(
+                                cb.equal(club.get("createDate"), after.createDate()),
+                                cb.lessThan(club.<UUID>get("clubId"), after.clubId())));
+                case DEFAULT -> cb.greaterThan(club.<UUID>get("clubId"), after.clubId());
+            });
+        }
+
+        query.select(club)
+                .where(where.toArray(new Predicate[0]))
+                .orderBy(switch (sort) {
+                    case POPULAR -> List.of(cb.desc(club.get("memberCount")), cb.desc(club.get("clubId")));
+                    case NEWEST -> List.of(cb.desc(club.get("createDate")), cb.desc(club.get("clubId")));
+                    case DEFAULT -> List.of(cb.asc(club.get("clubId")));
+                });
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -1,35 +1,57 @@
 package com.example.gagso.Clubs.service;
 
+import com.example.gagso.Clubs.dto.ClubPageDTO;
 import com.example.gagso.Clubs.dto.ClubRegisterRequestDTO;
 import com.example.gagso.Clubs.dto.ClubRegistrationResult;
 import com.example.gagso.Clubs.dto.ValidationResult;
+import com.example.gagso.Clubs.enums.ClubSort;
 import com.example.gagso.Clubs.enums.Visibility;
+import com.example.gagso.Clubs.event.ClubRegisteredEvent;
+import com.example.gagso.Clubs.helper.ClubCursor;
+import com.example.gagso.Clubs.helper.ClubNameFilter;
+import com.example.gagso.Clubs.helper.ClubOrder;
+import com.example.gagso.Clubs.helper.ClubRankingCache;
 import com.example.gagso.Clubs.helper.ClubValidator;
 import com.example.gagso.Clubs.models.Club;
+import com.example.gagso.Clubs.models.ClubConstraints;
 import com.example.gagso.Clubs.repository.ClubRepository;
+import com.example.gagso.common.singleflight.SingleFlight;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
 public class ClubService {
 
+    private static final String FLIGHT_CLUB_LIST = "clubs.list";
+
     private final ClubRepository clubRepository;
     private final ClubValidator validator;
+    private final ClubRankingCache rankingCache;
+    private final ClubNameFilter nameFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final SingleFlight singleFlight;
 
-    @Transactional
+    /**
+     * 동호회 등록
+     * 중복 여부는 Bloom filter 가 "있을 수 있음" 이라고 할 때만 DB 로 확인하고,
+     * 동시에 같은 이름으로 등록하는 경우는 DB 유니크 제약 위반으로 걸러서 같은 실패 응답을 준다.
+     */
     public ClubRegistrationResult registerClub(ClubRegisterRequestDTO request) {
         // ✅ 중복 검사
-        if (clubRepository.existsByNameAndCreatorName(
-                request.getName(), request.getCreatorName())) {
-            ValidationResult duplicateValidation = new ValidationResult();
-            duplicateValidation.addError("중복", "같은 이름과 생성자의 동호회가 이미 존재합니다.");
-            return ClubRegistrationResult.failure(toEntity(request), duplicateValidation);
+        if (nameFilter.mightExist(request.getName(), request.getCreatorName())
+                && clubRepository.existsByNameAndCreatorName(request.getName(), request.getCreatorName())) {
+            return ClubRegistrationResult.failure(toEntity(request), duplicateValidation());
         }
 
 
@@ -40,31 +62,99 @@ public class ClubService {
             return ClubRegistrationResult.failure(club, validation);
         }
 
-        clubRepository.save(club);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                clubRepository.saveAndFlush(club);  // 제약 위반을 커밋 전에 여기서 받도록 flush
+                eventPublisher.publishEvent(new ClubRegisteredEvent(club));
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (!isDuplicateNameViolation(e)) {
+                throw e;
+            }
+            return ClubRegistrationResult.failure(club, duplicateValidation());
+        }
         return ClubRegistrationResult.success(club);
     }
 
-    @Transactional(readOnly = true)
-    public List<Club> getClubsSorted(String sort, String username) {
-        List<Club> allClubs = clubRepository.findAll();
-
-        List<Club> filtered = allClubs.stream()
-                .filter(club -> {
-                    if (club.getVisibility() == Visibility.PRIVATE) return false;
-                    if (club.getVisibility() == Visibility.GROUP) return club.getCreatorName().equals(username);
-                    return true; // PUBLIC
-                })
-                .collect(Collectors.toList());
-
-        return switch (sort) {
-            case "popular" -> filtered.stream()
-                    .sorted(Comparator.comparingInt(Club::getMemberCount).reversed())
-                    .collect(Collectors.toList());
-            case "newest" -> filtered.stream()
-                    .sorted(Comparator.comparing(Club::getCreateDate).reversed())
-                    .collect(Collectors.toList());
-            default -> filtered;
-        };
+    private static ValidationResult duplicateValidation() {
+        ValidationResult duplicateValidation = new ValidationResult();
+        duplicateValidation.addError("중복", "같은 이름과 생성자의 동호회가 이미 존재합니다.");
+        return duplicateValidation;
+    }
+
+    private static boolean isDuplicateNameViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(ClubConstraints.UK_NAME_CREATOR)) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 사용자에게 보이는 동호회 목록 (PUBLIC + 본인이 만든 GROUP), keyset 커서 페이지
+     * 인기순/최신순은 메모리 랭킹에서, 나머지(또는 랭킹 준비 전)는 DB 에서 읽는다.
+     * DB 는 "PUBLIC 범위 스캔" 과 "본인 GROUP 범위 스캔" 을 따로 size+1 건씩 읽어 병합한다.
+     * (OR 조건 하나로 묶으면 정렬 인덱스를 못 타서 전체를 읽고 정렬하게 됨)
+     * 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션은 DB 조회에만 걸고,
+     * DB 로 가는 같은 (정렬, 사용자, 커서) 동시 요청은 한 번만 조회한다 (랭킹 재구성 중 몰리는 경우 등)
+     * @throws IllegalArgumentException 커서가 잘못된 경우
+     */
+    public ClubPageDTO getClubsSorted(String sort, String username, String cursor, int size) {
+        ClubSort order = ClubSort.from(sort);
+        ClubCursor after = (cursor == null || cursor.isBlank()) ? null : ClubCursor.decode(cursor);
+
+        List<Club> rows = rankingCache.top(order, username, after, size + 1)
+                .orElseGet(() -> singleFlight.execute(FLIGHT_CLUB_LIST, new ClubListKey(order, username, after, size),
+                        () -> findVisiblePage(order, username, after, size + 1)));
+
+        boolean hasNext = rows.size() > size;
+        List<Club> items = hasNext ? List.copyOf(rows.subList(0, size)) : rows;
+        String nextCursor = hasNext ? ClubCursor.of(items.get(items.size() - 1)).encode() : null;
+        return new ClubPageDTO(items, nextCursor, hasNext);
+    }
+
+    private List<Club> findVisiblePage(ClubSort sort, String username, ClubCursor after, int limit) {
+        return transactionTemplate.execute(status -> {
+            List<Club> publicClubs = clubRepository.findPage(Visibility.PUBLIC, null, sort, after, limit);
+            if (username == null) {
+                return List.copyOf(publicClubs);
+            }
+            List<Club> groupClubs = clubRepository.findPage(Visibility.GROUP, username, sort, after, limit);
+            return merge(publicClubs, groupClubs, ClubOrder.of(sort), limit);
+        });
+    }
+
+    /** 같은 기준으로 정렬된 두 목록을 합쳐 앞에서 limit 건 */
+    private static List<Club> merge(List<Club> a, List<Club> b, Comparator<Club> order, int limit) {
+        List<Club> merged = new ArrayList<>(Math.min(limit, a.size() + b.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < a.size() || j < b.size())) {
+            if (j == b.size() || (i < a.size() && order.compare(a.get(i), b.get(j)) <= 0)) {
+                merged.add(a.get(i++));
+            } else {
+                merged.add(b.get(j++));
+            }
+        }
+        return List.copyOf(merged);
+    }
+
+    private record ClubListKey(ClubSort sort, String username, ClubCursor after, int size) {
+    }
+
+    // 새 동호회가 보이도록 합쳐 둔 목록 결과를 버린다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClubRegistered(ClubRegisteredEvent event) {
+        singleFlight.forget(FLIGHT_CLUB_LIST);
+    }
+
+    public void rebuildRankings() {
+        rankingCache.rebuild();
     }
 
     private Club toEntity(ClubRegisterRequestDTO dto) {
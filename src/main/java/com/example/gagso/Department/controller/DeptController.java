@@ -1,23 +1,45 @@
 package com.example.gagso.Department.controller;
 
-import com.example.gagso.Department.dto.DeptInfoDTO;
-import com.example.gagso.Department.service.DepartmentInfoProvider;
+import com.example.gagso.Department.dto.DeptDirectorySnapshot;
+import com.example.gagso.Department.service.CachedDepartmentInfoProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/departments")
 @RequiredArgsConstructor
 public class DeptController {
 
-    private final DepartmentInfoProvider departmentProvider;
+    private final CachedDepartmentInfoProvider departmentProvider;
 
+    /**
+     * 부서 목록 (미리 직렬화된 JSON)
+     * 클라이언트는 매번 If-None-Match 로 재검증하고, 바뀌지 않았으면 304 를 받는다.
+     */
     @GetMapping
-    public List<DeptInfoDTO> getDepartments() {
-        return departmentProvider.getDeptInfo();
+    public ResponseEntity<byte[]> getDepartments(WebRequest request) {
+        DeptDirectorySnapshot snapshot = departmentProvider.getSnapshot();
+        if (request.checkNotModified(snapshot.etag())) {
+            return null;    // 304 Not Modified
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(snapshot.json());
+    }
+
+    // 부서 캐시 수동 비우기 (DB 에서 부서를 직접 고친 경우, 평소에는 TTL 이 지나면 다시 읽음)
+    @PostMapping("/cache/invalidate")
+    public ResponseEntity<String> invalidateCache() {
+        departmentProvider.invalidate();
+        return ResponseEntity.ok("부서 목록 캐시를 비웠습니다.");
     }
-}
\ No newline at end of file
+}
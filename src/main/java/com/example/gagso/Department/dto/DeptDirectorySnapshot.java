@@ -0,0 +1,12 @@
+package com.example.gagso.Department.dto;
+
+import java.util.List;
+
+/**
+ * 캐시된 부서 목록
+ * @param json 미리 직렬화해 둔 응답 본문
+ * @param etag 응답 본문 해시 (따옴표 포함)
+ * @param loadedAtMillis 로딩 시각 (TTL 계산용)
+ */
+public record DeptDirectorySnapshot(List<DeptInfoDTO> departments, byte[] json, String etag, long loadedAtMillis) {
+}
@@ -0,0 +1,97 @@
+package com.example.gagso.Department.service;
+
+import com.example.gagso.Department.dto.DeptDirectorySnapshot;
+import com.example.gagso.Department.dto.DeptInfoDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * DepartmentInfoProvider 캐시 데코레이터
+ *
+ * 부서 목록은 거의 바뀌지 않으므로 TTL 동안 메모리에 들고 있고,
+ * JSON 본문과 ETag 까지 미리 만들어 두어 요청마다 DB 조회/직렬화를 하지 않는다.
+ * 부서는 이 앱에서 바꾸는 기능이 없고 DB 에서 직접 관리하므로, 바뀐 내용은 최대 TTL(gagso.department.cache.ttl-seconds) 뒤에 보인다.
+ * 바로 반영해야 하면 /api/departments/cache/invalidate 로 비운다.
+ */
+@Slf4j
+@Primary
+@Service
+public class CachedDepartmentInfoProvider implements DepartmentInfoProvider {
+
+    private final DepartmentInfoProviderImpl delegate;
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private volatile DeptDirectorySnapshot snapshot;
+
+    public CachedDepartmentInfoProvider(DepartmentInfoProviderImpl delegate,
+                                        ObjectMapper objectMapper,
+                                        @Value("${gagso.department.cache.ttl-seconds}") long ttlSeconds,
+                                        @Value("${gagso.department.cache.max-entries}") int maxEntries) {
+        this.delegate = delegate;
+        this.objectMapper = objectMapper;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public List<DeptInfoDTO> getDeptInfo() {
+        return getSnapshot().departments();
+    }
+
+    /** 캐시된 목록 (만료/무효화됐으면 다시 로딩) */
+    public DeptDirectorySnapshot getSnapshot() {
+        DeptDirectorySnapshot current = snapshot;
+        if (current != null && !isExpired(current)) {
+            return current;
+        }
+        return reload();
+    }
+
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    private synchronized DeptDirectorySnapshot reload() {
+        // 기다리는 동안 다른 스레드가 이미 로딩했으면 그대로 사용
+        DeptDirectorySnapshot current = snapshot;
+        if (current != null && !isExpired(current)) {
+            return current;
+        }
+
+        List<DeptInfoDTO> departments = List.copyOf(delegate.getDeptInfo());
+        DeptDirectorySnapshot loaded = build(departments);
+        if (departments.size() <= maxEntries) {
+            snapshot = loaded;
+        } else {
+            // 예상보다 큰 경우 메모리에 들고 있지 않음
+            log.warn("부서 수 {}건이 캐시 한도 {}건을 넘어 캐시하지 않습니다.", departments.size(), maxEntries);
+        }
+        return loaded;
+    }
+
+    private DeptDirectorySnapshot build(List<DeptInfoDTO> departments) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(departments);
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            String etag = "\"" + HexFormat.of().formatHex(hash, 0, 16) + "\"";
+            return new DeptDirectorySnapshot(departments, json, etag, System.currentTimeMillis());
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("부서 목록 직렬화 실패", e);
+        }
+    }
+
+    private boolean isExpired(DeptDirectorySnapshot current) {
+        return System.currentTimeMillis() - current.loadedAtMillis() > ttlMillis;
+    }
+}
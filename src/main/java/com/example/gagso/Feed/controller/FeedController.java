@@ -0,0 +1,50 @@
+package com.example.gagso.Feed.controller;
+
+import com.example.gagso.Feed.model.FeedMessage;
+import com.example.gagso.Feed.service.FeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/feed")
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final FeedService feedService;
+
+    /**
+     * 변경 피드 구독: GET /api/feed?topics=task,club
+     * event 이름이 topic(task / club), data 는 새 항목 JSON.
+     * 일괄 등록은 건별이 아니라 청크마다 task-refresh 이벤트({"count": n}) 하나로 온다.
+     * 인증이 없으므로 누구에게나 보여도 되는 메시지(신규 업무, PUBLIC 동호회)만 온다.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @RequestParam(value = "topics", defaultValue = "task,club") String topics,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        Set<String> selected = Arrays.stream(topics.split(","))
+                .map(String::trim)
+                .filter(FeedMessage.ALL_TOPICS::contains)
+                .collect(Collectors.toUnmodifiableSet());
+        if (selected.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "구독할 topic 이 없습니다.");
+        }
+        try {
+            return feedService.subscribe(selected, lastEventId);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.gagso.Feed.model;
+
+import java.util.Set;
+
+/**
+ * 구독자에게 보낼 메시지 (JSON 은 발행 시 한 번만 직렬화)
+ * 인증이 없어 구독자가 누구인지 믿을 수 없으므로 모두 topic 구독자 전원에게 가는 메시지다.
+ * @param event SSE event 이름 (보통 topic 과 같고, 일괄 등록 알림은 task-refresh)
+ */
+public record FeedMessage(long id, String topic, String event, String json) {
+
+    public static final String TOPIC_TASK = "task";
+    public static final String TOPIC_CLUB = "club";
+
+    /** 일괄 등록 청크마다 한 번: data 는 {"count": n}, 클라이언트는 목록 끝을 다시 읽는다 */
+    public static final String EVENT_TASK_REFRESH = "task-refresh";
+
+    public static final Set<String> ALL_TOPICS = Set.of(TOPIC_TASK, TOPIC_CLUB);
+
+    /** 연결 유지용 주석 (id 없음, 재전송 대상 아님) */
+    public static final FeedMessage HEARTBEAT = new FeedMessage(0, null, null, null);
+}
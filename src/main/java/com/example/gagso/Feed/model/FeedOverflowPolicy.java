@@ -0,0 +1,10 @@
+package com.example.gagso.Feed.model;
+
+/**
+ * 구독자 버퍼가 가득 찼을 때 처리 방식
+ */
+public enum FeedOverflowPolicy {
+    DROP_OLDEST,    // 가장 오래된 메시지를 버리고 새 메시지를 넣음
+    DROP_NEWEST,    // 새 메시지를 버림
+    DISCONNECT      // 연결을 끊음 (클라이언트는 Last-Event-ID 로 재접속해서 이어받음)
+}
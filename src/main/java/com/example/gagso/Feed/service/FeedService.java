@@ -0,0 +1,306 @@
+package com.example.gagso.Feed.service;
+
+import com.example.gagso.Clubs.enums.Visibility;
+import com.example.gagso.Clubs.event.ClubRegisteredEvent;
+import com.example.gagso.Clubs.models.Club;
+import com.example.gagso.Feed.model.FeedMessage;
+import com.example.gagso.Feed.model.FeedOverflowPolicy;
+import com.example.gagso.WorkRoom.dto.TaskListItemDTO;
+import com.example.gagso.WorkRoom.event.TaskRegisteredEvent;
+import com.example.gagso.WorkRoom.event.TasksImportedEvent;
+import com.example.gagso.WorkRoom.models.Task;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 신규 업무/동호회를 SSE 로 밀어주는 피드
+ *
+ * 대기 중인 연결은 서블릿 비동기 모드라 스레드를 잡지 않는다.
+ * 발행 시 JSON 은 한 번만 만들고 구독자별 bounded 버퍼에 넣기만 하며(논블로킹),
+ * 실제 전송은 구독자마다 가상 스레드 하나가 버퍼를 비우는 식이라 느린 클라이언트가 다른 구독자를 막지 않는다.
+ * 최근 replay-size 건은 보관해서 재접속 시 Last-Event-ID 이후 메시지를 이어서 보낸다.
+ */
+@Slf4j
+@Service
+public class FeedService implements SmartLifecycle {
+
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final int replaySize;
+    private final long timeoutMillis;
+    private final long heartbeatSeconds;
+    private final FeedOverflowPolicy overflowPolicy;
+
+    private final Set<FeedSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<FeedMessage> history = new ArrayDeque<>();    // history 로 동기화
+    private long lastId;
+
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("feed-sender-", 0).factory());
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "feed-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+
+    public FeedService(ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry,
+                       @Value("${gagso.feed.buffer-size}") int bufferSize,
+                       @Value("${gagso.feed.max-subscribers}") int maxSubscribers,
+                       @Value("${gagso.feed.replay-size}") int replaySize,
+                       @Value("${gagso.feed.timeout-minutes}") long timeoutMinutes,
+                       @Value("${gagso.feed.heartbeat-seconds}") long heartbeatSeconds,
+                       @Value("${gagso.feed.overflow-policy}") FeedOverflowPolicy overflowPolicy) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.replaySize = replaySize;
+        this.timeoutMillis = TimeUnit.MINUTES.toMillis(timeoutMinutes);
+        this.heartbeatSeconds = heartbeatSeconds;
+        this.overflowPolicy = overflowPolicy;
+
+        Gauge.builder("gagso.feed.subscribers", subscribers, Set::size)
+                .description("SSE 피드 구독자 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("gagso.feed.dropped")
+                .description("구독자 버퍼가 가득 차서 버린 메시지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 구독 등록
+     * @param lastEventId 재접속 시 브라우저가 보내는 Last-Event-ID (없으면 null)
+     * @throws IllegalStateException 구독자 수 한도를 넘었을 때
+     */
+    public SseEmitter subscribe(Set<String> topics, String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("피드 구독자가 너무 많습니다.");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        FeedSubscriber subscriber = new FeedSubscriber(emitter, topics, bufferSize);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+
+        long after = parseLastEventId(lastEventId);
+        synchronized (history) {
+            // 발행과 같은 잠금 안에서 replay 후 등록해야 순서가 뒤섞이거나 빠지지 않는다
+            if (after >= 0) {
+                for (FeedMessage message : history) {
+                    if (message.id() > after && subscriber.accepts(message)) {
+                        offer(subscriber, message);
+                    }
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskRegistered(TaskRegisteredEvent event) {
+        if (event.imported()) {
+            return;     // 일괄 등록은 청크마다 onTasksImported 에서 한 번만
+        }
+        Task task = event.task();
+        publish(FeedMessage.TOPIC_TASK, new TaskListItemDTO(task.getTaskId(), task.getTitle(),
+                task.getStartDate(), task.getEndDate(), task.getManagerName()));
+    }
+
+    /** 일괄 등록은 행마다 보내면 청크 크기만큼 푸시가 몰리므로 '몇 건 추가됨' 하나로 합친다 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksImported(TasksImportedEvent event) {
+        publish(FeedMessage.TOPIC_TASK, FeedMessage.EVENT_TASK_REFRESH, Map.of("count", event.count()));
+    }
+
+    /**
+     * PUBLIC 동호회만 보낸다. 구독자가 누구인지 확인할 수 없어 GROUP / PRIVATE 는 목록 조회(ClubService.getClubsSorted)로만 보인다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onClubRegistered(ClubRegisteredEvent event) {
+        Club club = event.club();
+        if (club.getVisibility() == Visibility.PUBLIC) {
+            publish(FeedMessage.TOPIC_CLUB, club);
+        }
+    }
+
+    void publish(String topic, Object payload) {
+        publish(topic, topic, payload);
+    }
+
+    void publish(String topic, String eventName, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("피드 메시지 직렬화 실패: {}", topic, e);
+            return;
+        }
+        synchronized (history) {
+            FeedMessage message = new FeedMessage(++lastId, topic, eventName, json);
+            history.addLast(message);
+            if (history.size() > replaySize) {
+                history.removeFirst();
+            }
+            for (FeedSubscriber subscriber : subscribers) {
+                if (subscriber.accepts(message)) {
+                    deliver(subscriber, message);
+                }
+            }
+        }
+    }
+
+    private void deliver(FeedSubscriber subscriber, FeedMessage message) {
+        if (offer(subscriber, message)) {
+            schedule(subscriber);
+        }
+    }
+
+    /** @return 버퍼에 넣었으면 true */
+    private boolean offer(FeedSubscriber subscriber, FeedMessage message) {
+        if (subscriber.buffer.offer(message)) {
+            return true;
+        }
+        if (message == FeedMessage.HEARTBEAT) {
+            return false;   // 보낼 게 쌓여 있으면 heartbeat 는 필요 없음
+        }
+        return switch (overflowPolicy) {
+            case DROP_OLDEST -> {
+                while (!subscriber.buffer.offer(message)) {
+                    if (subscriber.buffer.poll() != null) {
+                        droppedCounter.increment();
+                    }
+                }
+                yield true;
+            }
+            case DROP_NEWEST -> {
+                droppedCounter.increment();
+                yield false;
+            }
+            case DISCONNECT -> {
+                droppedCounter.increment();
+                close(subscriber);
+                yield false;
+            }
+        };
+    }
+
+    /** 버퍼를 비우는 작업이 없으면 하나 띄운다 */
+    private void schedule(FeedSubscriber subscriber) {
+        if (!subscriber.closed && !subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(FeedSubscriber subscriber) {
+        try {
+            FeedMessage message;
+            while (!subscriber.closed && (message = subscriber.buffer.poll()) != null) {
+                send(subscriber.emitter, message);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 완료된 emitter
+            close(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+        }
+        schedule(subscriber);   // 비우는 사이에 새로 들어온 메시지
+    }
+
+    private static void send(SseEmitter emitter, FeedMessage message) throws IOException {
+        if (message == FeedMessage.HEARTBEAT) {
+            emitter.send(SseEmitter.event().comment("ping"));
+            return;
+        }
+        emitter.send(SseEmitter.event()
+                .id(Long.toString(message.id()))
+                .name(message.event())
+                .data(message.json(), MediaType.APPLICATION_JSON));
+    }
+
+    private void close(FeedSubscriber subscriber) {
+        if (!subscriber.closed) {
+            subscriber.closed = true;
+            remove(subscriber);
+            subscriber.buffer.clear();
+            try {
+                subscriber.emitter.complete();
+            } catch (RuntimeException ignored) {
+                // 이미 끊긴 연결
+            }
+        }
+    }
+
+    private void remove(FeedSubscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.remove(subscriber);
+    }
+
+    private void sendHeartbeats() {
+        for (FeedSubscriber subscriber : subscribers) {
+            deliver(subscriber, FeedMessage.HEARTBEAT);
+        }
+    }
+
+    private static long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void start() {
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        heartbeat.shutdownNow();
+        for (FeedSubscriber subscriber : subscribers) {
+            close(subscriber);
+        }
+        sender.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.gagso.Feed.service;
+
+import com.example.gagso.Feed.model.FeedMessage;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 구독자 한 명: 전용 bounded 버퍼 + 전송 중 여부
+ * 버퍼를 비우는 작업은 한 번에 하나만 돌도록 draining 으로 막는다.
+ */
+class FeedSubscriber {
+
+    final SseEmitter emitter;
+    final Set<String> topics;
+    final BlockingQueue<FeedMessage> buffer;
+    final AtomicBoolean draining = new AtomicBoolean();
+    volatile boolean closed;
+
+    FeedSubscriber(SseEmitter emitter, Set<String> topics, int bufferSize) {
+        this.emitter = emitter;
+        this.topics = topics;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    boolean accepts(FeedMessage message) {
+        return message == FeedMessage.HEARTBEAT || topics.contains(message.topic());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.gagso.Log.controller;
+
+import com.example.gagso.Log.dto.LogSearchCondition;
+import com.example.gagso.Log.model.ActionType;
+import com.example.gagso.Log.model.ActivityDimension;
+import com.example.gagso.Log.model.ActivityGranularity;
+import com.example.gagso.Log.service.ActivityDashboardService;
+import com.example.gagso.Log.service.LogQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/logs")
+@RequiredArgsConstructor
+public class LogController {
+
+    private final LogQueryService logQueryService;
+    private final ActivityDashboardService activityDashboardService;
+
+    @GetMapping
+    public ResponseEntity<?> searchLogs(
+            @RequestParam(required = false) String targetType,
+            @RequestParam(required = false) String actorId,
+            @RequestParam(required = false) ActionType actionType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + LogQueryService.DEFAULT_PAGE_SIZE) int size) {
+
+        LogSearchCondition condition = new LogSearchCondition(targetType, actorId, actionType, from, to);
+        try {
+            return ResponseEntity.ok(logQueryService.search(condition, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 활동 추이 (구간별 건수) - 원본 로그가 아니라 시간별/일별 집계를 읽음
+    @GetMapping("/activity/series")
+    public ResponseEntity<?> activitySeries(
+            @RequestParam(required = false) String targetType,
+            @RequestParam(required = false) String actorId,
+            @RequestParam(required = false) ActionType actionType,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "HOUR") ActivityGranularity granularity) {
+
+        LogSearchCondition condition = new LogSearchCondition(targetType, actorId, actionType, from, to);
+        try {
+            return ResponseEntity.ok(activityDashboardService.series(granularity, condition));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 행위자 / 대상 타입 / 행위별 활동 상위 목록
+    @GetMapping("/activity/top")
+    public ResponseEntity<?> activityTop(
+            @RequestParam(required = false) String targetType,
+            @RequestParam(required = false) String actorId,
+            @RequestParam(required = false) ActionType actionType,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "ACTOR") ActivityDimension by,
+            @RequestParam(defaultValue = "DAY") ActivityGranularity granularity,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        LogSearchCondition condition = new LogSearchCondition(targetType, actorId, actionType, from, to);
+        try {
+            return ResponseEntity.ok(activityDashboardService.top(granularity, condition, by, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.gagso.Log.controller;
+
+import com.example.gagso.Log.retention.LogPartitionManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 감사 로그 파티션 정리 수동 실행 (운영용): POST /actuator/logretention
+ *
+ * 보존 기간 지난 파티션 보관/삭제를 정리 스레드에 바로 한 번 맡긴다. (평소에는 interval-minutes 마다 자동)
+ * 요청 스레드에서 기다리지 않고, 최초 파티션 재구성(테이블 전체 ALTER)은 자동 주기에서만 한다.
+ * 기본 노출 목록에는 없어서, 쓰려면 관리 포트를 내부망으로 분리한 뒤 exposure.include 에 추가한다.
+ */
+@Component
+@Endpoint(id = "logretention")
+@RequiredArgsConstructor
+public class LogRetentionEndpoint {
+
+    private final LogPartitionManager partitionManager;
+
+    @WriteOperation
+    public String run() {
+        if (!partitionManager.isEnabled()) {
+            return "감사 로그 파티션 관리가 꺼져 있습니다.";
+        }
+        if (!partitionManager.requestMaintain()) {
+            return "이미 대기 중인 정리 작업이 있습니다.";
+        }
+        return "감사 로그 파티션 정리를 시작했습니다.";
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.gagso.Log.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/** 활동 추이 한 칸 (구간 시작, 건수) */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityBucketDTO {
+    private LocalDateTime bucketStart;
+    private long count;
+}
@@ -0,0 +1,16 @@
+package com.example.gagso.Log.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** 기준(행위자 / 대상 타입 / 행위)별 활동 건수 */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityCountDTO {
+    private String key;
+    private long count;
+}
@@ -0,0 +1,23 @@
+package com.example.gagso.Log.dto;
+
+import com.example.gagso.Log.model.ActionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogListItemDTO {
+    private UUID logId;
+    private String actorId;
+    private ActionType actionType;
+    private String targetType;
+    private String targetId;
+    private LocalDateTime timeStamp;
+}
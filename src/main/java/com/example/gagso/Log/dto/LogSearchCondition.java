@@ -0,0 +1,25 @@
+package com.example.gagso.Log.dto;
+
+import com.example.gagso.Log.model.ActionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogSearchCondition {
+    private String targetType;      // null 이면 전체
+    private String actorId;         // null 이면 전체
+    private ActionType actionType;  // null 이면 전체
+    private LocalDateTime from;     // 포함 (>=)
+    private LocalDateTime to;       // 미포함 (<)
+
+    public static LogSearchCondition ofTargetType(String targetType) {
+        return new LogSearchCondition(targetType, null, null, null, null);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.gagso.Log.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 감사 로그 keyset 커서 (timeStamp, log_id)
+ * 클라이언트에는 base64url 문자열로만 노출한다.
+ */
+public record LogCursor(LocalDateTime timeStamp, UUID id) {
+
+    public String encode() {
+        String raw = timeStamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static LogCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            if (sep < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new LogCursor(
+                    LocalDateTime.parse(raw.substring(0, sep)),
+                    UUID.fromString(raw.substring(sep + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.gagso.Log.model;
+
+/** 활동 건수 묶음 기준 */
+public enum ActivityDimension {
+    ACTOR("actorId"),
+    TARGET_TYPE("targetType"),
+    ACTION("actionType");
+
+    private final String attribute;    // ActivityRollupKey 필드명
+
+    ActivityDimension(String attribute) {
+        this.attribute = attribute;
+    }
+
+    public String attribute() {
+        return attribute;
+    }
+}
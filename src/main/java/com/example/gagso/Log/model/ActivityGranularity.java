@@ -0,0 +1,18 @@
+package com.example.gagso.Log.model;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/** 활동 집계 단위 */
+public enum ActivityGranularity {
+    HOUR,
+    DAY;
+
+    /** 시각이 속한 집계 구간의 시작 */
+    public LocalDateTime bucketOf(LocalDateTime time) {
+        return switch (this) {
+            case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+        };
+    }
+}
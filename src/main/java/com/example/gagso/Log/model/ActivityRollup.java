@@ -0,0 +1,29 @@
+package com.example.gagso.Log.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 감사 로그 활동 집계 (시간별 / 일별)
+ * (단위, 구간 시작, 대상 타입, 행위, 행위자) 하나당 한 행이고, 갱신은 ActivityRollupBatchWriter 의 upsert 로만 한다.
+ */
+@Entity
+@Table(name = "ActivityRollup", indexes = {
+        // 대시보드 조회: granularity = ? AND bucket_start 범위
+        @Index(name = "idx_rollup_bucket", columnList = "granularity, bucket_start"),
+        // 행위자별 조회: granularity = ? AND actor_id = ? AND bucket_start 범위
+        @Index(name = "idx_rollup_actor_bucket", columnList = "granularity, actor_id, bucket_start")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ActivityRollup {
+
+    @EmbeddedId
+    private ActivityRollupKey id;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+}
@@ -0,0 +1,38 @@
+package com.example.gagso.Log.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ActivityRollupKey implements Serializable {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", length = 8, nullable = false)
+    private ActivityGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "target_type", length = 20, nullable = false)
+    private String targetType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "action_type", length = 50, nullable = false)
+    private ActionType actionType;
+
+    @Column(name = "actor_id", length = 20, nullable = false)
+    private String actorId;
+}
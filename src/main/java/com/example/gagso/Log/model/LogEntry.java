@@ -1,5 +1,6 @@
 package com.example.gagso.Log.model;
 
+import com.example.gagso.common.id.IdGenerators;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,20 +10,26 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "LogEntry")
+@Table(name = "LogEntry", indexes = {
+        // keyset 페이지 조회 (time_stamp, log_id) 순서와 맞춘 인덱스
+        @Index(name = "idx_log_time", columnList = "time_stamp, log_id"),
+        @Index(name = "idx_log_target_time", columnList = "target_type, time_stamp, log_id"),
+        @Index(name = "idx_log_actor_time", columnList = "actor_id, time_stamp, log_id"),
+        @Index(name = "idx_log_action_time", columnList = "action_type, time_stamp, log_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 public class LogEntry {
 
     @Id
-    @Column(name = "log_id", length = 36, nullable = false, updatable = false)
+    @Column(name = "log_id", nullable = false, updatable = false) // CHAR(36) / BINARY(16) 는 gagso.id.storage 로 결정
     private UUID id;
 
     @PrePersist
     public void prePersist() {
         if (this.id == null) {
-            this.id = UUID.randomUUID();
+            this.id = IdGenerators.next();
         }
         if (this.timeStamp == null) {
             this.timeStamp = LocalDateTime.now();
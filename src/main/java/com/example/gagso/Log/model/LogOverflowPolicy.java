@@ -0,0 +1,7 @@
+package com.example.gagso.Log.model;
+
+public enum LogOverflowPolicy {
+    BLOCK,  // 큐에 자리가 날 때까지 대기
+    DROP,   // 버리고 카운트만 증가
+    SYNC    // 호출 스레드에서 바로 저장
+}
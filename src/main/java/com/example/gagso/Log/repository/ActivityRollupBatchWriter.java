@@ -0,0 +1,42 @@
+package com.example.gagso.Log.repository;
+
+import com.example.gagso.Log.model.ActivityRollupKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ActivityRollupBatchWriter {
+
+    // ActivityRollup 엔티티 테이블 (Spring 기본 명명 전략으로 ActivityRollup → activity_rollup)
+    private static final String UPSERT = "INSERT INTO activity_rollup"
+            + " (granularity, bucket_start, target_type, action_type, actor_id, event_count)"
+            + " VALUES (?, ?, ?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE event_count = event_count + VALUES(event_count)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 집계 건수를 기존 값에 더한다. (없으면 INSERT)
+     * 한 번의 JDBC 배치로 보내므로 행 수와 관계없이 왕복은 배치 크기 단위로만 생긴다.
+     */
+    @Transactional
+    public void upsertAll(Map<ActivityRollupKey, Long> counts) {
+        List<Object[]> args = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> args.add(new Object[]{
+                key.getGranularity().name(),
+                Timestamp.valueOf(key.getBucketStart()),
+                key.getTargetType(),
+                key.getActionType().name(),
+                key.getActorId(),
+                count}));
+        jdbcTemplate.batchUpdate(UPSERT, args);
+    }
+}
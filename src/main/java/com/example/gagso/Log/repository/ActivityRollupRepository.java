@@ -0,0 +1,12 @@
+package com.example.gagso.Log.repository;
+
+import com.example.gagso.Log.model.ActivityRollup;
+import com.example.gagso.Log.model.ActivityRollupKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ActivityRollupRepository extends JpaRepository<ActivityRollup, ActivityRollupKey>,
+        ActivityRollupRepositoryCustom {
+    // 갱신은 ActivityRollupBatchWriter.upsertAll, 조회는 series / countBy 사용
+}
@@ -0,0 +1,22 @@
+package com.example.gagso.Log.repository;
+
+import com.example.gagso.Log.dto.ActivityBucketDTO;
+import com.example.gagso.Log.dto.ActivityCountDTO;
+import com.example.gagso.Log.dto.LogSearchCondition;
+import com.example.gagso.Log.model.ActivityDimension;
+import com.example.gagso.Log.model.ActivityGranularity;
+
+import java.util.List;
+
+public interface ActivityRollupRepositoryCustom {
+
+    /**
+     * 구간별 활동 건수 (구간 시작 오름차순)
+     * condition 의 from / to 는 구간 시작 시각 기준 (from 이상, to 미만)
+     */
+    List<ActivityBucketDTO> series(ActivityGranularity granularity, LogSearchCondition condition);
+
+    /** 기준별 활동 건수 (정렬 없음) */
+    List<ActivityCountDTO> countBy(ActivityGranularity granularity, LogSearchCondition condition,
+                                   ActivityDimension dimension);
+}
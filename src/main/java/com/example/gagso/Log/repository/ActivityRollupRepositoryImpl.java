@@ -0,0 +1,92 @@
+package com.example.gagso.Log.repository;
+
+import com.example.gagso.Log.dto.ActivityBucketDTO;
+import com.example.gagso.Log.dto.ActivityCountDTO;
+import com.example.gagso.Log.dto.LogSearchCondition;
+import com.example.gagso.Log.model.ActivityDimension;
+import com.example.gagso.Log.model.ActivityGranularity;
+import com.example.gagso.Log.model.ActivityRollup;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ActivityRollupRepositoryCustom 구현
+ * 집계 테이블 행 수는 (구간 수 x 키 조합 수) 라서 원본 로그 건수와 무관하게 조회 비용이 정해진다.
+ */
+public class ActivityRollupRepositoryImpl implements ActivityRollupRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ActivityBucketDTO> series(ActivityGranularity granularity, LogSearchCondition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ActivityRollup> rollup = query.from(ActivityRollup.class);
+        Path<LocalDateTime> bucketStart = rollup.get("id").get("bucketStart");
+
+        query.multiselect(bucketStart, cb.sum(rollup.<Long>get("eventCount")))
+                .where(where(cb, rollup, granularity, condition))
+                .groupBy(bucketStart)
+                .orderBy(cb.asc(bucketStart));
+
+        List<ActivityBucketDTO> result = new ArrayList<>();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            result.add(new ActivityBucketDTO(row.get(0, LocalDateTime.class), row.get(1, Long.class)));
+        }
+        return result;
+    }
+
+    @Override
+    public List<ActivityCountDTO> countBy(ActivityGranularity granularity, LogSearchCondition condition,
+                                          ActivityDimension dimension) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ActivityRollup> rollup = query.from(ActivityRollup.class);
+        Path<Object> key = rollup.get("id").get(dimension.attribute());
+
+        query.multiselect(key, cb.sum(rollup.<Long>get("eventCount")))
+                .where(where(cb, rollup, granularity, condition))
+                .groupBy(key);
+
+        List<ActivityCountDTO> result = new ArrayList<>();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            // ACTION 은 enum 이라 이름으로 변환
+            result.add(new ActivityCountDTO(String.valueOf(row.get(0)), row.get(1, Long.class)));
+        }
+        return result;
+    }
+
+    private static Predicate[] where(CriteriaBuilder cb, Root<ActivityRollup> rollup,
+                                     ActivityGranularity granularity, LogSearchCondition condition) {
+        Path<Object> id = rollup.get("id");
+        List<Predicate> where = new ArrayList<>();
+        where.add(cb.equal(id.get("granularity"), granularity));
+        if (condition.getTargetType() != null) {
+            where.add(cb.equal(id.get("targetType"), condition.getTargetType()));
+        }
+        if (condition.getActorId() != null) {
+            where.add(cb.equal(id.get("actorId"), condition.getActorId()));
+        }
+        if (condition.getActionType() != null) {
+            where.add(cb.equal(id.get("actionType"), condition.getActionType()));
+        }
+        if (condition.getFrom() != null) {
+            where.add(cb.greaterThanOrEqualTo(id.<LocalDateTime>get("bucketStart"), condition.getFrom()));
+        }
+        if (condition.getTo() != null) {
+            where.add(cb.lessThan(id.<LocalDateTime>get("bucketStart"), condition.getTo()));
+        }
+        return where.toArray(new Predicate[0]);
+    }
+}
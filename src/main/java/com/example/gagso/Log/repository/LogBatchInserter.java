@@ -0,0 +1,31 @@
+package com.example.gagso.Log.repository;
+
+import com.example.gagso.Log.model.LogEntry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public class LogBatchInserter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * LogEntry 묶음을 별도 트랜잭션에서 INSERT
+     * id 가 미리 채워져 있으므로 merge(SELECT) 없이 persist 하고,
+     * hibernate.jdbc.batch_size 단위로 JDBC 배치 전송된다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void insertAll(List<LogEntry> entries) {
+        for (LogEntry entry : entries) {
+            entityManager.persist(entry);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -7,6 +7,6 @@ import org.springframework.stereotype.Repository;
 import java.util.UUID;
 
 @Repository
-public interface LogRepository extends JpaRepository<LogEntry, UUID> {
-    // save(LogEntry log)와 findAll()은 JpaRepository가 자동 제공
+public interface LogRepository extends JpaRepository<LogEntry, UUID>, LogRepositoryCustom {
+    // 목록 조회는 findAll() 대신 search(조건, 커서, limit) 사용
 }
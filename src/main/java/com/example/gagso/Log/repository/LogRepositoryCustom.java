@@ -0,0 +1,16 @@
+package com.example.gagso.Log.repository;
+
+import com.example.gagso.Log.dto.LogListItemDTO;
+import com.example.gagso.Log.dto.LogSearchCondition;
+import com.example.gagso.Log.helper.LogCursor;
+
+import java.util.List;
+
+public interface LogRepositoryCustom {
+
+    /**
+     * 조건에 맞는 로그를 (timeStamp, log_id) 내림차순으로 limit 건 조회
+     * @param after 이전 페이지의 마지막 커서, 첫 페이지면 null
+     */
+    List<LogListItemDTO> search(LogSearchCondition condition, LogCursor after, int limit);
+}
@@ -0,0 +1,73 @@
+package com.example.gagso.Log.repository;
+
+import com.example.gagso.Log.dto.LogListItemDTO;
+import com.example.gagso.Log.dto.LogSearchCondition;
+import com.example.gagso.Log.helper.LogCursor;
+import com.example.gagso.Log.model.LogEntry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * LogRepositoryCustom 구현 (Spring Data 가 이름 규칙으로 LogRepository 에 합쳐줌)
+ * 값이 있는 조건만 WHERE 에 넣어서 LogEntry 의 (조건컬럼, time_stamp, log_id) 인덱스를 타게 한다.
+ */
+public class LogRepositoryImpl implements LogRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<LogListItemDTO> search(LogSearchCondition condition, LogCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<LogListItemDTO> query = cb.createQuery(LogListItemDTO.class);
+        Root<LogEntry> log = query.from(LogEntry.class);
+
+        List<Predicate> where = new ArrayList<>();
+        if (condition.getTargetType() != null) {
+            where.add(cb.equal(log.get("targetType"), condition.getTargetType()));
+        }
+        if (condition.getActorId() != null) {
+            where.add(cb.equal(log.get("actorId"), condition.getActorId()));
+        }
+        if (condition.getActionType() != null) {
+            where.add(cb.equal(log.get("actionType"), condition.getActionType()));
+        }
+        if (condition.getFrom() != null) {
+            where.add(cb.greaterThanOrEqualTo(log.<LocalDateTime>get("timeStamp"), condition.getFrom()));
+        }
+        if (condition.getTo() != null) {
+            where.add(cb.lessThan(log.<LocalDateTime>get("timeStamp"), condition.getTo()));
+        }
+        if (after != null) {
+            // (timeStamp, id) < (cursor.timeStamp, cursor.id)
+            where.add(cb.or(
+                    cb.lessThan(log.<LocalDateTime>get("timeStamp"), after.timeStamp()),
+                    cb.and(
+                            cb.equal(log.get("timeStamp"), after.timeStamp()),
+                            cb.lessThan(log.<UUID>get("id"), after.id()))));
+        }
+
+        query.select(cb.construct(LogListItemDTO.class,
+                        log.get("id"),
+                        log.get("actorId"),
+                        log.get("actionType"),
+                        log.get("targetType"),
+                        log.get("targetId"),
+                        log.get("timeStamp")))
+                .where(where.toArray(new Predicate[0]))
+                .orderBy(cb.desc(log.get("timeStamp")), cb.desc(log.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,337 @@
+package com.example.gagso.Log.retention;
+
+import com.example.gagso.Log.dto.LogListItemDTO;
+import com.example.gagso.Log.dto.LogSearchCondition;
+import com.example.gagso.Log.helper.LogCursor;
+import com.example.gagso.Log.model.ActionType;
+import com.example.gagso.common.bloom.BloomFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보존 기간이 지난 감사 로그 보관소 (gzip NDJSON, 하루 한 파일)
+ *
+ * <pre>
+ *  {dir}/2026/10/log-2026-10-17.ndjson.gz   ← (timeStamp, id) 내림차순, 한 줄에 LogListItemDTO 하나
+ *  {dir}/2026/10/log-2026-10-17.summary.json ← 그날의 행위자 / 대상 타입 / 행위 목록
+ *  {dir}/2026/10/log-2026-10-18.ndjson.gz.tmp  ← 쓰는 중 (기동 시 삭제)
+ * </pre>
+ *
+ * 조회 시 요약을 먼저 보고 조건(행위자, 대상 타입, 행위)에 맞는 로그가 없는 날은 압축을 풀지 않고 건너뛴다.
+ * 행위자는 많을 수 있어 메모리에는 Bloom filter 로만 들고 있는다. (오탐이면 그날을 읽을 뿐 결과는 같음)
+ * 요약이 없는 날(요약 도입 전에 보관된 날)은 그대로 읽는다.
+ *
+ * 파일은 다 쓴 뒤 fsync 하고 원자적 이동하므로, 파일이 보이면 그날 로그 전체가 보관된 것이다.
+ * 그래서 마지막 보관일 다음 날 0시가 핫 테이블 / 보관소 경계가 되고,
+ * 파티션을 지우기 전에 죽더라도 경계 이전 행은 조회에서 보관소 쪽만 보게 되어 중복이 생기지 않는다.
+ */
+@Slf4j
+@Component
+public class LogArchive {
+
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final String PREFIX = "log-";
+    private static final String SUFFIX = ".ndjson.gz";
+    private static final String SUMMARY_SUFFIX = ".summary.json";
+    private static final String TMP_SUFFIX = ".tmp";
+    private static final double ACTOR_FPP = 0.01;
+
+    private final Path dir;
+    private final ObjectMapper objectMapper;
+    private final NavigableSet<LocalDate> archivedDays = new ConcurrentSkipListSet<>();
+    private final Map<LocalDate, DaySummary> summaries = new ConcurrentHashMap<>();
+
+    public LogArchive(@Value("${gagso.log.archive.dir}") String dir, ObjectMapper objectMapper) {
+        this.dir = Paths.get(dir).toAbsolutePath().normalize();
+        this.objectMapper = objectMapper;
+        load();
+    }
+
+    private void load() {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(dir, 3)) {
+            files.filter(Files::isRegularFile).forEach(file -> {
+                String name = file.getFileName().toString();
+                if (name.endsWith(TMP_SUFFIX)) {
+                    deleteQuietly(file);
+                } else if (name.startsWith(PREFIX) && name.endsWith(SUFFIX)) {
+                    dayOf(file, SUFFIX).ifPresent(archivedDays::add);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 로그 보관소를 읽을 수 없습니다: " + dir, e);
+        }
+        // 보관 파일보다 요약을 먼저 옮기므로, 보관 파일이 없는 요약은 쓰다가 죽은 것 (다시 보관할 때 덮어씀)
+        for (LocalDate day : archivedDays) {
+            Path file = summaryPathOf(day);
+            if (Files.isRegularFile(file)) {
+                try {
+                    summaries.put(day, DaySummary.of(objectMapper.readValue(file.toFile(), SummaryFile.class)));
+                } catch (IOException e) {
+                    log.warn("감사 로그 보관 요약을 읽을 수 없어 그날은 전체를 읽습니다: {}", file, e);
+                }
+            }
+        }
+        if (!archivedDays.isEmpty()) {
+            log.info("감사 로그 보관소: {} ~ {} ({}일)", archivedDays.first(), archivedDays.last(), archivedDays.size());
+        }
+    }
+
+    private static Optional<LocalDate> dayOf(Path file, String suffix) {
+        String name = file.getFileName().toString();
+        try {
+            return Optional.of(LocalDate.parse(name.substring(PREFIX.length(), name.length() - suffix.length()), FILE_DATE));
+        } catch (DateTimeParseException e) {
+            log.warn("감사 로그 보관 파일 이름을 해석할 수 없어 건너뜁니다: {}", file);
+            return Optional.empty();
+        }
+    }
+
+    public boolean isArchived(LocalDate day) {
+        return archivedDays.contains(day);
+    }
+
+    /** 이 시각 이후 로그는 핫 저장소에, 이전 로그는 보관소에 있다. 보관된 날이 없으면 empty */
+    public Optional<LocalDateTime> hotFrom() {
+        return archivedDays.isEmpty() ? Optional.empty() : Optional.of(archivedDays.last().plusDays(1).atStartOfDay());
+    }
+
+    /** 하루치 보관 파일 쓰기 시작 (commit 전에 닫으면 임시 파일은 지워진다) */
+    public DayWriter openWriter(LocalDate day) throws IOException {
+        Path target = pathOf(day);
+        Files.createDirectories(target.getParent());
+        return new DayWriter(day, target, target.resolveSibling(target.getFileName() + TMP_SUFFIX));
+    }
+
+    /**
+     * 보관소 조회 (timeStamp, id) 내림차순
+     * 파일이 내림차순이므로 날짜를 최신부터 읽으면서 커서 이전 행을 건너뛰고, from 보다 오래된 행이 나오면 그날은 끝낸다.
+     */
+    public List<LogListItemDTO> search(LogSearchCondition condition, LogCursor after, int limit) {
+        List<LogListItemDTO> result = new ArrayList<>();
+        if (archivedDays.isEmpty() || limit <= 0) {
+            return result;
+        }
+        LocalDate newest = archivedDays.last();
+        if (condition.getTo() != null) {
+            newest = min(newest, condition.getTo().minusNanos(1).toLocalDate());
+        }
+        if (after != null) {
+            newest = min(newest, after.timeStamp().toLocalDate());
+        }
+        LocalDate oldest = condition.getFrom() == null ? archivedDays.first() : condition.getFrom().toLocalDate();
+        if (newest.isBefore(oldest)) {
+            return result;
+        }
+
+        for (LocalDate day : archivedDays.subSet(oldest, true, newest, true).descendingSet()) {
+            DaySummary summary = summaries.get(day);
+            if (summary != null && !summary.mightMatch(condition)) {
+                continue;
+            }
+            scanDay(day, condition, after, limit, result);
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private void scanDay(LocalDate day, LogSearchCondition condition, LogCursor after,
+                         int limit, List<LogListItemDTO> result) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(pathOf(day)), 64 * 1024), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null && result.size() < limit) {
+                LogListItemDTO row = objectMapper.readValue(line, LogListItemDTO.class);
+                if (condition.getTo() != null && !row.getTimeStamp().isBefore(condition.getTo())) {
+                    continue;
+                }
+                if (after != null && !isBefore(row, after)) {
+                    continue;
+                }
+                if (condition.getFrom() != null && row.getTimeStamp().isBefore(condition.getFrom())) {
+                    break;
+                }
+                if (matches(row, condition)) {
+                    result.add(row);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 로그 보관 파일 읽기 실패: " + day, e);
+        }
+    }
+
+    /** (timeStamp, id) < (cursor.timeStamp, cursor.id), id 는 CHAR(36) 정렬과 같은 문자열 비교 */
+    private static boolean isBefore(LogListItemDTO row, LogCursor cursor) {
+        int cmp = row.getTimeStamp().compareTo(cursor.timeStamp());
+        return cmp < 0 || (cmp == 0 && row.getLogId().toString().compareTo(cursor.id().toString()) < 0);
+    }
+
+    private static boolean matches(LogListItemDTO row, LogSearchCondition condition) {
+        return (condition.getTargetType() == null || condition.getTargetType().equals(row.getTargetType()))
+                && (condition.getActorId() == null || condition.getActorId().equals(row.getActorId()))
+                && (condition.getActionType() == null || condition.getActionType() == row.getActionType());
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private Path pathOf(LocalDate day) {
+        return dir.resolve(String.format("%04d/%02d", day.getYear(), day.getMonthValue()))
+                .resolve(PREFIX + FILE_DATE.format(day) + SUFFIX);
+    }
+
+    private Path summaryPathOf(LocalDate day) {
+        return pathOf(day).resolveSibling(PREFIX + FILE_DATE.format(day) + SUMMARY_SUFFIX);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("감사 로그 임시 보관 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    /**
+     * 하루치 보관 파일 작성기
+     * 행은 (timeStamp, id) 내림차순으로 넘겨야 한다.
+     */
+    public final class DayWriter implements Closeable {
+
+        private final LocalDate day;
+        private final Path target;
+        private final Path tmp;
+        private final FileChannel channel;
+        private final GZIPOutputStream out;
+        private final Set<String> actors = new HashSet<>();
+        private final Set<String> targetTypes = new HashSet<>();
+        private final Set<ActionType> actionTypes = EnumSet.noneOf(ActionType.class);
+        private long rows;
+        private boolean committed;
+
+        private DayWriter(LocalDate day, Path target, Path tmp) throws IOException {
+            this.day = day;
+            this.target = target;
+            this.tmp = tmp;
+            this.channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            this.out = new GZIPOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+        }
+
+        public void append(LogListItemDTO row) throws IOException {
+            out.write(objectMapper.writeValueAsBytes(row));
+            out.write('\n');
+            rows++;
+            if (row.getActorId() != null) {
+                actors.add(row.getActorId());
+            }
+            if (row.getTargetType() != null) {
+                targetTypes.add(row.getTargetType());
+            }
+            if (row.getActionType() != null) {
+                actionTypes.add(row.getActionType());
+            }
+        }
+
+        public long rows() {
+            return rows;
+        }
+
+        /**
+         * gzip 을 마무리하고 fsync 후 최종 이름으로 옮긴다. 이후 이 날은 보관소에서 조회된다.
+         * 요약을 먼저 옮겨 두므로 보관 파일이 보이면 요약도 그날 전체 기준이다.
+         */
+        public void commit() throws IOException {
+            out.flush();
+            out.finish();
+            channel.force(true);
+            out.close();
+
+            SummaryFile summary = new SummaryFile(rows, actors, targetTypes, actionTypes);
+            Path summaryTarget = summaryPathOf(day);
+            Path summaryTmp = summaryTarget.resolveSibling(summaryTarget.getFileName() + TMP_SUFFIX);
+            try (FileChannel summaryChannel = FileChannel.open(summaryTmp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer bytes = ByteBuffer.wrap(objectMapper.writeValueAsBytes(summary));
+                while (bytes.hasRemaining()) {
+                    summaryChannel.write(bytes);
+                }
+                summaryChannel.force(true);
+            }
+            Files.move(summaryTmp, summaryTarget, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            committed = true;
+            summaries.put(day, DaySummary.of(summary));
+            archivedDays.add(day);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                out.close();
+                Files.deleteIfExists(tmp);
+            }
+        }
+    }
+
+    /** 하루치 요약 파일 내용 */
+    record SummaryFile(long rows, Set<String> actors, Set<String> targetTypes, Set<ActionType> actionTypes) {
+    }
+
+    /** 조회 시 날짜 건너뛰기용 요약 (행위자는 Bloom filter) */
+    private record DaySummary(BloomFilter actors, Set<String> targetTypes, Set<ActionType> actionTypes) {
+
+        static DaySummary of(SummaryFile file) {
+            BloomFilter actors = BloomFilter.create(file.actors().size(), ACTOR_FPP);
+            file.actors().forEach(actors::put);
+            return new DaySummary(actors, Set.copyOf(file.targetTypes()), Set.copyOf(file.actionTypes()));
+        }
+
+        /** false 면 그날에는 조건에 맞는 로그가 확실히 없다 */
+        boolean mightMatch(LogSearchCondition condition) {
+            return (condition.getTargetType() == null || targetTypes.contains(condition.getTargetType()))
+                    && (condition.getActionType() == null || actionTypes.contains(condition.getActionType()))
+                    && (condition.getActorId() == null || actors.mightContain(condition.getActorId()));
+        }
+    }
+}
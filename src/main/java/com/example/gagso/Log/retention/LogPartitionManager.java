@@ -0,0 +1,260 @@
+package com.example.gagso.Log.retention;
+
+import com.example.gagso.Log.dto.LogListItemDTO;
+import com.example.gagso.Log.model.ActionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 감사 로그 테이블 일 단위 파티션 관리 (MySQL RANGE COLUMNS(time_stamp))
+ *
+ * 주기적으로
+ *  1) 파티션이 없으면 기존 테이블을 일 단위 파티션으로 바꾸고 (최초 1회, PK 에 time_stamp 추가)
+ *  2) 앞으로 premake-days 일치 파티션을 미리 만들어 두고 (비어 있는 pmax 를 쪼개므로 즉시 끝남)
+ *  3) hot-days 보다 오래된 파티션은 LogArchive 로 내보낸 뒤 DROP PARTITION 한다.
+ * 큰 DELETE 없이 오래된 데이터를 지우므로 언두/바이너리 로그가 쌓이지 않고,
+ * 테이블에는 최근 hot-days 일치만 남아 버퍼 풀에 들어갈 정도로 작게 유지된다.
+ *
+ * gagso.log.store=jpa 이고 MySQL 일 때만 동작한다.
+ * 수동 실행(requestMaintain, /actuator/logretention)은 같은 정리 스레드에 맡기고 바로 돌아오며, 테이블 전체를 다시 쓰는 1) 은 하지 않는다.
+ */
+@Slf4j
+@Component
+public class LogPartitionManager implements SmartLifecycle {
+
+    private static final int MAX_PARTITIONS = 8000;    // MySQL 한도 8192
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LogArchive archive;
+    private final Clock clock = Clock.systemDefaultZone();
+    private final boolean enabled;
+    private final String table;
+    private final int hotDays;
+    private final int premakeDays;
+    private final long intervalMinutes;
+    private final Counter archivedRows;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "audit-log-retention");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean manualQueued = new AtomicBoolean();
+    private volatile boolean running;
+
+    public LogPartitionManager(JdbcTemplate jdbcTemplate,
+                               LogArchive archive,
+                               MeterRegistry meterRegistry,
+                               @Value("${gagso.log.store:jpa}") String store,
+                               @Value("${gagso.log.retention.enabled}") boolean enabled,
+                               @Value("${gagso.log.retention.table}") String table,
+                               @Value("${gagso.log.retention.hot-days}") int hotDays,
+                               @Value("${gagso.log.retention.premake-days}") int premakeDays,
+                               @Value("${gagso.log.retention.interval-minutes}") long intervalMinutes) {
+        if (!table.matches("[A-Za-z0-9_]+")) {
+            throw new IllegalArgumentException("gagso.log.retention.table 이 올바르지 않습니다: " + table);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.archive = archive;
+        this.enabled = enabled && "jpa".equals(store);
+        this.table = table;
+        this.hotDays = Math.max(1, hotDays);
+        this.premakeDays = Math.max(1, premakeDays);
+        this.intervalMinutes = Math.max(1, intervalMinutes);
+        this.archivedRows = Counter.builder("gagso.log.archived")
+                .description("파티션 삭제 전에 보관 파일로 내보낸 감사 로그 수")
+                .baseUnit("entries")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 정리 스레드에 한 번 더 실행을 맡긴다 (자동 주기와 겹치지 않고 차례로 실행됨)
+     * @return 이미 대기 중인 요청이 있거나 꺼져 있으면 false
+     */
+    public boolean requestMaintain() {
+        if (!enabled || !running || !manualQueued.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.execute(() -> {
+            manualQueued.set(false);
+            runSafely(false);
+        });
+        return true;
+    }
+
+    /**
+     * 파티션 정리 한 번 실행
+     * @param repartition 파티션이 없는 테이블이면 일 단위 파티션으로 재구성할지 (테이블 전체 ALTER)
+     * @return 보관 후 삭제한 파티션 수
+     */
+    public synchronized int maintain(boolean repartition) {
+        if (!enabled) {
+            return 0;
+        }
+        if (!isMySql()) {
+            log.warn("감사 로그 파티션 관리는 MySQL 에서만 동작합니다. (gagso.log.retention.enabled 무시)");
+            return 0;
+        }
+        LocalDate today = LocalDate.now(clock);
+        List<String> partitions = partitions();
+        if (partitions.isEmpty()) {
+            if (!repartition) {
+                log.info("감사 로그 테이블 {} 이 아직 파티션으로 나뉘지 않아 자동 주기에 맡깁니다.", table);
+                return 0;
+            }
+            partitionTable(today);
+            partitions = partitions();
+        }
+        premake(partitions, today);
+        return archiveExpired(partitions, today.minusDays(hotDays));
+    }
+
+    private boolean isMySql() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql")));
+    }
+
+    /** 일 단위 파티션 이름 (오래된 순, pmax 제외), 파티션이 없는 테이블이면 빈 목록 */
+    private List<String> partitions() {
+        return LogPartitionPlan.dayPartitions(jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS"
+                        + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL"
+                        + " ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class, table));
+    }
+
+    /** 기존 테이블을 가장 오래된 로그 날짜부터 일 단위 파티션으로 재구성 (최초 1회, 테이블 크기만큼 걸림) */
+    private void partitionTable(LocalDate today) {
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(time_stamp) FROM " + table, Timestamp.class);
+        LocalDate from = oldest == null ? today : oldest.toLocalDateTime().toLocalDate();
+        LocalDate to = today.plusDays(premakeDays);
+        if (from.datesUntil(to.plusDays(1)).count() > MAX_PARTITIONS) {
+            throw new IllegalStateException("감사 로그가 너무 오래 전부터 있어 일 단위 파티션으로 나눌 수 없습니다: " + from);
+        }
+
+        log.warn("감사 로그 테이블 {} 을 일 단위 파티션으로 재구성합니다. ({} ~ {})", table, from, to);
+        jdbcTemplate.execute("ALTER TABLE " + table
+                + " DROP PRIMARY KEY, ADD PRIMARY KEY (log_id, time_stamp)"
+                + " PARTITION BY RANGE COLUMNS(time_stamp) (" + LogPartitionPlan.definitions(from, to) + ")");
+    }
+
+    /** 마지막 일 파티션 다음 날부터 today + premake-days 까지를 pmax 에서 떼어 낸다. */
+    private void premake(List<String> partitions, LocalDate today) {
+        List<LocalDate> days = LogPartitionPlan.premakeDays(partitions, today, premakeDays);
+        if (days.isEmpty()) {
+            return;
+        }
+        LocalDate from = days.get(0);
+        LocalDate to = days.get(days.size() - 1);
+        jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION " + LogPartitionPlan.MAX_PARTITION
+                + " INTO (" + LogPartitionPlan.definitions(from, to) + ")");
+        log.info("감사 로그 파티션 추가: {} ~ {}", from, to);
+    }
+
+    private int archiveExpired(List<String> partitions, LocalDate cutoff) {
+        int dropped = 0;
+        // 내보내기가 끝나야(또는 이전 실행에서 이미 보관됐어야) 지운다. 실패하면 그 파티션에서 멈추고 다음 주기에 다시
+        for (String partition : LogPartitionPlan.expired(partitions, cutoff)) {
+            LocalDate day = LogPartitionPlan.dayOf(partition);
+            if (!archive.isArchived(day)) {
+                long rows = export(partition, day);
+                archivedRows.increment(rows);
+                log.info("감사 로그 보관: {} {}건", day, rows);
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + partition);
+            dropped++;
+        }
+        return dropped;
+    }
+
+    /** 파티션 하나를 (time_stamp, log_id) 내림차순으로 읽으면서 바로 보관 파일에 쓴다. (결과를 메모리에 모으지 않음) */
+    private long export(String partition, LocalDate day) {
+        String sql = "SELECT log_id, actor_id, action_type, target_type, target_id, time_stamp FROM " + table
+                + " PARTITION (" + partition + ") ORDER BY time_stamp DESC, log_id DESC";
+        try (LogArchive.DayWriter writer = archive.openWriter(day)) {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(Integer.MIN_VALUE);     // MySQL 드라이버 행 단위 스트리밍
+                return statement;
+            }, (ResultSet rs) -> {
+                try {
+                    writer.append(new LogListItemDTO(
+                            uuidOf(rs.getObject(1)),
+                            rs.getString(2),
+                            ActionType.valueOf(rs.getString(3)),
+                            rs.getString(4),
+                            rs.getString(5),
+                            rs.getTimestamp(6).toLocalDateTime()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.commit();
+            return writer.rows();
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 로그 보관 실패: " + day, e);
+        }
+    }
+
+    /** log_id 는 gagso.id.storage 에 따라 CHAR(36) 또는 BINARY(16) */
+    private static UUID uuidOf(Object value) {
+        if (value instanceof byte[] bytes) {
+            ByteBuffer buf = ByteBuffer.wrap(bytes);
+            return new UUID(buf.getLong(), buf.getLong());
+        }
+        return UUID.fromString(value.toString());
+    }
+
+    private void runSafely(boolean repartition) {
+        try {
+            maintain(repartition);
+        } catch (RuntimeException e) {
+            log.error("감사 로그 파티션 정리 실패", e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (enabled) {
+            executor.scheduleWithFixedDelay(() -> runSafely(true), 1, intervalMinutes * 60, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        executor.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
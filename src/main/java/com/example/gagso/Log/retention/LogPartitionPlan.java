@@ -0,0 +1,77 @@
+package com.example.gagso.Log.retention;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 감사 로그 일 단위 파티션 계획 (DB 는 건드리지 않고 무엇을 만들고 지울지만 정함)
+ * 파티션 p20261017 은 2026-10-17 0시 이상 ~ 다음 날 0시 미만, 마지막 pmax 는 그 뒤 전부를 받는다.
+ */
+final class LogPartitionPlan {
+
+    static final String MAX_PARTITION = "pmax";
+
+    private static final DateTimeFormatter PARTITION_DAY = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Pattern DAY_PARTITION = Pattern.compile("p\\d{8}");
+
+    private LogPartitionPlan() {
+    }
+
+    /** 일 파티션 이름만 남긴다 (순서 유지, pmax 제외) */
+    static List<String> dayPartitions(List<String> names) {
+        return names.stream()
+                .filter(name -> DAY_PARTITION.matcher(name).matches())
+                .toList();
+    }
+
+    static String nameOf(LocalDate day) {
+        return "p" + PARTITION_DAY.format(day);
+    }
+
+    static LocalDate dayOf(String partition) {
+        return LocalDate.parse(partition.substring(1), PARTITION_DAY);
+    }
+
+    /**
+     * pmax 에서 미리 떼어 낼 날짜 (마지막 일 파티션 다음 날 ~ today + premakeDays)
+     * @return 이미 충분히 만들어져 있거나 일 파티션이 없으면 빈 목록
+     */
+    static List<LocalDate> premakeDays(List<String> partitions, LocalDate today, int premakeDays) {
+        if (partitions.isEmpty()) {
+            return List.of();
+        }
+        LocalDate from = dayOf(partitions.get(partitions.size() - 1)).plusDays(1);
+        LocalDate to = today.plusDays(premakeDays);
+        return from.isAfter(to) ? List.of() : from.datesUntil(to.plusDays(1)).toList();
+    }
+
+    /**
+     * 보관 후 지울 파티션 (오래된 순)
+     * cutoff 이전 날짜만, 처음으로 cutoff 이후인 파티션에서 멈춘다.
+     * 마지막 파티션은 지우지 않는다 (RANGE 파티션 테이블에는 pmax 외에 하나 이상 남겨 둠)
+     */
+    static List<String> expired(List<String> partitions, LocalDate cutoff) {
+        List<String> expired = new ArrayList<>();
+        for (String partition : partitions.subList(0, Math.max(0, partitions.size() - 1))) {
+            if (!dayOf(partition).isBefore(cutoff)) {
+                break;
+            }
+            expired.add(partition);
+        }
+        return expired;
+    }
+
+    /** from ~ to 일 파티션과 pmax 정의 (PARTITION BY / REORGANIZE PARTITION 의 괄호 안) */
+    static String definitions(LocalDate from, LocalDate to) {
+        List<String> definitions = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            definitions.add("PARTITION " + nameOf(day)
+                    + " VALUES LESS THAN ('" + day.plusDays(1) + " 00:00:00')");
+        }
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        return String.join(", ", definitions);
+    }
+}
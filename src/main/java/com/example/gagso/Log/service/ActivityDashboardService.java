@@ -0,0 +1,150 @@
+package com.example.gagso.Log.service;
+
+import com.example.gagso.Log.dto.ActivityBucketDTO;
+import com.example.gagso.Log.dto.ActivityCountDTO;
+import com.example.gagso.Log.dto.LogSearchCondition;
+import com.example.gagso.Log.model.ActivityDimension;
+import com.example.gagso.Log.model.ActivityGranularity;
+import com.example.gagso.Log.repository.ActivityRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 활동 대시보드 조회
+ * 원본 로그 대신 집계 테이블(ActivityRollup)을 읽고, 아직 반영되지 않은 최근 몇 분치는 집계기 메모리에서 더한다.
+ *
+ * 집계기가 upsert 하는 사이에 읽으면 같은 건수가 테이블과 메모리 양쪽에 보일 수 있으므로,
+ * 테이블을 읽기 전후의 집계기 version 이 같을 때만 합치고 다르면 다시 읽는다. (MAX_READ_ATTEMPTS 번까지)
+ * 다시 읽을 때 새 스냅샷을 보도록 트랜잭션으로 묶지 않는다. (REPEATABLE READ 면 같은 스냅샷을 다시 읽음)
+ */
+@Service
+@RequiredArgsConstructor
+public class ActivityDashboardService {
+
+    public static final int MAX_TOP = 500;
+    private static final Duration MAX_HOUR_RANGE = Duration.ofDays(93);
+    private static final Duration MAX_DAY_RANGE = Duration.ofDays(3660);
+    private static final int MAX_READ_ATTEMPTS = 3;
+    private static final long FLUSH_WAIT_MILLIS = 2000;
+
+    private final ActivityRollupRepository rollupRepository;
+    private final ActivityRollupCollector rollupCollector;
+
+    /**
+     * 구간별 활동 건수 (구간 시작 오름차순, 건수 0 인 구간은 생략)
+     * [from, to) 와 겹치는 구간 전체를 센다.
+     */
+    public List<ActivityBucketDTO> series(ActivityGranularity granularity, LogSearchCondition condition) {
+        LogSearchCondition aligned = align(granularity, condition);
+
+        TreeMap<LocalDateTime, Long> buckets = new TreeMap<>();
+        Map<ActivityRollupCollector.MinuteKey, Long> pending = readConsistently(() -> {
+            buckets.clear();
+            for (ActivityBucketDTO bucket : rollupRepository.series(granularity, aligned)) {
+                buckets.put(bucket.getBucketStart(), bucket.getCount());
+            }
+        });
+        pending.forEach((key, count) -> {
+            LocalDateTime bucket = granularity.bucketOf(key.minute());
+            if (matches(key, bucket, aligned)) {
+                buckets.merge(bucket, count, Long::sum);
+            }
+        });
+
+        List<ActivityBucketDTO> result = new ArrayList<>(buckets.size());
+        buckets.forEach((bucket, count) -> result.add(new ActivityBucketDTO(bucket, count)));
+        return result;
+    }
+
+    /** 기준(행위자 / 대상 타입 / 행위)별 활동 건수 상위 limit 건 */
+    public List<ActivityCountDTO> top(ActivityGranularity granularity, LogSearchCondition condition,
+                                      ActivityDimension dimension, int limit) {
+        LogSearchCondition aligned = align(granularity, condition);
+
+        Map<String, Long> counts = new HashMap<>();
+        Map<ActivityRollupCollector.MinuteKey, Long> pending = readConsistently(() -> {
+            counts.clear();
+            for (ActivityCountDTO row : rollupRepository.countBy(granularity, aligned, dimension)) {
+                counts.put(row.getKey(), row.getCount());
+            }
+        });
+        pending.forEach((key, count) -> {
+            if (matches(key, granularity.bucketOf(key.minute()), aligned)) {
+                String value = switch (dimension) {
+                    case ACTOR -> key.actorId();
+                    case TARGET_TYPE -> key.targetType();
+                    case ACTION -> key.actionType().name();
+                };
+                counts.merge(value, count, Long::sum);
+            }
+        });
+
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(Math.max(1, Math.min(limit, MAX_TOP)))
+                .map(entry -> new ActivityCountDTO(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    /**
+     * readTable 로 집계 테이블을 읽고, 그동안 upsert 가 없었던 경우의 메모리 건수를 돌려준다.
+     * 횟수를 다 써도 맞지 않으면 마지막 결과를 쓴다. (진행 중이던 upsert 한 번만큼 어긋날 수 있음)
+     */
+    private Map<ActivityRollupCollector.MinuteKey, Long> readConsistently(Runnable readTable) {
+        ActivityRollupCollector.Pending pending;
+        int attempt = 0;
+        try {
+            long version;
+            do {
+                attempt++;
+                version = rollupCollector.stableVersion(FLUSH_WAIT_MILLIS);
+                readTable.run();
+                pending = rollupCollector.pending();
+            } while (pending.version() != version && attempt < MAX_READ_ATTEMPTS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("활동 집계 조회가 중단되었습니다.", e);
+        }
+        return pending.counts();
+    }
+
+    /** from / to 를 구간 경계로 맞추고 조회 범위를 제한 (집계 행 수 = 구간 수 x 키 조합 수) */
+    private static LogSearchCondition align(ActivityGranularity granularity, LogSearchCondition condition) {
+        if (condition.getFrom() == null || condition.getTo() == null) {
+            throw new IllegalArgumentException("from, to 를 모두 지정해야 합니다.");
+        }
+        if (!condition.getFrom().isBefore(condition.getTo())) {
+            throw new IllegalArgumentException("from 은 to 보다 앞이어야 합니다.");
+        }
+        Duration max = granularity == ActivityGranularity.HOUR ? MAX_HOUR_RANGE : MAX_DAY_RANGE;
+        if (Duration.between(condition.getFrom(), condition.getTo()).compareTo(max) > 0) {
+            throw new IllegalArgumentException(granularity + " 단위 조회는 최대 " + max.toDays() + "일까지 가능합니다.");
+        }
+
+        LocalDateTime from = granularity.bucketOf(condition.getFrom());
+        LocalDateTime to = granularity.bucketOf(condition.getTo());
+        if (to.isBefore(condition.getTo())) {
+            to = granularity == ActivityGranularity.HOUR ? to.plusHours(1) : to.plusDays(1);
+        }
+        return new LogSearchCondition(condition.getTargetType(), condition.getActorId(),
+                condition.getActionType(), from, to);
+    }
+
+    private static boolean matches(ActivityRollupCollector.MinuteKey key, LocalDateTime bucket,
+                                   LogSearchCondition condition) {
+        return !bucket.isBefore(condition.getFrom()) && bucket.isBefore(condition.getTo())
+                && (condition.getTargetType() == null || condition.getTargetType().equals(key.targetType()))
+                && (condition.getActorId() == null || condition.getActorId().equals(key.actorId()))
+                && (condition.getActionType() == null || condition.getActionType() == key.actionType());
+    }
+}
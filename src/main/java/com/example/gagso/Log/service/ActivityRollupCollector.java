@@ -0,0 +1,230 @@
+package com.example.gagso.Log.service;
+
+import com.example.gagso.Log.model.ActionType;
+import com.example.gagso.Log.model.ActivityGranularity;
+import com.example.gagso.Log.model.ActivityRollupKey;
+import com.example.gagso.Log.model.LogEntry;
+import com.example.gagso.Log.repository.ActivityRollupBatchWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 감사 로그 활동 집계기
+ *
+ * 저장된 감사 로그를 (분, 대상 타입, 행위, 행위자) 별 LongAdder 로 센다.
+ * 카운터 맵은 ConcurrentHashMap 이라 키 단위로 잠금이 나뉘고, 같은 키에 몰리는 증가는 LongAdder 셀로 흩어진다.
+ * flush-interval-seconds 마다 끝난 분의 카운터를 꺼내 시간별/일별 집계로 합친 뒤 ActivityRollup 에 upsert 한다.
+ *
+ * 대시보드는 집계 테이블 + pending() 을 더해서 보여주므로, 꺼낸 건수는 DB 에 들어가기 전까지 inFlight 로 보이게 둔다.
+ * 꺼내기 / 되돌리기 / inFlight 비우기는 viewLock 안에서 해서 pending() 이 중간 상태(어디에도 없거나 양쪽에 있는 건수)를 보지 않고,
+ * upsert 중에는 version 이 홀수라 그동안 DB 를 읽은 대시보드는 다시 읽는다. (seqlock)
+ *
+ * 메트릭: gagso.log.rollup.pending(메모리에 남은 키 수), gagso.log.rollup.flush, gagso.log.rollup.failed(counter)
+ */
+@Slf4j
+@Service
+public class ActivityRollupCollector implements SmartLifecycle {
+
+    /** 분 단위 카운터 키 */
+    public record MinuteKey(LocalDateTime minute, String targetType, ActionType actionType, String actorId) {
+    }
+
+    private final ActivityRollupBatchWriter batchWriter;
+    private final boolean enabled;
+    private final long flushIntervalSeconds;
+
+    private final ConcurrentHashMap<MinuteKey, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Object viewLock = new Object();
+    private Map<MinuteKey, Long> inFlight = Map.of();   // 꺼냈지만 아직 DB 에 반영되지 않은 건수 (viewLock)
+    private long version;                               // upsert 시작/끝마다 +1, 홀수면 upsert 중 (viewLock)
+
+    private final Timer flushTimer;
+    private final AtomicLong failedCount = new AtomicLong();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "activity-rollup-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean running;
+
+    public ActivityRollupCollector(ActivityRollupBatchWriter batchWriter,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${gagso.log.rollup.enabled}") boolean enabled,
+                                   @Value("${gagso.log.rollup.flush-interval-seconds}") long flushIntervalSeconds) {
+        this.batchWriter = batchWriter;
+        this.enabled = enabled;
+        this.flushIntervalSeconds = Math.max(1, flushIntervalSeconds);
+        this.flushTimer = Timer.builder("gagso.log.rollup.flush")
+                .description("활동 집계 upsert 시간")
+                .register(meterRegistry);
+        Gauge.builder("gagso.log.rollup.pending", counters, Map::size)
+                .description("아직 DB 에 반영되지 않은 분 단위 집계 키 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("gagso.log.rollup.failed", failedCount, AtomicLong::get)
+                .description("실패해서 다음 flush 로 미룬 횟수")
+                .register(meterRegistry);
+    }
+
+    /** 로그 한 건 집계 (AsyncLogPipeline 이 LogStore 저장에 성공한 로그만 넘긴다) */
+    public void record(LogEntry entry) {
+        if (!enabled || entry.getActionType() == null) {
+            return;
+        }
+        LocalDateTime timeStamp = entry.getTimeStamp() != null ? entry.getTimeStamp() : LocalDateTime.now();
+        MinuteKey key = new MinuteKey(timeStamp.truncatedTo(ChronoUnit.MINUTES),
+                Objects.requireNonNullElse(entry.getTargetType(), ""), entry.getActionType(),
+                Objects.requireNonNullElse(entry.getActorId(), ""));
+        LongAdder adder = counters.get(key);
+        if (adder == null) {
+            adder = counters.computeIfAbsent(key, ignored -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 분 단위 건수
+     * @param counts 분 단위 건수 (보통 최근 1~2분치라 크기가 작음)
+     * @param version 이 스냅샷을 찍을 때의 version
+     */
+    public record Pending(Map<MinuteKey, Long> counts, long version) {
+    }
+
+    /**
+     * 대시보드가 집계 테이블 결과에 더해서 보여줄 건수
+     * 집계 테이블을 읽기 전에 stableVersion() 을 받아 두고, 이 version 과 같을 때만 둘을 합쳐야 중복/누락이 없다.
+     */
+    public Pending pending() {
+        synchronized (viewLock) {
+            Map<MinuteKey, Long> snapshot = new HashMap<>(inFlight);
+            counters.forEach((key, adder) -> snapshot.merge(key, adder.sum(), Long::sum));
+            return new Pending(snapshot, version);
+        }
+    }
+
+    /**
+     * 진행 중인 upsert 가 끝날 때까지 (최대 timeoutMillis) 기다린 뒤 version 을 돌려준다.
+     * 시간이 다 되면 홀수 version 그대로 돌려주므로 pending() 과 맞지 않아 호출 측이 다시 시도하게 된다.
+     */
+    public long stableVersion(long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        synchronized (viewLock) {
+            while ((version & 1) == 1) {
+                long waitMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (waitMillis <= 0) {
+                    break;
+                }
+                viewLock.wait(waitMillis);
+            }
+            return version;
+        }
+    }
+
+    /**
+     * 끝난 분의 카운터를 꺼내 시간별/일별 집계로 반영
+     * 방금 끝난 분은 그 카운터를 막 잡은 스레드가 늦게 더할 수 있으므로 1분 더 기다렸다가 꺼낸다.
+     * @param all true 면 진행 중인 분까지 모두 (종료 시)
+     */
+    public synchronized void flush(boolean all) {
+        LocalDateTime threshold = all ? LocalDateTime.MAX
+                : LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).minusMinutes(1);
+        Map<MinuteKey, Long> drained = new HashMap<>();
+        synchronized (viewLock) {
+            for (Iterator<Map.Entry<MinuteKey, LongAdder>> it = counters.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<MinuteKey, LongAdder> entry = it.next();
+                if (entry.getKey().minute().isBefore(threshold)) {
+                    it.remove();
+                    long count = entry.getValue().sum();
+                    if (count > 0) {
+                        drained.merge(entry.getKey(), count, Long::sum);
+                    }
+                }
+            }
+            if (drained.isEmpty()) {
+                return;
+            }
+            inFlight = drained;
+            version++;
+        }
+
+        Map<ActivityRollupKey, Long> rollups = new HashMap<>();
+        drained.forEach((key, count) -> {
+            for (ActivityGranularity granularity : ActivityGranularity.values()) {
+                rollups.merge(new ActivityRollupKey(granularity, granularity.bucketOf(key.minute()),
+                        key.targetType(), key.actionType(), key.actorId()), count, Long::sum);
+            }
+        });
+        boolean written = false;
+        try {
+            flushTimer.record(() -> batchWriter.upsertAll(rollups));
+            written = true;
+        } catch (RuntimeException e) {
+            failedCount.incrementAndGet();
+            log.error("활동 집계 {}건 반영 실패, 다음 주기에 다시 시도합니다.", rollups.size(), e);
+        } finally {
+            synchronized (viewLock) {
+                if (!written) {
+                    // 카운터로 되돌려 다음 flush 에서 다시 시도 (inFlight 를 비우는 것과 같이 해야 pending() 에서 빠지지 않음)
+                    drained.forEach((key, count) -> counters.computeIfAbsent(key, ignored -> new LongAdder()).add(count));
+                }
+                inFlight = Map.of();
+                version++;
+                viewLock.notifyAll();
+            }
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush(false);
+        } catch (RuntimeException e) {
+            log.error("활동 집계 flush 실패", e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (enabled) {
+            executor.scheduleWithFixedDelay(this::flushSafely, flushIntervalSeconds, flushIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        executor.shutdownNow();
+        if (enabled) {
+            flush(true);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** 웹 서버와 AsyncLogPipeline 이 멈춘 뒤 마지막으로 남은 카운터를 모두 반영하도록 더 낮은 phase */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 8192;
+    }
+}
@@ -0,0 +1,326 @@
+package com.example.gagso.Log.service;
+
+import com.example.gagso.Log.model.LogEntry;
+import com.example.gagso.Log.model.LogOverflowPolicy;
+import com.example.gagso.Log.storage.LogStore;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 감사 로그 비동기 저장 파이프라인
+ * LogWriter 들이 만든 LogEntry 를 bounded 큐에 넣고,
+ * 전용 drainer 스레드가 batch-size 개 또는 flush-interval-ms 단위로 모아서 LogStore 에 배치 저장한다.
+ * 저장에 성공한 배치는 활동 집계(ActivityRollupCollector)에도 반영한다. (버려지거나 저장에 실패한 로그는 세지 않음)
+ *
+ * 메트릭: gagso.log.submit(대상 타입별 호출 측 지연/건수), gagso.log.flush(배치 저장 시간),
+ * gagso.log.batch.size, gagso.log.queue.size(gauge), gagso.log.dropped / failed(counter)
+ */
+@Slf4j
+@Service
+public class AsyncLogPipeline implements SmartLifecycle {
+
+    private final LogStore logStore;
+    private final ActivityRollupCollector rollupCollector;
+    private final boolean enabled;
+    private final boolean virtualThreads;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final LogOverflowPolicy overflowPolicy;
+    private final BlockingQueue<LogEntry> queue;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> submitTimers = new ConcurrentHashMap<>();
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private volatile boolean running;
+    private volatile boolean drainerAlive;
+    private Thread drainer;
+
+    public AsyncLogPipeline(LogStore logStore,
+                            ActivityRollupCollector rollupCollector,
+                            MeterRegistry meterRegistry,
+                            @Value("${gagso.log.async.enabled}") boolean enabled,
+                            @Value("${gagso.log.async.queue-capacity}") int queueCapacity,
+                            @Value("${gagso.log.async.batch-size}") int batchSize,
+                            @Value("${gagso.log.async.flush-interval-ms}") long flushIntervalMs,
+                            @Value("${gagso.log.async.overflow-policy}") LogOverflowPolicy overflowPolicy,
+                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.logStore = logStore;
+        this.rollupCollector = rollupCollector;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.overflowPolicy = overflowPolicy;
+        this.virtualThreads = virtualThreads;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.meterRegistry = meterRegistry;
+        this.flushTimer = Timer.builder("gagso.log.flush")
+                .description("감사 로그 배치 저장 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("gagso.log.batch.size")
+                .description("flush 한 번에 저장한 로그 수")
+                .baseUnit("entries")
+                .register(meterRegistry);
+        Gauge.builder("gagso.log.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 감사 로그 수")
+                .register(meterRegistry);
+        // 누적 건수라 gauge 가 아니라 counter (rate()/increase() 로 볼 수 있도록)
+        FunctionCounter.builder("gagso.log.dropped", droppedCount, AtomicLong::get)
+                .description("큐가 가득 차서 버린 감사 로그 수 (DROP 정책)")
+                .register(meterRegistry);
+        FunctionCounter.builder("gagso.log.failed", failedCount, AtomicLong::get)
+                .description("저장에 실패한 감사 로그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그 저장 요청
+     * 호출자 트랜잭션이 있으면 커밋된 뒤에만 큐에 넣는다. (롤백된 작업의 로그가 남지 않도록)
+     */
+    public void submit(LogEntry entry) {
+        Timer timer = submitTimer(entry.getTargetType());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    timer.record(() -> enqueue(entry));
+                }
+            });
+            return;
+        }
+        timer.record(() -> enqueue(entry));
+    }
+
+    /**
+     * 로그 여러 건 저장 요청 (대량 등록용)
+     * 커밋 후 한 번에 큐에 넣고, 비동기가 꺼져 있으면 한 배치로 바로 저장한다.
+     */
+    public void submitAll(List<LogEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Timer timer = submitTimer(entries.get(0).getTargetType());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    timer.record(() -> enqueueAll(entries));
+                }
+            });
+            return;
+        }
+        timer.record(() -> enqueueAll(entries));
+    }
+
+    private Timer submitTimer(String targetType) {
+        return submitTimers.computeIfAbsent(targetType, key -> Timer
+                .builder("gagso.log.submit")
+                .description("LogWriter.save 호출 측 지연 (큐 적재 또는 동기 저장까지)")
+                .tag("target_type", key)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private void enqueueAll(List<LogEntry> entries) {
+        if (!enabled || !running || !drainerAlive) {
+            for (int from = 0; from < entries.size(); from += batchSize) {
+                flush(entries.subList(from, Math.min(from + batchSize, entries.size())));
+            }
+            return;
+        }
+        for (LogEntry entry : entries) {
+            enqueue(entry);
+        }
+    }
+
+    private void enqueue(LogEntry entry) {
+        if (!enabled || !running || !drainerAlive) {
+            writeNow(entry);
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                // drainer 가 죽으면 큐가 비지 않으므로 기다리는 중에도 주기적으로 확인한다
+                try {
+                    while (!queue.offer(entry, flushIntervalNanos, TimeUnit.NANOSECONDS)) {
+                        if (!running || !drainerAlive) {
+                            writeNow(entry);
+                            return;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    writeNow(entry);
+                }
+            }
+            case DROP -> {
+                if (!queue.offer(entry)) {
+                    droppedCount.incrementAndGet();
+                }
+            }
+            case SYNC -> {
+                if (!queue.offer(entry)) {
+                    writeNow(entry);
+                }
+            }
+        }
+        if (!drainerAlive) {
+            drainRemaining();   // drainer 가 막 멈춘 사이에 큐에 넣은 로그
+        }
+    }
+
+    private void writeNow(LogEntry entry) {
+        flush(List.of(entry));
+    }
+
+    /**
+     * 큐를 비우는 루프
+     * 인터럽트는 stop() 중일 때만 종료 신호로 본다. 그 밖의 이유로 루프를 빠져나가면
+     * 남은 큐를 저장하고 이후 로그는 호출 스레드에서 바로 저장한다. (BLOCK 정책 호출자가 영원히 기다리지 않도록)
+     */
+    private void drainLoop() {
+        try {
+            drain();
+        } finally {
+            drainerAlive = false;
+            if (running) {
+                log.error("감사 로그 drainer 가 멈췄습니다. 이후 로그는 호출 스레드에서 바로 저장합니다.");
+            }
+            drainRemaining();
+        }
+    }
+
+    private void drain() {
+        List<LogEntry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                LogEntry first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 첫 항목 기준으로 flush-interval 안에 batch-size 까지 모은다
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    LogEntry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                if (!running) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                log.warn("감사 로그 drainer 가 인터럽트되었지만 종료 중이 아니므로 계속 동작합니다.");
+            } finally {
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    private void flush(List<LogEntry> batch) {
+        try {
+            flushTimer.record(() -> logStore.appendAll(batch));
+            batchSizeSummary.record(batch.size());
+            batch.forEach(rollupCollector::record);
+        } catch (RuntimeException e) {
+            failedCount.addAndGet(batch.size());
+            log.error("감사 로그 {}건 저장 실패", batch.size(), e);
+        }
+    }
+
+    /** 큐에 남은 로그를 호출 스레드에서 모두 저장 */
+    private void drainRemaining() {
+        List<LogEntry> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        drainerAlive = true;
+        // 가상 스레드 모드에서는 drainer 도 가상 스레드로 (가상 스레드는 항상 daemon)
+        Thread.Builder builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon(true);
+        drainer = builder.name("audit-log-drainer").start(this::drainLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (drainer != null) {
+            try {
+                drainer.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) + 5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            drainer = null;
+        }
+        drainRemaining();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** 웹 서버가 요청을 더 받지 않게 된 뒤에 멈추도록 낮은 phase 사용 */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+}
@@ -1,21 +1,22 @@
 package com.example.gagso.Log.service;
 
+import com.example.gagso.Log.dto.LogPageDTO;
+import com.example.gagso.Log.dto.LogSearchCondition;
 import com.example.gagso.Log.model.ActionType;
 import com.example.gagso.Log.model.LogEntry;
-import com.example.gagso.Log.repository.LogRepository;
 import com.example.gagso.Log.service.LogWriter;
+import com.example.gagso.common.id.IdGenerators;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class DocumentLogWriter implements LogWriter</*Document*/Object> {
 
-    private final LogRepository logRepository;
+    private final LogQueryService logQueryService;
+    private final AsyncLogPipeline logPipeline;
 
     @Override
     public void save(String actor, ActionType action, /*Document*/ Object target) {
@@ -25,7 +26,7 @@ public class DocumentLogWriter implements LogWriter</*Document*/Object> {
         // String documentType = target.getClass().getSimpleName();
 
         LogEntry entry = new LogEntry();
-        entry.setId(UUID.randomUUID());
+        entry.setId(IdGenerators.next());
         entry.setActorId(actor);
         entry.setActionType(action);
 
@@ -37,11 +38,11 @@ public class DocumentLogWriter implements LogWriter</*Document*/Object> {
 
         entry.setTimeStamp(LocalDateTime.now());
 
-        logRepository.save(entry);
+        logPipeline.submit(entry);
     }
 
     @Override
-    public List<LogEntry> getLogList() {
-        return logRepository.findAll();
+    public LogPageDTO getLogList(String cursor, int size) {
+        return logQueryService.search(LogSearchCondition.ofTargetType("Document"), cursor, size);
     }
 }
@@ -0,0 +1,76 @@
+package com.example.gagso.Log.service;
+
+import com.example.gagso.Log.dto.LogListItemDTO;
+import com.example.gagso.Log.dto.LogPageDTO;
+import com.example.gagso.Log.dto.LogSearchCondition;
+import com.example.gagso.Log.helper.LogCursor;
+import com.example.gagso.Log.retention.LogArchive;
+import com.example.gagso.Log.storage.LogStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class LogQueryService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final LogStore logStore;
+    private final LogArchive logArchive;
+
+    /**
+     * 감사 로그 keyset 페이지 조회 (최신순)
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지면 null
+     */
+    public LogPageDTO search(LogSearchCondition condition, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        LogCursor after = (cursor == null || cursor.isBlank()) ? null : LogCursor.decode(cursor);
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<LogListItemDTO> rows = fetch(condition, after, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<LogListItemDTO> items = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            LogListItemDTO last = items.get(items.size() - 1);
+            nextCursor = new LogCursor(last.getTimeStamp(), last.getLogId()).encode();
+        }
+        return new LogPageDTO(List.copyOf(items), nextCursor, hasNext);
+    }
+
+    /**
+     * 보관된 날이 있으면 경계(hotFrom) 이후는 핫 저장소에서, 이전은 보관소에서 읽는다.
+     * 핫 쪽 결과가 항상 더 최신이므로 핫 결과 뒤에 부족한 만큼 보관소 결과를 이어 붙이면 정렬이 유지된다.
+     */
+    private List<LogListItemDTO> fetch(LogSearchCondition condition, LogCursor after, int limit) {
+        Optional<LocalDateTime> hotFrom = logArchive.hotFrom();
+        if (hotFrom.isEmpty()) {
+            return logStore.search(condition, after, limit);
+        }
+        LocalDateTime boundary = hotFrom.get();
+        List<LogListItemDTO> rows = new ArrayList<>(limit);
+        if (condition.getTo() == null || condition.getTo().isAfter(boundary)) {
+            LocalDateTime from = condition.getFrom() == null || condition.getFrom().isBefore(boundary)
+                    ? boundary : condition.getFrom();
+            rows.addAll(logStore.search(withRange(condition, from, condition.getTo()), after, limit));
+        }
+        if (rows.size() < limit && (condition.getFrom() == null || condition.getFrom().isBefore(boundary))) {
+            LocalDateTime to = condition.getTo() == null || condition.getTo().isAfter(boundary)
+                    ? boundary : condition.getTo();
+            rows.addAll(logArchive.search(withRange(condition, condition.getFrom(), to), after, limit - rows.size()));
+        }
+        return rows;
+    }
+
+    private static LogSearchCondition withRange(LogSearchCondition condition, LocalDateTime from, LocalDateTime to) {
+        return new LogSearchCondition(condition.getTargetType(), condition.getActorId(),
+                condition.getActionType(), from, to);
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.gagso.Log.service;
 
+import com.example.gagso.Log.dto.LogPageDTO;
 import com.example.gagso.Log.model.ActionType;
-import com.example.gagso.Log.model.LogEntry;
 
 import java.util.List;
 
@@ -9,6 +9,16 @@ public interface LogWriter<T> {
 
     void save(String actor, ActionType action, T target);
 
+    /** 대량 작업용: 기본은 건별 save, 필요한 writer 만 한 번에 넘기도록 재정의 */
+    default void saveAll(String actor, ActionType action, List<T> targets) {
+        for (T target : targets) {
+            save(actor, action, target);
+        }
+    }
 
-    List<LogEntry> getLogList();
+    /**
+     * 해당 writer 대상 타입의 로그를 최신순으로 한 페이지 조회
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지면 null
+     */
+    LogPageDTO getLogList(String cursor, int size);
 }
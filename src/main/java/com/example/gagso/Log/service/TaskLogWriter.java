@@ -1,39 +1,55 @@
 package com.example.gagso.Log.service;
 
+import com.example.gagso.Log.dto.LogPageDTO;
+import com.example.gagso.Log.dto.LogSearchCondition;
 import com.example.gagso.Log.model.ActionType;
 import com.example.gagso.Log.model.LogEntry;
-import com.example.gagso.Log.repository.LogRepository;
 import com.example.gagso.Log.service.LogWriter;
+import com.example.gagso.common.id.IdGenerators;
 import com.example.gagso.WorkRoom.models.Task;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class TaskLogWriter implements LogWriter<Task> {
 
-    private final LogRepository logRepository;
+    private final LogQueryService logQueryService;
+    private final AsyncLogPipeline logPipeline;
 
     @Override
     public void save(String actor, ActionType action, Task target) {
+        logPipeline.submit(toEntry(actor, action, target, LocalDateTime.now()));
+    }
+
+    @Override
+    public void saveAll(String actor, ActionType action, List<Task> targets) {
+        LocalDateTime now = LocalDateTime.now();
+        List<LogEntry> entries = new ArrayList<>(targets.size());
+        for (Task target : targets) {
+            entries.add(toEntry(actor, action, target, now));
+        }
+        logPipeline.submitAll(entries);
+    }
+
+    private LogEntry toEntry(String actor, ActionType action, Task target, LocalDateTime timeStamp) {
         LogEntry entry = new LogEntry();
-        entry.setId(UUID.randomUUID());
+        entry.setId(IdGenerators.next());
         entry.setActorId(actor);
         entry.setActionType(action);
         entry.setTargetType("Task");
-        entry.setTargetId(target.getTaskId());  // Task 클래스의 ID 필드
-        entry.setTimeStamp(LocalDateTime.now());
-
-        logRepository.save(entry);
+        entry.setTargetId(target.getTaskId().toString());  // Task 클래스의 ID 필드
+        entry.setTimeStamp(timeStamp);
+        return entry;
     }
 
     @Override
-    public List<LogEntry> getLogList() {
-        return logRepository.findAll();
+    public LogPageDTO getLogList(String cursor, int size) {
+        return logQueryService.search(LogSearchCondition.ofTargetType("Task"), cursor, size);
     }
 }
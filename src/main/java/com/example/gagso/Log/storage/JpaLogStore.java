@@ -0,0 +1,37 @@
+package com.example.gagso.Log.storage;
+
+import com.example.gagso.Log.dto.LogListItemDTO;
+import com.example.gagso.Log.dto.LogSearchCondition;
+import com.example.gagso.Log.helper.LogCursor;
+import com.example.gagso.Log.model.LogEntry;
+import com.example.gagso.Log.repository.LogBatchInserter;
+import com.example.gagso.Log.repository.LogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * LogEntry 테이블 저장소 (기본값)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "gagso.log.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaLogStore implements LogStore {
+
+    private final LogBatchInserter batchInserter;
+    private final LogRepository logRepository;
+
+    @Override
+    public void appendAll(List<LogEntry> entries) {
+        batchInserter.insertAll(entries);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LogListItemDTO> search(LogSearchCondition condition, LogCursor after, int limit) {
+        return logRepository.search(condition, after, limit);
+    }
+}
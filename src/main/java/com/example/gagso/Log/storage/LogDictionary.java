@@ -0,0 +1,153 @@
+package com.example.gagso.Log.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * actorId / targetType 문자열 사전 (dictionary.log)
+ * 값 종류가 적으므로 세그먼트에는 번호만 쓰고, 새 값이 나올 때만 이 파일에 (종류, 번호, 값) 을 덧붙인다.
+ * 새 항목은 그 번호를 쓰는 레코드보다 먼저 디스크에 내려가야 하므로 추가 즉시 fsync 한다.
+ */
+final class LogDictionary implements Closeable {
+
+    enum Kind { ACTOR, TARGET_TYPE }
+
+    private final FileChannel channel;
+    private final boolean fsync;
+    private final Map<String, Integer>[] ids;
+    private final List<String>[] values;
+    private final long truncatedBytes;
+    private long size;
+
+    @SuppressWarnings("unchecked")
+    private LogDictionary(FileChannel channel, boolean fsync, List<List<String>> loaded, long size, long truncatedBytes) {
+        this.channel = channel;
+        this.fsync = fsync;
+        this.size = size;
+        this.truncatedBytes = truncatedBytes;
+        this.ids = new Map[Kind.values().length];
+        this.values = new List[Kind.values().length];
+        for (Kind kind : Kind.values()) {
+            List<String> list = loaded.get(kind.ordinal());
+            Map<String, Integer> index = new ConcurrentHashMap<>();
+            for (int i = 0; i < list.size(); i++) {
+                index.put(list.get(i), i);
+            }
+            ids[kind.ordinal()] = index;
+            values[kind.ordinal()] = new CopyOnWriteArrayList<>(list);
+        }
+    }
+
+    /** 사전 파일을 읽어 들이고, 끝에 기록 중 끊긴 항목이 있으면 잘라낸다. */
+    static LogDictionary open(Path file, boolean fsync) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long fileSize = channel.size();
+        ByteBuffer buf = ByteBuffer.allocate((int) fileSize);
+        while (buf.hasRemaining()) {
+            if (channel.read(buf, buf.position()) < 0) {
+                break;
+            }
+        }
+
+        List<List<String>> loaded = new ArrayList<>();
+        for (Kind ignored : Kind.values()) {
+            loaded.add(new ArrayList<>());
+        }
+        int offset = 0;
+        int limit = buf.position();
+        while (true) {
+            int frame = LogRecordCodec.frameSize(buf, offset, limit);
+            if (frame < 0) {
+                break;
+            }
+            int p = offset + LogRecordCodec.HEADER_BYTES;
+            int kind = buf.get(p);
+            long v = LogRecordCodec.getVarInt(buf, p + 1);
+            int id = (int) (v >>> 32);
+            int valueStart = (int) v;
+            if (kind < 0 || kind >= Kind.values().length || id != loaded.get(kind).size()) {
+                break;  // 번호가 이어지지 않으면 그 뒤는 믿을 수 없음
+            }
+            byte[] bytes = new byte[offset + frame - valueStart];
+            buf.get(valueStart, bytes);
+            loaded.get(kind).add(new String(bytes, StandardCharsets.UTF_8));
+            offset += frame;
+        }
+
+        if (offset < fileSize) {
+            channel.truncate(offset);
+            channel.force(true);
+        }
+        return new LogDictionary(channel, fsync, loaded, offset, fileSize - offset);
+    }
+
+    /** 값의 번호 (없으면 사전에 추가) */
+    int idOf(Kind kind, String value) throws IOException {
+        Integer id = ids[kind.ordinal()].get(value);
+        return id != null ? id : add(kind, value);
+    }
+
+    /** 값의 번호, 사전에 없으면 -1 (조회 조건용: 없는 값이면 결과도 없음) */
+    int find(Kind kind, String value) {
+        return ids[kind.ordinal()].getOrDefault(value, -1);
+    }
+
+    String valueOf(Kind kind, int id) {
+        List<String> list = values[kind.ordinal()];
+        return id < list.size() ? list.get(id) : "#" + id;
+    }
+
+    int size(Kind kind) {
+        return values[kind.ordinal()].size();
+    }
+
+    long truncatedBytes() {
+        return truncatedBytes;
+    }
+
+    private synchronized int add(Kind kind, String value) throws IOException {
+        Integer existing = ids[kind.ordinal()].get(value);
+        if (existing != null) {
+            return existing;
+        }
+        List<String> list = values[kind.ordinal()];
+        int id = list.size();
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buf = ByteBuffer.allocate(LogRecordCodec.HEADER_BYTES + 1 + 5 + bytes.length);
+        buf.position(LogRecordCodec.HEADER_BYTES);
+        buf.put((byte) kind.ordinal());
+        LogRecordCodec.putVarInt(buf, id);
+        buf.put(bytes);
+        LogRecordCodec.seal(buf, 0);
+        buf.flip();
+        while (buf.hasRemaining()) {
+            size += channel.write(buf, size);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+
+        // 값을 먼저 넣고 번호를 공개해야 조회 쪽에서 valueOf 가 항상 성공한다
+        list.add(value);
+        ids[kind.ordinal()].put(value, id);
+        return id;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.force(true);
+        channel.close();
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.gagso.Log.storage;
+
+import com.example.gagso.Log.model.ActionType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * 세그먼트 / 사전 파일 공통 레코드 형식
+ *
+ * <pre>
+ *  int    payload 길이
+ *  int    CRC32C(payload)
+ *  payload (로그 레코드):
+ *    long    timeStamp (epoch millis)
+ *    long    id 상위 64bit
+ *    long    id 하위 64bit
+ *    varint  actorId 사전 번호
+ *    varint  targetType 사전 번호
+ *    byte    ActionType ordinal
+ *    byte    targetId 형식 (0 = UTF-8, 1 = UUID)
+ *    16byte UUID | varint 길이 + UTF-8
+ * </pre>
+ *
+ * 보통 50바이트 안팎이라 CHAR(36) PK 와 인덱스 4개를 가진 LogEntry 행보다 훨씬 작다.
+ * ActionType 은 ordinal 로 저장하므로 상수는 끝에만 추가해야 한다.
+ */
+final class LogRecordCodec {
+
+    static final int HEADER_BYTES = 8;
+    static final int MAX_PAYLOAD_BYTES = 64 * 1024;
+
+    private static final int FIXED_PAYLOAD_BYTES = 24;
+    private static final byte TARGET_UTF8 = 0;
+    private static final byte TARGET_UUID = 1;
+    private static final ActionType[] ACTIONS = ActionType.values();
+
+    private LogRecordCodec() {
+    }
+
+    /** 레코드 한 건을 인코딩했을 때의 최대 크기 (버퍼 여유 확인용) */
+    static int maxEncodedSize(String targetId) {
+        return HEADER_BYTES + FIXED_PAYLOAD_BYTES + 5 + 5 + 2 + 5 + targetId.length() * 3;
+    }
+
+    /** out 의 현재 위치에 레코드 한 건(헤더 포함)을 쓴다. */
+    static void encode(ByteBuffer out, long epochMillis, UUID id, int actor, int targetType,
+                       ActionType action, String targetId) {
+        int start = out.position();
+        out.position(start + HEADER_BYTES);
+        out.putLong(epochMillis)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        putVarInt(out, actor);
+        putVarInt(out, targetType);
+        out.put((byte) action.ordinal());
+
+        UUID targetUuid = parseCanonicalUuid(targetId);
+        if (targetUuid != null) {
+            out.put(TARGET_UUID)
+                    .putLong(targetUuid.getMostSignificantBits())
+                    .putLong(targetUuid.getLeastSignificantBits());
+        } else {
+            byte[] bytes = targetId.getBytes(StandardCharsets.UTF_8);
+            out.put(TARGET_UTF8);
+            putVarInt(out, bytes.length);
+            out.put(bytes);
+        }
+        seal(out, start);
+    }
+
+    /** start 에서 시작한 레코드의 헤더(길이, CRC)를 채운다. payload 는 현재 위치까지. */
+    static void seal(ByteBuffer out, int start) {
+        int end = out.position();
+        out.putInt(start, end - start - HEADER_BYTES);
+        out.putInt(start + 4, crc(out, start + HEADER_BYTES, end));
+    }
+
+    /**
+     * offset 의 레코드가 limit 안에 온전히 있고 CRC 가 맞으면 헤더 포함 크기, 아니면 -1
+     * (기록 중 끊긴 꼬리나 0 으로 채워진 미사용 영역이면 -1)
+     */
+    static int frameSize(ByteBuffer buf, int offset, int limit) {
+        if (limit - offset < HEADER_BYTES) {
+            return -1;
+        }
+        int length = buf.getInt(offset);
+        if (length <= 0 || length > MAX_PAYLOAD_BYTES || length > limit - offset - HEADER_BYTES) {
+            return -1;
+        }
+        int payload = offset + HEADER_BYTES;
+        if (crc(buf, payload, payload + length) != buf.getInt(offset + 4)) {
+            return -1;
+        }
+        return HEADER_BYTES + length;
+    }
+
+    static int crc(ByteBuffer buf, int from, int to) {
+        CRC32C crc = new CRC32C();
+        crc.update(buf.slice(from, to - from));
+        return (int) crc.getValue();
+    }
+
+    static void putVarInt(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    /** @return (값 << 32) | 다음 위치 */
+    static long getVarInt(ByteBuffer buf, int position) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buf.get(position++);
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0 && shift < 35);
+        return ((long) value << 32) | (position & 0xFFFFFFFFL);
+    }
+
+    private static UUID parseCanonicalUuid(String value) {
+        if (value.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            return uuid.toString().equals(value) ? uuid : null;  // 대소문자 등 원문 그대로 복원되는 경우만
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 레코드 읽기용 재사용 뷰
+     * 스캔 중에는 시간/ID/사전 번호만 풀고, targetId 는 결과로 뽑힌 레코드만 문자열로 만든다.
+     */
+    static final class View {
+        long epochMillis;
+        long idMsb;
+        long idLsb;
+        int actor;
+        int targetType;
+        int action;
+        private ByteBuffer buf;
+        private int targetOffset;
+
+        /** offset 의 레코드를 읽는다. (frameSize 로 검증된 위치여야 함) */
+        View read(ByteBuffer source, int offset) {
+            int p = offset + HEADER_BYTES;
+            buf = source;
+            epochMillis = source.getLong(p);
+            idMsb = source.getLong(p + 8);
+            idLsb = source.getLong(p + 16);
+            long v = getVarInt(source, p + FIXED_PAYLOAD_BYTES);
+            actor = (int) (v >>> 32);
+            v = getVarInt(source, (int) v);
+            targetType = (int) (v >>> 32);
+            p = (int) v;
+            action = source.get(p);
+            targetOffset = p + 1;
+            return this;
+        }
+
+        UUID id() {
+            return new UUID(idMsb, idLsb);
+        }
+
+        ActionType actionType() {
+            return ACTIONS[action];
+        }
+
+        String targetId() {
+            if (buf.get(targetOffset) == TARGET_UUID) {
+                return new UUID(buf.getLong(targetOffset + 1), buf.getLong(targetOffset + 9)).toString();
+            }
+            long v = getVarInt(buf, targetOffset + 1);
+            int length = (int) (v >>> 32);
+            byte[] bytes = new byte[length];
+            buf.get((int) v, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
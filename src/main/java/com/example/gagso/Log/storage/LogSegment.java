@@ -0,0 +1,313 @@
+package com.example.gagso.Log.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 감사 로그 세그먼트 파일 하나 ({sequence 20자리}.seg)
+ *
+ * 활성 세그먼트는 capacity 만큼 미리 늘려 두고 통째로 mmap 해서 읽고, 쓰기는 FileChannel 로 끝에 덧붙인다.
+ * 레코드 index-interval 건마다 블록을 나눠 (시작 위치, 최소/최대 시각) 을 희소 색인으로 들고 있다가
+ * 시간 범위 조회에서 겹치지 않는 블록을 통째로 건너뛴다.
+ * 가득 차면 실제 크기로 잘라 봉인하고 색인을 {sequence}.idx 로 남겨 다음 기동 때 재스캔을 피한다.
+ */
+final class LogSegment implements Closeable {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final int INDEX_MAGIC = 0x474C4F47;   // "GLOG"
+
+    private final long sequence;
+    private final Path path;
+    private final FileChannel channel;
+    private final int capacity;
+    private final int indexInterval;
+
+    // 희소 시간 색인: 블록 i 는 [blockOffsets[i], blockOffsets[i + 1]) 범위
+    private int[] blockOffsets = new int[64];
+    private long[] blockMin = new long[64];
+    private long[] blockMax = new long[64];
+    private int blockCount;
+    private int recordsInBlock;
+
+    private int size;
+    private long recordCount;
+    private long minMillis = Long.MAX_VALUE;
+    private long maxMillis = Long.MIN_VALUE;
+    private long truncatedBytes;
+
+    private MappedByteBuffer mapped;
+    private Snapshot sealedSnapshot;   // 봉인 후에는 바뀌지 않으므로 한 번만 만든다
+
+    private LogSegment(long sequence, Path path, FileChannel channel, int capacity, int indexInterval) {
+        this.sequence = sequence;
+        this.path = path;
+        this.channel = channel;
+        this.capacity = capacity;
+        this.indexInterval = indexInterval;
+    }
+
+    static boolean isSegmentFile(Path file) {
+        return file.getFileName().toString().endsWith(SEGMENT_SUFFIX);
+    }
+
+    static long sequenceOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /** 새 활성 세그먼트 */
+    static LogSegment create(Path dir, long sequence, int capacity, int indexInterval) throws IOException {
+        Path path = dir.resolve(String.format("%020d", sequence) + SEGMENT_SUFFIX);
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        LogSegment segment = new LogSegment(sequence, path, channel, capacity, indexInterval);
+        segment.preallocate();
+        return segment;
+    }
+
+    /**
+     * 기존 세그먼트 열기
+     * 봉인된 세그먼트는 .idx 가 있고 크기가 맞으면 그대로 쓰고, 아니면 처음부터 스캔해서 색인을 다시 만든다.
+     * 스캔은 CRC 가 맞지 않는 첫 레코드에서 멈추고 그 뒤(기록 중 끊긴 꼬리)를 잘라낸다.
+     */
+    static LogSegment open(Path path, int capacity, int indexInterval, boolean active) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        LogSegment segment = new LogSegment(sequenceOf(path), path, channel, capacity, indexInterval);
+        if (!active && segment.loadIndex()) {
+            segment.mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, segment.size);
+            segment.sealedSnapshot = segment.snapshotOf();
+            return segment;
+        }
+
+        segment.recover();
+        if (active) {
+            segment.preallocate();
+        } else {
+            segment.seal();
+        }
+        return segment;
+    }
+
+    private void recover() throws IOException {
+        long fileSize = channel.size();
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IOException("세그먼트가 너무 큽니다: " + path);
+        }
+        int limit = (int) fileSize;
+        ByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, limit);
+        int offset = 0;
+        while (true) {
+            int frame = LogRecordCodec.frameSize(buf, offset, limit);
+            if (frame < 0) {
+                break;
+            }
+            indexRecord(offset, buf.getLong(offset + LogRecordCodec.HEADER_BYTES));
+            offset += frame;
+        }
+        size = offset;
+
+        // 미리 할당된 빈 영역(0) 은 빼고 실제로 버려지는 바이트만 센다
+        int lastWritten = limit;
+        while (lastWritten > offset && buf.get(lastWritten - 1) == 0) {
+            lastWritten--;
+        }
+        truncatedBytes = lastWritten - offset;
+        channel.truncate(offset);
+        channel.force(true);
+    }
+
+    /** 파일을 capacity 까지 늘리고(빈 영역은 0) 전체를 읽기 전용으로 mmap */
+    private void preallocate() throws IOException {
+        channel.write(ByteBuffer.allocate(1), capacity - 1);
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, capacity);
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized int remaining() {
+        return capacity - size;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    synchronized long recordCount() {
+        return recordCount;
+    }
+
+    long truncatedBytes() {
+        return truncatedBytes;
+    }
+
+    /**
+     * 인코딩된 레코드 묶음을 끝에 덧붙인다. (fsync 는 호출 측이 모아서)
+     * @param recordOffsets records 안에서 각 레코드 시작 위치
+     */
+    synchronized void append(ByteBuffer records, int[] recordOffsets, long[] recordMillis, int count) throws IOException {
+        int base = size;
+        int bytes = records.remaining();
+        long position = base;
+        while (records.hasRemaining()) {
+            position += channel.write(records, position);
+        }
+        for (int i = 0; i < count; i++) {
+            indexRecord(base + recordOffsets[i], recordMillis[i]);
+        }
+        size = base + bytes;
+    }
+
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    /** 실제 크기로 잘라 봉인하고 색인 파일을 남긴다. */
+    synchronized void seal() throws IOException {
+        channel.force(false);
+        channel.truncate(size);
+        channel.force(true);
+        writeIndex();
+        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        sealedSnapshot = snapshotOf();
+    }
+
+    /** 조회용 스냅샷 (이 시점까지 기록된 범위만 보인다) */
+    synchronized Snapshot snapshot() {
+        return sealedSnapshot != null ? sealedSnapshot : snapshotOf();
+    }
+
+    private Snapshot snapshotOf() {
+        // 마지막 블록만 계속 바뀌므로 그 최소/최대만 복사하고, 앞 블록은 배열을 그대로 공유한다
+        long lastMin = blockCount > 0 ? blockMin[blockCount - 1] : Long.MAX_VALUE;
+        long lastMax = blockCount > 0 ? blockMax[blockCount - 1] : Long.MIN_VALUE;
+        return new Snapshot(mapped.duplicate(), size, blockCount, blockOffsets, blockMin, blockMax,
+                lastMin, lastMax, minMillis, maxMillis);
+    }
+
+    private void indexRecord(int offset, long millis) {
+        if (blockCount == 0 || recordsInBlock == indexInterval) {
+            if (blockCount == blockOffsets.length) {
+                // 새 배열로 교체 (스냅샷이 들고 있는 옛 배열은 그대로 둔다)
+                int grown = blockCount * 2;
+                blockOffsets = Arrays.copyOf(blockOffsets, grown);
+                blockMin = Arrays.copyOf(blockMin, grown);
+                blockMax = Arrays.copyOf(blockMax, grown);
+            }
+            blockOffsets[blockCount] = offset;
+            blockMin[blockCount] = millis;
+            blockMax[blockCount] = millis;
+            blockCount++;
+            recordsInBlock = 0;
+        } else {
+            int last = blockCount - 1;
+            blockMin[last] = Math.min(blockMin[last], millis);
+            blockMax[last] = Math.max(blockMax[last], millis);
+        }
+        recordsInBlock++;
+        recordCount++;
+        minMillis = Math.min(minMillis, millis);
+        maxMillis = Math.max(maxMillis, millis);
+    }
+
+    private Path indexPath() {
+        return path.resolveSibling(String.format("%020d", sequence) + INDEX_SUFFIX);
+    }
+
+    private void writeIndex() throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(4 + 4 + 8 + 8 + 8 + 4 + blockCount * 20 + 4);
+        buf.putInt(INDEX_MAGIC).putInt(size).putLong(recordCount)
+                .putLong(minMillis).putLong(maxMillis).putInt(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            buf.putInt(blockOffsets[i]).putLong(blockMin[i]).putLong(blockMax[i]);
+        }
+        buf.putInt(LogRecordCodec.crc(buf, 0, buf.position()));
+        buf.flip();
+
+        Path tmp = indexPath().resolveSibling(indexPath().getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buf.hasRemaining()) {
+                out.write(buf);
+            }
+            out.force(true);
+        }
+        Files.move(tmp, indexPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private boolean loadIndex() throws IOException {
+        Path indexPath = indexPath();
+        if (!Files.exists(indexPath)) {
+            return false;
+        }
+        ByteBuffer buf = ByteBuffer.wrap(Files.readAllBytes(indexPath));
+        int limit = buf.limit();
+        if (limit < 40 || buf.getInt(0) != INDEX_MAGIC
+                || LogRecordCodec.crc(buf, 0, limit - 4) != buf.getInt(limit - 4)
+                || buf.getInt(4) != channel.size()) {
+            return false;
+        }
+        size = buf.getInt(4);
+        recordCount = buf.getLong(8);
+        minMillis = buf.getLong(16);
+        maxMillis = buf.getLong(24);
+        blockCount = buf.getInt(32);
+        blockOffsets = new int[Math.max(blockCount, 1)];
+        blockMin = new long[blockOffsets.length];
+        blockMax = new long[blockOffsets.length];
+        buf.position(36);
+        for (int i = 0; i < blockCount; i++) {
+            blockOffsets[i] = buf.getInt();
+            blockMin[i] = buf.getLong();
+            blockMax[i] = buf.getLong();
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel.isOpen()) {
+            channel.force(true);
+            channel.close();
+        }
+    }
+
+    /**
+     * 세그먼트 조회용 스냅샷
+     * 마지막 블록의 끝은 스냅샷 시점의 size 이다.
+     */
+    record Snapshot(ByteBuffer buf, int size, int blockCount,
+                    int[] offsets, long[] mins, long[] maxs,
+                    long lastBlockMin, long lastBlockMax, long minMillis, long maxMillis) {
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int blockStart(int block) {
+            return offsets[block];
+        }
+
+        int blockEnd(int block) {
+            return block + 1 < blockCount ? offsets[block + 1] : size;
+        }
+
+        long blockMin(int block) {
+            return block == blockCount - 1 ? lastBlockMin : mins[block];
+        }
+
+        long blockMax(int block) {
+            return block == blockCount - 1 ? lastBlockMax : maxs[block];
+        }
+    }
+}
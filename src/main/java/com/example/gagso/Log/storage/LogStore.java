@@ -0,0 +1,24 @@
+package com.example.gagso.Log.storage;
+
+import com.example.gagso.Log.dto.LogListItemDTO;
+import com.example.gagso.Log.dto.LogSearchCondition;
+import com.example.gagso.Log.helper.LogCursor;
+import com.example.gagso.Log.model.LogEntry;
+
+import java.util.List;
+
+/**
+ * 감사 로그 저장소 (gagso.log.store 로 선택)
+ * jpa: LogEntry 테이블 (기본) / file: 로컬 디스크 세그먼트 파일
+ */
+public interface LogStore {
+
+    /** 로그 묶음 저장 (AsyncLogPipeline 의 drainer 또는 동기 저장 경로에서 호출) */
+    void appendAll(List<LogEntry> entries);
+
+    /**
+     * 조건에 맞는 로그를 (timeStamp, id) 내림차순으로 최대 limit 건
+     * @param after 이 커서보다 뒤(더 오래된) 로그만, 첫 페이지면 null
+     */
+    List<LogListItemDTO> search(LogSearchCondition condition, LogCursor after, int limit);
+}
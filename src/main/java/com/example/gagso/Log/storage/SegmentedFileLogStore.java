@@ -0,0 +1,380 @@
+package com.example.gagso.Log.storage;
+
+import com.example.gagso.Log.dto.LogListItemDTO;
+import com.example.gagso.Log.dto.LogSearchCondition;
+import com.example.gagso.Log.helper.LogCursor;
+import com.example.gagso.Log.model.LogEntry;
+import com.example.gagso.Log.storage.LogDictionary.Kind;
+import com.example.gagso.common.id.IdGenerators;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크 append-only 감사 로그 저장소 (gagso.log.store=file)
+ *
+ * <pre>
+ *  {dir}/dictionary.log                 ← actorId / targetType 사전
+ *  {dir}/00000000000000000000.seg       ← 봉인된 세그먼트 (+ .idx 희소 시간 색인)
+ *  {dir}/00000000000000000001.seg       ← 활성 세그먼트 (마지막 파일)
+ * </pre>
+ *
+ * 쓰기: drainer 가 넘긴 묶음을 한 버퍼에 인코딩해서 write 한 번으로 붙이고,
+ * fsync 는 동시에 들어온 쓰기들이 한 번의 force 를 나눠 쓴다. (group commit)
+ * 읽기: 세그먼트를 최신순으로 mmap 스캔하면서 시간 범위와 겹치지 않는 세그먼트/블록은 건너뛰고
+ * (timeStamp, id) 내림차순 상위 limit 건만 힙에 남긴다.
+ * 기동 시 마지막 세그먼트를 CRC 로 검증해서 기록 중 끊긴 꼬리를 잘라낸다.
+ *
+ * 시각은 epoch millis 로 저장하므로 조회 결과의 timeStamp 는 밀리초 단위로 잘린다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gagso.log.store", havingValue = "file")
+public class SegmentedFileLogStore implements LogStore {
+
+    private static final String DICTIONARY_FILE = "dictionary.log";
+    private static final int WRITE_BUFFER_BYTES = 1024 * 1024;
+    private static final int MAX_RECORDS_PER_WRITE = 8192;
+
+    // id 는 CHAR(36) 문자열 / BINARY(16) 정렬과 같도록 부호 없는 비교
+    private static final Comparator<Hit> ASCENDING = (a, b) -> {
+        int cmp = Long.compare(a.epochMillis(), b.epochMillis());
+        if (cmp == 0) {
+            cmp = Long.compareUnsigned(a.idMsb(), b.idMsb());
+        }
+        return cmp != 0 ? cmp : Long.compareUnsigned(a.idLsb(), b.idLsb());
+    };
+
+    private final Path dir;
+    private final int segmentBytes;
+    private final int indexInterval;
+    private final boolean fsync;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private final LogDictionary dictionary;
+    private final List<LogSegment> segments = new CopyOnWriteArrayList<>();
+    private volatile LogSegment active;
+
+    // 쓰기 상태 (writeLock 안에서만 사용)
+    private final Object writeLock = new Object();
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+    private final int[] recordOffsets = new int[MAX_RECORDS_PER_WRITE];
+    private final long[] recordMillis = new long[MAX_RECORDS_PER_WRITE];
+    private long written;       // 기동 후 누적 기록 바이트 (세그먼트와 무관한 논리 위치)
+
+    // group commit: synced 까지는 디스크에 내려감
+    private final Object syncLock = new Object();
+    private long synced;
+
+    public SegmentedFileLogStore(@Value("${gagso.log.file.dir}") String dir,
+                                 @Value("${gagso.log.file.segment-size-mb}") int segmentSizeMb,
+                                 @Value("${gagso.log.file.index-interval}") int indexInterval,
+                                 @Value("${gagso.log.file.fsync}") boolean fsync) {
+        if (segmentSizeMb < 2 || segmentSizeMb > 1024) {
+            throw new IllegalArgumentException("gagso.log.file.segment-size-mb 는 2~1024 사이여야 합니다.");
+        }
+        this.dir = Paths.get(dir).toAbsolutePath().normalize();
+        this.segmentBytes = segmentSizeMb * 1024 * 1024;
+        this.indexInterval = Math.max(1, indexInterval);
+        this.fsync = fsync;
+        try {
+            Files.createDirectories(this.dir);
+            this.dictionary = LogDictionary.open(this.dir.resolve(DICTIONARY_FILE), fsync);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 로그 파일 저장소를 열 수 없습니다: " + this.dir, e);
+        }
+    }
+
+    /** 세그먼트를 순서대로 열고, 마지막 세그먼트는 스캔해서 활성 세그먼트로 이어 쓴다. */
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(dir)) {
+            files = list.filter(LogSegment::isSegmentFile)
+                    .sorted(Comparator.comparingLong(LogSegment::sequenceOf))
+                    .toList();
+        }
+
+        long records = 0;
+        long truncated = dictionary.truncatedBytes();
+        for (int i = 0; i < files.size(); i++) {
+            boolean last = i == files.size() - 1;
+            LogSegment segment = LogSegment.open(files.get(i), segmentBytes, indexInterval, last);
+            segments.add(segment);
+            records += segment.recordCount();
+            truncated += segment.truncatedBytes();
+        }
+        if (segments.isEmpty()) {
+            segments.add(LogSegment.create(dir, 0, segmentBytes, indexInterval));
+        }
+        active = segments.get(segments.size() - 1);
+
+        if (truncated > 0) {
+            log.warn("감사 로그 파일 저장소 복구: 기록 중 끊긴 꼬리 {} bytes 를 잘라냈습니다.", truncated);
+        }
+        log.info("감사 로그 파일 저장소 열림: {} (세그먼트 {}개, {}건, 행위자 {}명)",
+                dir, segments.size(), records, dictionary.size(Kind.ACTOR));
+    }
+
+    @Override
+    public void appendAll(List<LogEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        long end;
+        try {
+            synchronized (writeLock) {
+                int next = 0;
+                while (next < entries.size()) {
+                    next = appendChunk(entries, next);
+                }
+                end = written;
+            }
+            if (fsync) {
+                syncTo(end);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("감사 로그 파일 저장 실패", e);
+        }
+    }
+
+    /**
+     * 활성 세그먼트와 쓰기 버퍼에 들어가는 만큼 인코딩해서 write 한 번으로 붙인다.
+     * @return 다음에 쓸 entries 위치
+     */
+    private int appendChunk(List<LogEntry> entries, int from) throws IOException {
+        ByteBuffer buf = writeBuffer.clear();
+        int room = active.remaining();
+        int count = 0;
+        int i = from;
+        for (; i < entries.size() && count < MAX_RECORDS_PER_WRITE; i++) {
+            LogEntry entry = entries.get(i);
+            String targetId = Objects.requireNonNullElse(entry.getTargetId(), "");
+            int max = LogRecordCodec.maxEncodedSize(targetId);
+            if (buf.position() + max > room) {
+                if (count == 0) {
+                    roll();
+                    return from;
+                }
+                break;
+            }
+            if (max > buf.remaining()) {
+                break;
+            }
+
+            if (entry.getId() == null) {
+                entry.setId(IdGenerators.next());
+            }
+            if (entry.getTimeStamp() == null) {
+                entry.setTimeStamp(LocalDateTime.now());
+            }
+            long millis = toEpochMillis(entry.getTimeStamp());
+            recordOffsets[count] = buf.position();
+            recordMillis[count] = millis;
+            LogRecordCodec.encode(buf, millis, entry.getId(),
+                    dictionary.idOf(Kind.ACTOR, Objects.requireNonNullElse(entry.getActorId(), "")),
+                    dictionary.idOf(Kind.TARGET_TYPE, Objects.requireNonNullElse(entry.getTargetType(), "")),
+                    entry.getActionType(), targetId);
+            count++;
+        }
+
+        buf.flip();
+        int bytes = buf.remaining();
+        active.append(buf, recordOffsets, recordMillis, count);
+        written += bytes;
+        return i;
+    }
+
+    /** 활성 세그먼트를 봉인하고 다음 세그먼트로 넘어간다. (writeLock 안에서) */
+    private void roll() throws IOException {
+        LogSegment sealed = active;
+        sealed.seal();
+        LogSegment next = LogSegment.create(dir, sealed.sequence() + 1, segmentBytes, indexInterval);
+        segments.add(next);
+        active = next;
+        log.info("감사 로그 세그먼트 교체: {} → {} ({}건)", sealed.sequence(), next.sequence(), sealed.recordCount());
+    }
+
+    /**
+     * target 까지 디스크에 내려갈 때까지 대기
+     * 먼저 들어온 스레드가 그 시점까지 쓰인 전부를 force 하고, 뒤에 온 스레드는 이미 내려갔으면 바로 돌아간다.
+     * 세그먼트를 교체할 때 옛 세그먼트는 봉인하면서 force 되므로 활성 세그먼트만 force 하면 된다.
+     */
+    private void syncTo(long target) throws IOException {
+        synchronized (syncLock) {
+            if (synced >= target) {
+                return;
+            }
+            long upTo;
+            LogSegment segment;
+            synchronized (writeLock) {
+                upTo = written;
+                segment = active;
+            }
+            segment.force();
+            synced = upTo;
+        }
+    }
+
+    @Override
+    public List<LogListItemDTO> search(LogSearchCondition condition, LogCursor after, int limit) {
+        Filter filter = filterOf(condition, after);
+        if (filter == null || limit <= 0) {
+            return List.of();
+        }
+
+        // 지금까지 찾은 것 중 가장 오래된 것이 head 인 크기 limit 의 힙
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, ASCENDING);
+        LogRecordCodec.View view = new LogRecordCodec.View();
+
+        for (int s = segments.size() - 1; s >= 0; s--) {
+            LogSegment.Snapshot segment = segments.get(s).snapshot();
+            if (segment.isEmpty() || !overlaps(segment.minMillis(), segment.maxMillis(), filter, top, limit)) {
+                continue;
+            }
+            ByteBuffer buf = segment.buf();
+            for (int b = segment.blockCount() - 1; b >= 0; b--) {
+                if (!overlaps(segment.blockMin(b), segment.blockMax(b), filter, top, limit)) {
+                    continue;
+                }
+                int offset = segment.blockStart(b);
+                int end = segment.blockEnd(b);
+                while (offset < end) {
+                    view.read(buf, offset);
+                    if (filter.matches(view)) {
+                        Hit hit = new Hit(view.epochMillis, view.idMsb, view.idLsb, buf, offset);
+                        if (top.size() < limit) {
+                            top.add(hit);
+                        } else if (ASCENDING.compare(hit, top.peek()) > 0) {
+                            top.poll();
+                            top.add(hit);
+                        }
+                    }
+                    offset += LogRecordCodec.HEADER_BYTES + buf.getInt(offset);
+                }
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(ASCENDING.reversed());
+        List<LogListItemDTO> result = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            view.read(hit.buf(), hit.offset());
+            result.add(new LogListItemDTO(
+                    view.id(),
+                    dictionary.valueOf(Kind.ACTOR, view.actor),
+                    view.actionType(),
+                    dictionary.valueOf(Kind.TARGET_TYPE, view.targetType),
+                    view.targetId(),
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(view.epochMillis), zone)));
+        }
+        return result;
+    }
+
+    /** [min, max] 가 조회 범위와 겹치고, 힙이 찼다면 힙의 가장 오래된 것보다 새 레코드가 있을 수 있는지 */
+    private static boolean overlaps(long min, long max, Filter filter, PriorityQueue<Hit> top, int limit) {
+        if (max < filter.fromMillis || min > filter.toMillis) {
+            return false;
+        }
+        return top.size() < limit || max >= top.peek().epochMillis();
+    }
+
+    /** 조회 조건을 사전 번호 / millis 범위로 바꾼다. 사전에 없는 값이면 결과가 없으므로 null */
+    private Filter filterOf(LogSearchCondition condition, LogCursor after) {
+        int actor = -1;
+        if (condition.getActorId() != null && (actor = dictionary.find(Kind.ACTOR, condition.getActorId())) < 0) {
+            return null;
+        }
+        int targetType = -1;
+        if (condition.getTargetType() != null
+                && (targetType = dictionary.find(Kind.TARGET_TYPE, condition.getTargetType())) < 0) {
+            return null;
+        }
+        int action = condition.getActionType() == null ? -1 : condition.getActionType().ordinal();
+
+        // 저장된 시각은 millis 이므로 from(이상) / to(미만) 모두 millis 로 올림해서 비교하면 원래 조건과 같다
+        long fromMillis = condition.getFrom() == null ? Long.MIN_VALUE : toEpochMillisCeil(condition.getFrom());
+        long toMillis = condition.getTo() == null ? Long.MAX_VALUE : toEpochMillisCeil(condition.getTo()) - 1;
+        long cursorMillis = Long.MAX_VALUE;
+        long cursorMsb = 0;
+        long cursorLsb = 0;
+        if (after != null) {
+            cursorMillis = toEpochMillis(after.timeStamp());
+            cursorMsb = after.id().getMostSignificantBits();
+            cursorLsb = after.id().getLeastSignificantBits();
+            toMillis = Math.min(toMillis, cursorMillis);
+        }
+        return new Filter(actor, targetType, action, fromMillis, toMillis,
+                after != null, cursorMillis, cursorMsb, cursorLsb);
+    }
+
+    private long toEpochMillis(LocalDateTime time) {
+        return time.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private long toEpochMillisCeil(LocalDateTime time) {
+        long millis = toEpochMillis(time);
+        return time.getNano() % 1_000_000 == 0 ? millis : millis + 1;
+    }
+
+    @PreDestroy
+    public void close() {
+        synchronized (writeLock) {
+            for (LogSegment segment : segments) {
+                try {
+                    segment.close();
+                } catch (IOException e) {
+                    log.warn("감사 로그 세그먼트 닫기 실패: {}", segment.sequence(), e);
+                }
+            }
+            try {
+                dictionary.close();
+            } catch (IOException e) {
+                log.warn("감사 로그 사전 파일 닫기 실패", e);
+            }
+        }
+    }
+
+    private record Filter(int actor, int targetType, int action, long fromMillis, long toMillis,
+                          boolean hasCursor, long cursorMillis, long cursorMsb, long cursorLsb) {
+
+        boolean matches(LogRecordCodec.View view) {
+            if (view.epochMillis < fromMillis || view.epochMillis > toMillis) {
+                return false;
+            }
+            if ((actor >= 0 && view.actor != actor)
+                    || (targetType >= 0 && view.targetType != targetType)
+                    || (action >= 0 && view.action != action)) {
+                return false;
+            }
+            if (hasCursor && view.epochMillis == cursorMillis) {
+                // (timeStamp, id) < (cursor.timeStamp, cursor.id)
+                int cmp = Long.compareUnsigned(view.idMsb, cursorMsb);
+                return cmp < 0 || (cmp == 0 && Long.compareUnsigned(view.idLsb, cursorLsb) < 0);
+            }
+            return true;
+        }
+    }
+
+    private record Hit(long epochMillis, long idMsb, long idLsb, ByteBuffer buf, int offset) {
+    }
+}
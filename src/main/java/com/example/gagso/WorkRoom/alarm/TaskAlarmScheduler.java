@@ -0,0 +1,285 @@
+package com.example.gagso.WorkRoom.alarm;
+
+import com.example.gagso.WorkRoom.dto.TaskAlarmDTO;
+import com.example.gagso.WorkRoom.event.TaskAlarmEvent;
+import com.example.gagso.WorkRoom.event.TaskRegisteredEvent;
+import com.example.gagso.WorkRoom.models.Task;
+import com.example.gagso.WorkRoom.models.TaskAlarmCheckpoint;
+import com.example.gagso.WorkRoom.repository.TaskAlarmCheckpointRepository;
+import com.example.gagso.WorkRoom.repository.TaskRepository;
+import com.example.gagso.common.timer.HashedTimingWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업무 알림 스케줄러
+ *
+ * 알림 시각은 업무 시작일의 fire-time (기본 09:00).
+ * 앞으로 window-hours 안에 울릴 알림만 DB 에서 읽어 타이밍 휠에 걸어 두고,
+ * 창의 절반이 지날 때마다 다음 구간을 이어서 읽는다. (전체 테이블을 주기적으로 훑지 않음)
+ * 적재에 실패하면 10초부터 두 배씩 늘려 다시 시도하고, 다음 적재는 실패한 구간부터 이어서 읽는다.
+ * 새로 등록된 업무는 커밋 이후 이벤트로 바로 반영한다.
+ *
+ * 어디까지 울렸는지(TaskAlarmCheckpoint)는 checkpoint-seconds 마다와 종료 시 저장하고,
+ * 재기동하면 그 위치부터 다시 읽어서 멈춰 있던 동안 놓친 알림을 바로 울린다. (catch-up-hours 보다 오래된 것은 버림)
+ * 비정상 종료 시에는 마지막 저장 이후 울린 알림이 한 번 더 울릴 수 있다.
+ * 알림이 울리면 TaskAlarmEvent 를 발행한다.
+ */
+@Slf4j
+@Component
+public class TaskAlarmScheduler implements SmartLifecycle {
+
+    private static final Duration INITIAL_RETRY = Duration.ofSeconds(10);
+    private static final Duration MAX_RETRY = Duration.ofMinutes(10);
+
+    private record Scheduled(LocalDateTime at, HashedTimingWheel.Timeout timeout) {
+    }
+
+    private final TaskRepository taskRepository;
+    private final TaskAlarmCheckpointRepository checkpointRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final LocalTime fireTime;
+    private final Duration window;
+    private final Duration catchUp;
+    private final long checkpointMillis;
+    private final ExecutorService alarmExecutor;
+    private final HashedTimingWheel wheel;
+
+    private final Map<UUID, Scheduled> scheduled = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private LocalDateTime loadedUntil;      // 여기까지의 알림은 휠에 올라가 있음 (this 로 동기화)
+    private Duration retryDelay = INITIAL_RETRY;    // 다음 실패 시 재시도 간격 (this 로 동기화)
+
+    public TaskAlarmScheduler(TaskRepository taskRepository,
+                              TaskAlarmCheckpointRepository checkpointRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry,
+                              @Value("${gagso.task.alarm.enabled}") boolean enabled,
+                              @Value("${gagso.task.alarm.fire-time}") String fireTime,
+                              @Value("${gagso.task.alarm.window-hours}") long windowHours,
+                              @Value("${gagso.task.alarm.catch-up-hours}") long catchUpHours,
+                              @Value("${gagso.task.alarm.checkpoint-seconds}") long checkpointSeconds,
+                              @Value("${gagso.task.alarm.tick-ms}") long tickMs,
+                              @Value("${gagso.task.alarm.wheel-size}") int wheelSize,
+                              @Value("${gagso.task.alarm.executor-threads}") int executorThreads) {
+        this.taskRepository = taskRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.fireTime = LocalTime.parse(fireTime);
+        this.window = Duration.ofHours(windowHours);
+        this.catchUp = Duration.ofHours(Math.max(0, catchUpHours));
+        this.checkpointMillis = TimeUnit.SECONDS.toMillis(Math.max(1, checkpointSeconds));
+
+        AtomicInteger threadNo = new AtomicInteger();
+        this.alarmExecutor = Executors.newFixedThreadPool(executorThreads, runnable -> {
+            Thread thread = new Thread(runnable, "task-alarm-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.wheel = new HashedTimingWheel("task-alarm", tickMs, TimeUnit.MILLISECONDS, wheelSize, alarmExecutor);
+
+        Gauge.builder("gagso.task.alarm.scheduled", scheduled, Map::size)
+                .description("타이밍 휠에 예약된 업무 알림 수")
+                .register(meterRegistry);
+    }
+
+    /** 기동(재기동) 시 마지막으로 저장한 진행 위치부터 한 구간 적재 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (running) {
+            refresh();
+            wheel.schedule(this::checkpointPeriodically, checkpointMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** 새 업무가 이미 적재된 구간 안에 울려야 하면 바로 예약 (구간 밖이면 다음 적재 때 읽힘) */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskRegistered(TaskRegisteredEvent event) {
+        Task task = event.task();
+        if (!running || !task.isAlarmEnabled()) {
+            return;
+        }
+        TaskAlarmDTO alarm = new TaskAlarmDTO(task.getTaskId(), task.getTitle(),
+                task.getManagerId(), task.getDeptId(), task.getStartDate());
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime at = alarmAt(alarm);
+        synchronized (this) {
+            if (loadedUntil != null && !at.isBefore(now) && !at.isAfter(loadedUntil)) {
+                schedule(alarm, now);
+            }
+        }
+    }
+
+    /**
+     * 아직 읽지 않은 구간 ~ now + window 를 적재하고, 창의 절반 뒤에 다시 실행되도록 예약
+     * 이미 지난 알림(재기동 전이나 적재 실패 동안 놓친 것)은 catch-up 범위 안이면 바로 울린다.
+     * 실패하면 loadedUntil 을 그대로 두고 짧은 간격으로 다시 시도한다.
+     */
+    synchronized void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        Duration next = window.dividedBy(2);
+        try {
+            // from 보다 뒤(inclusive 면 같은 시각 포함)인 알림을 읽는다
+            boolean inclusive = loadedUntil == null;
+            LocalDateTime from = loadedUntil != null ? loadedUntil : startOfUnfired(now);
+            LocalDateTime oldest = now.minus(catchUp);
+            if (from.isBefore(oldest)) {
+                log.warn("업무 알림 {} ~ {} 구간은 catch-up 범위를 넘어 울리지 않습니다.", from, oldest);
+                from = oldest;
+                inclusive = true;
+            }
+            LocalDateTime to = now.plus(window);
+            int count = 0;
+            int overdue = 0;
+            if (from.isBefore(to)) {
+                for (TaskAlarmDTO alarm : taskRepository.findAlarmsStartingBetween(from.toLocalDate(), to.toLocalDate())) {
+                    LocalDateTime at = alarmAt(alarm);
+                    boolean afterFrom = inclusive ? !at.isBefore(from) : at.isAfter(from);
+                    if (afterFrom && !at.isAfter(to)) {
+                        schedule(alarm, now);
+                        count++;
+                        if (at.isBefore(now)) {
+                            overdue++;
+                        }
+                    }
+                }
+                loadedUntil = to;
+            }
+            retryDelay = INITIAL_RETRY;
+            if (overdue > 0) {
+                log.info("놓친 업무 알림 {}건을 바로 울립니다. ({} 부터)", overdue, from);
+            }
+            log.debug("업무 알림 {}건 예약 ({} ~ {})", count, from, to);
+        } catch (RuntimeException e) {
+            next = retryDelay.compareTo(next) < 0 ? retryDelay : next;
+            retryDelay = retryDelay.multipliedBy(2).compareTo(MAX_RETRY) < 0 ? retryDelay.multipliedBy(2) : MAX_RETRY;
+            log.error("업무 알림 적재 실패, {}초 뒤 다시 시도", next.toSeconds(), e);
+        } finally {
+            if (running) {
+                wheel.schedule(this::refresh, next.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /** 재기동 시 읽기 시작할 위치: 저장된 진행 위치, 없으면(처음 기동) 현재 시각 */
+    private LocalDateTime startOfUnfired(LocalDateTime now) {
+        return checkpointRepository.findById(TaskAlarmCheckpoint.ID)
+                .map(TaskAlarmCheckpoint::getFiredUntil)
+                .filter(firedUntil -> firedUntil.isBefore(now))
+                .orElse(now);
+    }
+
+    /** 지난 알림은 바로(다음 tick) 울린다 */
+    private void schedule(TaskAlarmDTO alarm, LocalDateTime now) {
+        LocalDateTime at = alarmAt(alarm);
+        long delay = at.isBefore(now) ? 0 : Duration.between(now, at).toMillis();
+        HashedTimingWheel.Timeout timeout = wheel.schedule(() -> fire(alarm, at), delay, TimeUnit.MILLISECONDS);
+        Scheduled previous = scheduled.put(alarm.getTaskId(), new Scheduled(at, timeout));
+        if (previous != null) {
+            previous.timeout().cancel();
+        }
+    }
+
+    private void fire(TaskAlarmDTO alarm, LocalDateTime at) {
+        try {
+            eventPublisher.publishEvent(new TaskAlarmEvent(alarm.getTaskId(), alarm.getTitle(),
+                    alarm.getManagerId(), alarm.getDeptId(), at));
+        } catch (RuntimeException e) {
+            log.error("업무 알림 처리 실패: {}", alarm.getTaskId(), e);
+        } finally {
+            // 이벤트 처리가 끝난 뒤에 빼야 진행 위치가 처리 중인 알림을 넘어가지 않는다
+            scheduled.computeIfPresent(alarm.getTaskId(), (id, entry) -> entry.at().equals(at) ? null : entry);
+        }
+    }
+
+    private void checkpointPeriodically() {
+        checkpoint();
+        if (running) {
+            wheel.schedule(this::checkpointPeriodically, checkpointMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 진행 위치 저장: 아직 울리지 않은(처리 중 포함) 가장 이른 알림 시각, 없으면 현재 시각
+     * 적재에 실패해서 loadedUntil 이 현재보다 앞이면 그 뒤는 아직 읽지도 않았으므로 거기까지만
+     */
+    private void checkpoint() {
+        LocalDateTime firedUntil = LocalDateTime.now();
+        for (Scheduled entry : scheduled.values()) {
+            if (entry.at().isBefore(firedUntil)) {
+                firedUntil = entry.at();
+            }
+        }
+        synchronized (this) {
+            if (loadedUntil == null) {
+                return;     // 아직 한 번도 적재하지 못함 (저장된 위치를 그대로 둔다)
+            }
+            if (loadedUntil.isBefore(firedUntil)) {
+                firedUntil = loadedUntil;
+            }
+        }
+        try {
+            checkpointRepository.save(new TaskAlarmCheckpoint(TaskAlarmCheckpoint.ID, firedUntil));
+        } catch (RuntimeException e) {
+            log.warn("업무 알림 진행 위치 저장 실패", e);
+        }
+    }
+
+    private LocalDateTime alarmAt(TaskAlarmDTO alarm) {
+        return alarm.getStartDate().atTime(fireTime);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        wheel.start();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        wheel.stop();
+        alarmExecutor.shutdown();
+        try {
+            alarmExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        checkpoint();
+        scheduled.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getScheduledCount() {
+        return scheduled.size();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.gagso.WorkRoom.controller;
+
+import com.example.gagso.WorkRoom.service.TaskService;
+import com.example.gagso.WorkRoom.storage.AttachmentFile;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 업무 첨부파일 다운로드
+ *
+ * - ETag(내용 해시) / Last-Modified 로 재요청은 304
+ * - Range 요청 지원 (206)
+ * - Tomcat sendfile 을 쓸 수 있으면 커널에서 바로 전송(zero-copy), 아니면 Resource region 스트리밍
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@RequiredArgsConstructor
+public class TaskAttachmentController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final TaskService service;
+
+    @GetMapping("/{taskId}/attachment")
+    public ResponseEntity<?> downloadAttachment(@PathVariable UUID taskId,
+                                                ServletWebRequest webRequest,
+                                                HttpServletRequest request) throws IOException {
+        Optional<AttachmentFile> found = service.findAttachment(taskId);
+        if (found.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        AttachmentFile file = found.get();
+        Resource resource = file.resource();
+
+        String etag = "\"" + file.key() + "\"";
+        long lastModified = resource.lastModified();
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return null;    // 304 Not Modified
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setLastModified(lastModified);
+        headers.setCacheControl(CacheControl.noCache().cachePrivate());
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setContentType(MediaTypeFactory.getMediaType(file.fileName())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM));
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename(file.fileName() != null ? file.fileName() : file.key(), StandardCharsets.UTF_8)
+                .build());
+
+        long length = resource.contentLength();
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(request.getHeader(HttpHeaders.RANGE));
+        } catch (IllegalArgumentException e) {
+            return rangeNotSatisfiable(length);
+        }
+
+        if (ranges.size() <= 1 && resource.isFile() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            long start = 0;
+            long end = length - 1;
+            HttpStatus status = HttpStatus.OK;
+            if (ranges.size() == 1) {
+                try {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                } catch (IllegalArgumentException e) {
+                    return rangeNotSatisfiable(length);
+                }
+                status = HttpStatus.PARTIAL_CONTENT;
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+            request.setAttribute(SENDFILE_FILENAME, resource.getFile().getAbsolutePath());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            headers.setContentLength(end - start + 1);
+            return ResponseEntity.status(status).headers(headers).build();
+        }
+
+        // sendfile 불가 / 다중 Range: Spring 이 Range 헤더를 보고 ResourceRegion 으로 나눠서 스트리밍
+        return ResponseEntity.ok().headers(headers).body(resource);
+    }
+
+    private ResponseEntity<?> rangeNotSatisfiable(long length) {
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                .build();
+    }
+}
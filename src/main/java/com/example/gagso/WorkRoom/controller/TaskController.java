@@ -1,22 +1,47 @@
 package com.example.gagso.WorkRoom.controller;
 
 import com.example.gagso.WorkRoom.dto.TaskDTO;
+import com.example.gagso.WorkRoom.dto.TaskImportResultDTO;
 import com.example.gagso.WorkRoom.dto.TaskListItemDTO;
+import com.example.gagso.WorkRoom.dto.TaskPageDTO;
+import com.example.gagso.WorkRoom.helper.TaskColumnarSnapshot;
+import com.example.gagso.WorkRoom.helper.TaskImportReader;
 import com.example.gagso.WorkRoom.service.TaskService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.function.Consumer;
 
+@Slf4j
 @RestController
 @RequestMapping("/api/tasks")
 @RequiredArgsConstructor
 public class TaskController {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int STREAM_FLUSH_ROWS = 200;
+    private static final int MAX_WORKLOAD_ROWS = 1000;
+    private static final String ANALYTICS_NOT_READY = "업무 분석 데이터를 준비 중입니다. 잠시 후 다시 시도해 주세요.";
+
     private final TaskService service;
+    private final ObjectMapper objectMapper;
 
     @PostMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.MULTIPART_FORM_DATA_VALUE})
     public ResponseEntity<?> registerTask(
@@ -30,18 +55,147 @@ public class TaskController {
         return ResponseEntity.ok("업무가 등록되었습니다.");
     }
 
+    /**
+     * 업무 일괄 등록: POST /api/tasks/import?actorId=...
+     * 본문은 text/csv (첫 줄 헤더) 또는 application/x-ndjson, 행별 실패 사유를 함께 반환한다.
+     * actorId 는 인증이 없어 클라이언트가 주장하는 값 그대로다. (단건 등록의 managerId 와 같은 수준)
+     * 감사 로그에는 그대로 남기고, 누가 보냈는지 추적할 수 있도록 접속 주소는 서버 로그에 따로 남긴다.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<?> importTasks(
+            @RequestParam("actorId") String actorId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body,
+            HttpServletRequest request) throws IOException {
+        if (actorId.isBlank()) {
+            return ResponseEntity.badRequest().body("actorId 가 필요합니다.");
+        }
+        TaskImportReader.Format format = contentType.isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? TaskImportReader.Format.CSV
+                : TaskImportReader.Format.NDJSON;
+        try {
+            TaskImportResultDTO result = service.importTasks(body, format, actorId);
+            log.info("업무 일괄 등록: actorId={} (주장값) from={} 등록 {}건 / 실패 {}건",
+                    actorId, request.getRemoteAddr(), result.getImported(), result.getFailed());
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @GetMapping
     public List<TaskListItemDTO> loadAllTasks() {
         return service.getAllTasks();
     }
 
+    /**
+     * 커서 페이지 조회: GET /api/tasks?size=50&cursor=...
+     * (size 없이 호출하면 기존처럼 전체 배열 반환)
+     */
+    @GetMapping(params = "size")
+    public ResponseEntity<?> loadTaskPage(
+            @RequestParam("size") int size,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        try {
+            TaskPageDTO page = service.getTaskPage(cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 전체 목록 NDJSON 스트리밍: 한 줄에 업무 하나씩, DB 에서 읽는 대로 바로 내려보낸다.
+     */
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public StreamingResponseBody streamTasks() {
+        return out -> service.streamAllTasks(new NdjsonWriter(out));
+    }
+
     @GetMapping("/search")
-    public List<TaskListItemDTO> searchTasks(@RequestParam("title") String title) {
-        return service.search(title);
+    public List<TaskListItemDTO> searchTasks(
+            @RequestParam("title") String title,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return service.search(title, Math.max(1, Math.min(limit, 500)));
+    }
+
+    /**
+     * 달력 조회: GET /api/tasks/calendar?deptId=D01&from=2025-06-01&to=2025-06-30
+     * 기간과 하루라도 겹치는 업무를 시작일 순으로 반환
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<?> loadCalendar(
+            @RequestParam("deptId") String deptId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            return ResponseEntity.ok(service.getCalendar(deptId, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * 부서별 월별 업무 수: GET /api/tasks/analytics/dept-month?from=2025-01&to=2025-12[&deptId=D01]
+     * isPublic / alarmEnabled 로 더 거를 수 있음
+     */
+    @GetMapping("/analytics/dept-month")
+    public ResponseEntity<?> loadDeptMonthCounts(
+            @RequestParam("from") @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam("to") @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @RequestParam(value = "deptId", required = false) String deptId,
+            @RequestParam(value = "isPublic", required = false) Boolean isPublic,
+            @RequestParam(value = "alarmEnabled", required = false) Boolean alarmEnabled) {
+        try {
+            return service.getDeptMonthCounts(new TaskColumnarSnapshot.Filter(deptId, isPublic, alarmEnabled), from, to)
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ANALYTICS_NOT_READY));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * 담당자별 업무량: GET /api/tasks/analytics/workload?asOf=2025-06-01[&deptId=D01][&limit=50]
+     * asOf 없으면 오늘 기준, 진행 중 업무가 많은 순
+     */
+    @GetMapping("/analytics/workload")
+    public ResponseEntity<?> loadWorkload(
+            @RequestParam(value = "asOf", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+            @RequestParam(value = "deptId", required = false) String deptId,
+            @RequestParam(value = "isPublic", required = false) Boolean isPublic,
+            @RequestParam(value = "alarmEnabled", required = false) Boolean alarmEnabled,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return service.getWorkload(new TaskColumnarSnapshot.Filter(deptId, isPublic, alarmEnabled),
+                        asOf != null ? asOf : LocalDate.now(), Math.max(1, Math.min(limit, MAX_WORKLOAD_ROWS)))
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ANALYTICS_NOT_READY));
     }
 
     @GetMapping("/open")
     public ResponseEntity<?> openCreateScreen(@RequestParam String deptId) {
         return ResponseEntity.ok("부서 ID 확인 완료: " + deptId);
     }
+
+    private class NdjsonWriter implements Consumer<TaskListItemDTO> {
+        private final OutputStream out;
+        private int rows;
+
+        NdjsonWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void accept(TaskListItemDTO item) {
+            try {
+                out.write(objectMapper.writeValueAsBytes(item));
+                out.write('\n');
+                if (++rows % STREAM_FLUSH_ROWS == 0) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
\ No newline at end of file
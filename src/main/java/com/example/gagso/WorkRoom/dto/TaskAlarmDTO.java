@@ -0,0 +1,24 @@
+package com.example.gagso.WorkRoom.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 알림 예약용 projection
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskAlarmDTO {
+    private UUID taskId;
+    private String title;
+    private String managerId;
+    private String deptId;
+    private LocalDate startDate;
+}
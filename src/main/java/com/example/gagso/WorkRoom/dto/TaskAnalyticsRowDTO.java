@@ -0,0 +1,27 @@
+package com.example.gagso.WorkRoom.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 분석용 컬럼 스냅샷 적재용 projection (제목/첨부 등 문자열 컬럼은 읽지 않음)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskAnalyticsRowDTO {
+    private UUID taskId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private boolean isPublic;
+    private boolean alarmEnabled;
+    private String deptId;
+    private String managerId;
+    private String managerName;
+}
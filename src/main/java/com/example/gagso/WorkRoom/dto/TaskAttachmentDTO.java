@@ -0,0 +1,15 @@
+package com.example.gagso.WorkRoom.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskAttachmentDTO {
+    private String attachment;      // 첨부파일 저장소 키
+    private String attachmentName;  // 원본 파일명
+}
@@ -0,0 +1,19 @@
+package com.example.gagso.WorkRoom.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 부서별 월별 업무 수 (시작일 기준)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDeptMonthCountDTO {
+    private String deptId;
+    private String month;   // yyyy-MM
+    private long count;
+}
@@ -0,0 +1,15 @@
+package com.example.gagso.WorkRoom.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportErrorDTO {
+    private int row;            // 데이터 행 번호 (CSV 헤더 제외, 1부터)
+    private String message;
+}
@@ -0,0 +1,19 @@
+package com.example.gagso.WorkRoom.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportResultDTO {
+    private int total;                      // 읽은 데이터 행 수
+    private int imported;                   // 등록된 업무 수
+    private int failed;                     // 실패한 행 수
+    private List<TaskImportErrorDTO> errors; // 행별 실패 사유 (앞에서부터 최대 1000건)
+}
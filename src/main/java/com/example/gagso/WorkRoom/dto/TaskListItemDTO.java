@@ -1,5 +1,6 @@
 package com.example.gagso.WorkRoom.dto;
 import java.time.LocalDate;
+import java.util.UUID;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -12,6 +13,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 public class TaskListItemDTO {
+    private UUID taskId;
     private String title;
     private LocalDate startDate;
     private LocalDate endDate;
@@ -0,0 +1,25 @@
+package com.example.gagso.WorkRoom.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 검색 색인 재구성용 projection (attachment 등 나머지 컬럼은 읽지 않음)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchDocDTO {
+    private UUID taskId;
+    private String title;
+    private String unitTask;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String managerName;
+}
@@ -0,0 +1,21 @@
+package com.example.gagso.WorkRoom.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 담당자별 업무량 (기준일 asOf)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskWorkloadDTO {
+    private String managerId;
+    private String managerName;     // 담당자의 가장 최근 업무에 적힌 이름
+    private long active;            // startDate <= asOf <= endDate
+    private long upcoming;          // asOf < startDate
+    private long overdue;           // endDate < asOf (완료 여부 컬럼이 없어 종료일 경과로 판단)
+}
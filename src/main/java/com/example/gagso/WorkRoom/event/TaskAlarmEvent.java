@@ -0,0 +1,10 @@
+package com.example.gagso.WorkRoom.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 업무 알림 시각 도달 이벤트 (TaskAlarmScheduler 의 알림 실행 스레드에서 발행)
+ */
+public record TaskAlarmEvent(UUID taskId, String title, String managerId, String deptId, LocalDateTime alarmAt) {
+}
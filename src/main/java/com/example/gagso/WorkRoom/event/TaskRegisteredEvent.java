@@ -0,0 +1,15 @@
+package com.example.gagso.WorkRoom.event;
+
+import com.example.gagso.WorkRoom.models.Task;
+
+/**
+ * 업무 등록 이벤트
+ * 구독 측은 @TransactionalEventListener 로 커밋 이후에만 반영한다.
+ * @param imported 일괄 등록으로 들어온 업무 (피드는 건별로 보내지 않고 청크마다 TasksImportedEvent 로 한 번만 알림)
+ */
+public record TaskRegisteredEvent(Task task, boolean imported) {
+
+    public TaskRegisteredEvent(Task task) {
+        this(task, false);
+    }
+}
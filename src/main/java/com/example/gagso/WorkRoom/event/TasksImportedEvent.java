@@ -0,0 +1,8 @@
+package com.example.gagso.WorkRoom.event;
+
+/**
+ * 일괄 등록 청크 하나가 커밋된 뒤 한 번 발행 (건별 TaskRegisteredEvent 는 따로 발행됨)
+ * @param count 이번 청크에서 등록된 업무 수
+ */
+public record TasksImportedEvent(int count) {
+}
@@ -0,0 +1,168 @@
+package com.example.gagso.WorkRoom.helper;
+
+import com.example.gagso.WorkRoom.dto.TaskListItemDTO;
+import com.example.gagso.WorkRoom.event.TaskRegisteredEvent;
+import com.example.gagso.WorkRoom.models.Task;
+import com.example.gagso.WorkRoom.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 부서별 업무 달력 메모리 색인
+ *
+ * 같은 부서 달력이 hot-threshold 번 조회되면 그 부서 업무 전체를 구간 트리(TaskIntervalTree)로 올리고,
+ * 이후 기간 조회는 DB 를 거치지 않는다. 부서 수는 max-departments 개까지 LRU 로 유지하고,
+ * 업무 등록은 커밋 이후 이벤트로 반영한다.
+ */
+@Slf4j
+@Component
+public class TaskCalendarIndex {
+
+    private static final int MAX_TRACKED_HITS = 10_000;
+
+    private final TaskRepository taskRepository;
+    private final int hotThreshold;
+
+    private final Map<String, DeptCalendar> calendars;   // access-order LRU, calendars 로 동기화
+    private final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+
+    public TaskCalendarIndex(TaskRepository taskRepository,
+                             @Value("${gagso.task.calendar.max-departments}") int maxDepartments,
+                             @Value("${gagso.task.calendar.hot-threshold}") int hotThreshold) {
+        this.taskRepository = taskRepository;
+        this.hotThreshold = hotThreshold;
+        this.calendars = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DeptCalendar> eldest) {
+                return size() > maxDepartments;
+            }
+        };
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskRegistered(TaskRegisteredEvent event) {
+        Task task = event.task();
+        DeptCalendar calendar;
+        synchronized (calendars) {
+            calendar = calendars.get(task.getDeptId());
+        }
+        if (calendar != null) {
+            calendar.add(new TaskListItemDTO(task.getTaskId(), task.getTitle(),
+                    task.getStartDate(), task.getEndDate(), task.getManagerName()));
+        }
+    }
+
+    /**
+     * [from, to] 와 겹치는 부서 업무 (startDate 오름차순)
+     * @return 아직 자주 조회되지 않은 부서면 empty (호출 측에서 DB 조회)
+     */
+    public Optional<List<TaskListItemDTO>> overlapping(String deptId, LocalDate from, LocalDate to) {
+        DeptCalendar calendar;
+        synchronized (calendars) {
+            calendar = calendars.get(deptId);
+        }
+        if (calendar == null) {
+            if (!isHot(deptId)) {
+                return Optional.empty();
+            }
+            calendar = load(deptId);
+        }
+        return Optional.of(calendar.overlapping(from.toEpochDay(), to.toEpochDay()));
+    }
+
+    public void invalidate() {
+        synchronized (calendars) {
+            calendars.clear();
+        }
+        hits.clear();
+    }
+
+    private boolean isHot(String deptId) {
+        if (hits.size() > MAX_TRACKED_HITS) {
+            hits.clear();
+        }
+        if (hits.computeIfAbsent(deptId, key -> new AtomicInteger()).incrementAndGet() < hotThreshold) {
+            return false;
+        }
+        hits.remove(deptId);
+        return true;
+    }
+
+    /**
+     * 맵에 먼저 등록하고 쓰기 잠금을 쥔 채로 DB 에서 채운다.
+     * 적재 중 들어온 조회/등록 이벤트는 잠금에서 기다리므로 빠지거나 반쯤 찬 트리를 보지 않는다.
+     */
+    private DeptCalendar load(String deptId) {
+        DeptCalendar fresh = new DeptCalendar();
+        fresh.lock.writeLock().lock();
+        try {
+            synchronized (calendars) {
+                DeptCalendar existing = calendars.get(deptId);
+                if (existing != null) {
+                    return existing;
+                }
+                calendars.put(deptId, fresh);
+            }
+            try {
+                for (TaskListItemDTO item : taskRepository.findListItemsByDeptId(deptId)) {
+                    fresh.addLocked(item);
+                }
+            } catch (RuntimeException e) {
+                synchronized (calendars) {
+                    calendars.remove(deptId, fresh);
+                }
+                throw e;
+            }
+            log.debug("부서 달력 색인 적재: {} ({}건)", deptId, fresh.tree.size());
+            return fresh;
+        } finally {
+            fresh.lock.writeLock().unlock();
+        }
+    }
+
+    private static final class DeptCalendar {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final TaskIntervalTree tree = new TaskIntervalTree();
+        private final Set<UUID> taskIds = new HashSet<>();
+
+        void add(TaskListItemDTO item) {
+            lock.writeLock().lock();
+            try {
+                addLocked(item);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        /** 적재와 이벤트가 겹쳐도 같은 업무가 두 번 들어가지 않도록 */
+        void addLocked(TaskListItemDTO item) {
+            if (taskIds.add(item.getTaskId())) {
+                tree.insert(item);
+            }
+        }
+
+        List<TaskListItemDTO> overlapping(long from, long to) {
+            lock.readLock().lock();
+            try {
+                return tree.overlapping(from, to);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,509 @@
+package com.example.gagso.WorkRoom.helper;
+
+import com.example.gagso.WorkRoom.dto.TaskAnalyticsRowDTO;
+import com.example.gagso.WorkRoom.dto.TaskDeptMonthCountDTO;
+import com.example.gagso.WorkRoom.dto.TaskWorkloadDTO;
+import com.example.gagso.WorkRoom.event.TaskRegisteredEvent;
+import com.example.gagso.WorkRoom.models.Task;
+import com.example.gagso.WorkRoom.repository.TaskRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 업무 분석용 메모리 컬럼 스냅샷
+ *
+ * 엔티티 목록 대신 컬럼별 배열로 들고 있는다.
+ *  - 시작/종료일: epoch day int[]
+ *  - 공개/알림 여부: long[] 비트셋
+ *  - 부서/담당자 ID/담당자 이름: 사전 인코딩 (문자열은 값마다 한 번만, 행에는 int 번호)
+ * 한 행이 20바이트 남짓이라 업무 수가 많아도 엔티티 목록보다 훨씬 작고,
+ * 집계는 행 구간을 나눠 fork-join 으로 병렬 스캔한 뒤 부분 결과를 합친다.
+ *
+ * 기동 후 DB 에서 한 번 적재하고, 이후 업무 등록은 커밋된 뒤 이벤트로 뒤에 덧붙인다.
+ * 조회는 발행된 시점의 행 수(view)까지만 읽으므로 덧붙이는 동안에도 잠금 없이 읽는다.
+ */
+@Slf4j
+@Component
+public class TaskColumnarSnapshot {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int SCAN_CHUNK = 1 << 14;     // fork-join 한 조각의 행 수
+    private static final long RETRY_DELAY_SECONDS = 60;
+
+    /** 조회 조건 (null 이면 전체) */
+    public record Filter(String deptId, Boolean isPublic, Boolean alarmEnabled) {
+    }
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool pool;
+    private final ScheduledExecutorService loader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "task-analytics-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Columns columns = new Columns();    // 쓰기 쪽, this 로 동기화
+    private List<Task> pending;                 // 재구성 중에 온 등록 이벤트, this 로 동기화 (null 이면 재구성 중 아님)
+    private volatile View view;                 // null 이면 아직 준비 안 됨
+
+    public TaskColumnarSnapshot(TaskRepository taskRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${gagso.task.analytics.parallelism}") int parallelism) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /** 기동을 막지 않도록 별도 스레드에서 적재하고, 실패하면 잠시 뒤 다시 시도 (그동안 분석 API 는 503) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        loader.execute(this::rebuildOrRetry);
+    }
+
+    /** 업무 등록(일괄 등록 포함)이 커밋된 뒤 증분 반영 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskRegistered(TaskRegisteredEvent event) {
+        add(event.task());
+    }
+
+    private void rebuildOrRetry() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("업무 분석 스냅샷 적재 실패, {}초 뒤 다시 시도", RETRY_DELAY_SECONDS, e);
+            if (!loader.isShutdown()) {
+                loader.schedule(this::rebuildOrRetry, RETRY_DELAY_SECONDS, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    /**
+     * DB 전체를 행 단위로 읽어 다시 만든다 (엔티티/DTO 목록을 메모리에 모으지 않음)
+     *
+     * 읽는 동안 커밋된 업무는 스트림에 보일 수도, 안 보일 수도 있다.
+     * 그래서 그동안 온 등록 이벤트는 pending 에 모아 두었다가, 스트림에서 읽은 ID 와 겹치지 않는 것만 덧붙인다.
+     */
+    public void rebuild() {
+        synchronized (this) {
+            if (pending != null) {
+                throw new IllegalStateException("업무 분석 스냅샷을 이미 재구성하는 중입니다.");
+            }
+            pending = new ArrayList<>();
+        }
+        Columns fresh = new Columns();
+        IdLog streamed = new IdLog();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<TaskAnalyticsRowDTO> rows = taskRepository.streamAllAnalyticsRows()) {
+                    rows.forEach(row -> {
+                        streamed.add(row.getTaskId());
+                        fresh.append(row.getStartDate(), row.getEndDate(), row.isPublic(),
+                                row.isAlarmEnabled(), row.getDeptId(), row.getManagerId(), row.getManagerName());
+                    });
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            synchronized (this) {
+                // 기존 스냅샷이 있으면 그동안 온 이벤트는 거기에 반영
+                if (view != null) {
+                    pending.forEach(columns::append);
+                    view = columns.publish();
+                }
+                pending = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            Set<UUID> seen = streamed.retain(pending);
+            int replayed = 0;
+            for (Task task : pending) {
+                if (!seen.contains(task.getTaskId())) {
+                    fresh.append(task);
+                    replayed++;
+                }
+            }
+            pending = null;
+            columns = fresh;
+            view = fresh.publish();
+            log.info("업무 분석 스냅샷 재구성 완료: {}건 (재구성 중 등록 {}건 반영), 부서 {}개, 담당자 {}명, 약 {}KB",
+                    fresh.size, replayed, fresh.depts.size, fresh.managers.size, fresh.estimatedBytes() / 1024);
+        }
+    }
+
+    public synchronized void add(Task task) {
+        if (pending != null) {
+            pending.add(task);  // 재구성 중이면 끝날 때 중복을 걸러서 반영
+            return;
+        }
+        if (view == null) {
+            return;     // 재구성 전이면 재구성 때 DB 에서 읽힌다
+        }
+        columns.append(task);
+        view = columns.publish();
+    }
+
+    public boolean isReady() {
+        return view != null;
+    }
+
+    /**
+     * 부서별 월별 업무 수 (시작일이 [from, to] 월에 속하는 업무)
+     * @return 스냅샷이 아직 준비되지 않았으면 empty
+     */
+    public Optional<List<TaskDeptMonthCountDTO>> countByDeptAndMonth(Filter filter, YearMonth from, YearMonth to) {
+        View current = view;
+        if (current == null) {
+            return Optional.empty();
+        }
+        Predicate predicate = current.compile(filter);
+        if (predicate == null) {
+            return Optional.of(List.of());
+        }
+
+        int months = (int) (to.getYear() * 12L + to.getMonthValue() - from.getYear() * 12L - from.getMonthValue()) + 1;
+        int[] bounds = new int[months + 1];     // 각 월 1일의 epoch day (마지막은 to 다음 달 1일)
+        for (int m = 0; m <= months; m++) {
+            bounds[m] = (int) from.plusMonths(m).atDay(1).toEpochDay();
+        }
+        int deptCount = current.deptCount;
+
+        long[] counts = scan(current.size, new Aggregation<long[]>() {
+            @Override
+            public long[] leaf(int lo, int hi) {
+                long[] partial = new long[deptCount * months];
+                for (int row = lo; row < hi; row++) {
+                    int start = current.start[row];
+                    if (start < bounds[0] || start >= bounds[months] || !predicate.test(row)) {
+                        continue;
+                    }
+                    int pos = Arrays.binarySearch(bounds, start);
+                    int month = pos >= 0 ? pos : -pos - 2;
+                    partial[current.dept[row] * months + month]++;
+                }
+                return partial;
+            }
+
+            @Override
+            public long[] merge(long[] left, long[] right) {
+                for (int i = 0; i < left.length; i++) {
+                    left[i] += right[i];
+                }
+                return left;
+            }
+        });
+
+        List<TaskDeptMonthCountDTO> result = new ArrayList<>();
+        for (int dept = 0; dept < deptCount; dept++) {
+            for (int month = 0; month < months; month++) {
+                long count = counts[dept * months + month];
+                if (count > 0) {
+                    result.add(new TaskDeptMonthCountDTO(current.deptValues[dept],
+                            from.plusMonths(month).toString(), count));
+                }
+            }
+        }
+        result.sort(Comparator.comparing(TaskDeptMonthCountDTO::getDeptId)
+                .thenComparing(TaskDeptMonthCountDTO::getMonth));
+        return Optional.of(result);
+    }
+
+    /**
+     * 담당자별 업무량 (asOf 기준 진행 중 / 예정 / 종료일 경과), 진행 중이 많은 순 limit 명
+     * @return 스냅샷이 아직 준비되지 않았으면 empty
+     */
+    public Optional<List<TaskWorkloadDTO>> workload(Filter filter, LocalDate asOf, int limit) {
+        View current = view;
+        if (current == null) {
+            return Optional.empty();
+        }
+        Predicate predicate = current.compile(filter);
+        if (predicate == null) {
+            return Optional.of(List.of());
+        }
+        int day = (int) asOf.toEpochDay();
+        int managerCount = current.managerCount;
+
+        Workload total = scan(current.size, new Aggregation<Workload>() {
+            @Override
+            public Workload leaf(int lo, int hi) {
+                Workload partial = new Workload(managerCount);
+                for (int row = lo; row < hi; row++) {
+                    if (!predicate.test(row)) {
+                        continue;
+                    }
+                    int manager = current.manager[row];
+                    int kind = current.start[row] > day ? 1 : current.end[row] < day ? 2 : 0;
+                    partial.counts[manager * 3 + kind]++;
+                    partial.lastRow[manager] = row;     // 행은 등록 순이므로 마지막 행이 가장 최근
+                }
+                return partial;
+            }
+
+            @Override
+            public Workload merge(Workload left, Workload right) {
+                for (int i = 0; i < left.counts.length; i++) {
+                    left.counts[i] += right.counts[i];
+                }
+                for (int i = 0; i < left.lastRow.length; i++) {
+                    left.lastRow[i] = Math.max(left.lastRow[i], right.lastRow[i]);
+                }
+                return left;
+            }
+        });
+
+        List<TaskWorkloadDTO> result = new ArrayList<>();
+        for (int manager = 0; manager < managerCount; manager++) {
+            if (total.lastRow[manager] < 0) {
+                continue;
+            }
+            result.add(new TaskWorkloadDTO(current.managerValues[manager],
+                    current.nameValues[current.managerName[total.lastRow[manager]]],
+                    total.counts[manager * 3], total.counts[manager * 3 + 1], total.counts[manager * 3 + 2]));
+        }
+        return Optional.of(result.stream()
+                .sorted(Comparator.comparingLong(TaskWorkloadDTO::getActive).reversed()
+                        .thenComparing(Comparator.comparingLong(TaskWorkloadDTO::getOverdue).reversed())
+                        .thenComparing(TaskWorkloadDTO::getManagerId))
+                .limit(limit)
+                .toList());
+    }
+
+    @PreDestroy
+    public void close() {
+        loader.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    private <R> R scan(int size, Aggregation<R> aggregation) {
+        return pool.invoke(new ScanTask<>(aggregation, 0, size));
+    }
+
+    private interface Aggregation<R> {
+        R leaf(int lo, int hi);
+
+        /** left 에 right 를 더해서 돌려줌 */
+        R merge(R left, R right);
+    }
+
+    private static final class ScanTask<R> extends RecursiveTask<R> {
+        private final Aggregation<R> aggregation;
+        private final int lo;
+        private final int hi;
+
+        ScanTask(Aggregation<R> aggregation, int lo, int hi) {
+            this.aggregation = aggregation;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected R compute() {
+            if (hi - lo <= SCAN_CHUNK) {
+                return aggregation.leaf(lo, hi);
+            }
+            int mid = (lo + hi) >>> 1;
+            ScanTask<R> left = new ScanTask<>(aggregation, lo, mid);
+            left.fork();
+            R right = new ScanTask<>(aggregation, mid, hi).compute();
+            return aggregation.merge(left.join(), right);
+        }
+    }
+
+    private static final class Workload {
+        final long[] counts;    // 담당자마다 [진행 중, 예정, 종료일 경과]
+        final int[] lastRow;
+
+        Workload(int managerCount) {
+            counts = new long[managerCount * 3];
+            lastRow = new int[managerCount];
+            Arrays.fill(lastRow, -1);
+        }
+    }
+
+    /** 사전 번호로 바꾼 조회 조건 */
+    private record Predicate(View view, int dept, Boolean isPublic, Boolean alarmEnabled) {
+        boolean test(int row) {
+            return (dept < 0 || view.dept[row] == dept)
+                    && (isPublic == null || isSet(view.publicBits, row) == isPublic)
+                    && (alarmEnabled == null || isSet(view.alarmBits, row) == alarmEnabled);
+        }
+    }
+
+    private static boolean isSet(long[] bits, int row) {
+        return (bits[row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * 읽기용 스냅샷: 배열은 쓰기 쪽과 공유하지만 size / deptCount / managerCount 까지만 읽는다.
+     * (쓰기 쪽은 그 뒤에만 쓰고, 배열이 모자라면 새로 복사하므로 이미 발행된 구간은 바뀌지 않음)
+     */
+    private record View(int size, int[] start, int[] end, int[] dept, int[] manager, int[] managerName,
+                        long[] publicBits, long[] alarmBits,
+                        String[] deptValues, int deptCount, String[] managerValues, int managerCount,
+                        String[] nameValues) {
+
+        /** @return 조건의 부서가 스냅샷에 없으면 null (결과 없음) */
+        Predicate compile(Filter filter) {
+            int deptId = -1;
+            if (filter.deptId() != null) {
+                for (int i = 0; i < deptCount && deptId < 0; i++) {
+                    if (deptValues[i].equals(filter.deptId())) {
+                        deptId = i;
+                    }
+                }
+                if (deptId < 0) {
+                    return null;
+                }
+            }
+            return new Predicate(this, deptId, filter.isPublic(), filter.alarmEnabled());
+        }
+    }
+
+    /** 쓰기 쪽 컬럼 (뒤에 덧붙이기만 함) */
+    private static final class Columns {
+        int size;
+        int[] start = new int[INITIAL_CAPACITY];
+        int[] end = new int[INITIAL_CAPACITY];
+        int[] dept = new int[INITIAL_CAPACITY];
+        int[] manager = new int[INITIAL_CAPACITY];
+        int[] managerName = new int[INITIAL_CAPACITY];
+        long[] publicBits = new long[INITIAL_CAPACITY >>> 6];
+        long[] alarmBits = new long[INITIAL_CAPACITY >>> 6];
+        final Dictionary depts = new Dictionary();
+        final Dictionary managers = new Dictionary();
+        final Dictionary names = new Dictionary();
+
+        void append(LocalDate startDate, LocalDate endDate, boolean isPublic, boolean alarmEnabled,
+                    String deptId, String managerId, String name) {
+            if (size == start.length) {
+                grow(size * 2);
+            }
+            int row = size;
+            start[row] = (int) startDate.toEpochDay();
+            end[row] = (int) endDate.toEpochDay();
+            dept[row] = depts.idOf(deptId);
+            manager[row] = managers.idOf(managerId);
+            managerName[row] = names.idOf(name);
+            if (isPublic) {
+                publicBits[row >>> 6] |= 1L << row;
+            }
+            if (alarmEnabled) {
+                alarmBits[row >>> 6] |= 1L << row;
+            }
+            size++;
+        }
+
+        void append(Task task) {
+            append(task.getStartDate(), task.getEndDate(), task.isPublic(), task.isAlarmEnabled(),
+                    task.getDeptId(), task.getManagerId(), task.getManagerName());
+        }
+
+        private void grow(int capacity) {
+            start = Arrays.copyOf(start, capacity);
+            end = Arrays.copyOf(end, capacity);
+            dept = Arrays.copyOf(dept, capacity);
+            manager = Arrays.copyOf(manager, capacity);
+            managerName = Arrays.copyOf(managerName, capacity);
+            publicBits = Arrays.copyOf(publicBits, capacity >>> 6);
+            alarmBits = Arrays.copyOf(alarmBits, capacity >>> 6);
+        }
+
+        View publish() {
+            return new View(size, start, end, dept, manager, managerName, publicBits, alarmBits,
+                    depts.values, depts.size, managers.values, managers.size, names.values);
+        }
+
+        long estimatedBytes() {
+            long rows = (long) start.length * Integer.BYTES * 5 + (long) publicBits.length * Long.BYTES * 2;
+            return rows + depts.estimatedBytes() + managers.estimatedBytes() + names.estimatedBytes();
+        }
+    }
+
+    /** 재구성 중 스트림에서 읽은 업무 ID (UUID 객체 대신 long 두 개씩, 재구성이 끝나면 버림) */
+    private static final class IdLog {
+        long[] bits = new long[INITIAL_CAPACITY * 2];
+        int size;
+
+        void add(UUID id) {
+            if (size * 2 == bits.length) {
+                bits = Arrays.copyOf(bits, bits.length * 2);
+            }
+            bits[size * 2] = id.getMostSignificantBits();
+            bits[size * 2 + 1] = id.getLeastSignificantBits();
+            size++;
+        }
+
+        /** tasks 중 여기 기록된 ID 집합 */
+        Set<UUID> retain(List<Task> tasks) {
+            if (tasks.isEmpty()) {
+                return Set.of();
+            }
+            Set<UUID> candidates = new HashSet<>();
+            tasks.forEach(task -> candidates.add(task.getTaskId()));
+            Set<UUID> seen = new HashSet<>();
+            for (int i = 0; i < size; i++) {
+                UUID id = new UUID(bits[i * 2], bits[i * 2 + 1]);
+                if (candidates.contains(id)) {
+                    seen.add(id);
+                }
+            }
+            return seen;
+        }
+    }
+
+    /** 문자열 ↔ 번호 (null 은 빈 문자열로) */
+    private static final class Dictionary {
+        private final Map<String, Integer> ids = new HashMap<>();
+        String[] values = new String[16];
+        int size;
+
+        int idOf(String value) {
+            String key = value == null ? "" : value;
+            Integer id = ids.get(key);
+            if (id != null) {
+                return id;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size] = key;
+            ids.put(key, size);
+            return size++;
+        }
+
+        long estimatedBytes() {
+            long bytes = 0;
+            for (int i = 0; i < size; i++) {
+                bytes += 40 + values[i].length() * 2L + 48;     // 문자열 + HashMap 항목
+            }
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.gagso.WorkRoom.helper;
+
+import com.example.gagso.WorkRoom.dto.TaskDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 업무 일괄 등록 입력(CSV / NDJSON) 을 한 행씩 읽어서 넘긴다.
+ * 전체를 메모리에 올리지 않고, 형식이 잘못된 행은 예외 대신 error 가 채워진 Row 로 넘긴다.
+ *
+ * CSV: 첫 줄은 헤더, 열 이름은 TaskDTO 필드명 (title, startDate, endDate, isPublic, ...)
+ * NDJSON: 한 줄에 POST /api/tasks 의 taskDto 와 같은 JSON 하나
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskImportReader {
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    /** row 는 데이터 행 번호(1부터), 읽기 실패 시 task 는 null 이고 error 에 사유 */
+    public record Row(int row, TaskDTO task, String error) {
+    }
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @throws IllegalArgumentException CSV 헤더에 title 열이 없을 때
+     */
+    public void read(InputStream in, Format format, Consumer<Row> consumer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        skipBom(reader);
+        if (format == Format.CSV) {
+            readCsv(reader, consumer);
+        } else {
+            readNdjson(reader, consumer);
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, Consumer<Row> consumer) throws IOException {
+        int row = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            row++;
+            try {
+                consumer.accept(new Row(row, objectMapper.readValue(line, TaskDTO.class), null));
+            } catch (JsonProcessingException e) {
+                consumer.accept(new Row(row, null, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage()));
+            }
+        }
+    }
+
+    private void readCsv(BufferedReader reader, Consumer<Row> consumer) throws IOException {
+        List<String> header = readRecord(reader);
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("title")) {
+            throw new IllegalArgumentException("CSV 헤더에 title 열이 없습니다.");
+        }
+
+        int row = 0;
+        List<String> values;
+        while ((values = readRecord(reader)) != null) {
+            if (values.size() == 1 && values.get(0).isBlank()) {
+                continue;
+            }
+            row++;
+            try {
+                consumer.accept(new Row(row, toTask(new CsvRecord(columns, values)), null));
+            } catch (IllegalArgumentException e) {
+                consumer.accept(new Row(row, null, e.getMessage()));
+            }
+        }
+    }
+
+    private static TaskDTO toTask(CsvRecord record) {
+        TaskDTO dto = new TaskDTO();
+        dto.setTitle(record.text("title"));
+        dto.setStartDate(record.date("startDate"));
+        dto.setEndDate(record.date("endDate"));
+        dto.setPublic(record.bool("isPublic", "public"));
+        dto.setPublicStartDate(record.date("publicStartDate"));
+        dto.setPublicEndDate(record.date("publicEndDate"));
+        dto.setAlarmEnabled(record.bool("alarmEnabled"));
+        dto.setManagerId(record.text("managerId"));
+        dto.setManagerName(record.text("managerName"));
+        dto.setDeptId(record.text("deptId"));
+        dto.setUnitTask(record.text("unitTask"));
+        return dto;
+    }
+
+    /** RFC 4180 한 레코드 (따옴표 안의 쉼표/줄바꿈/"" 처리), 입력 끝이면 null */
+    private static List<String> readRecord(BufferedReader in) throws IOException {
+        int c = in.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    int next = in.read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = in.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /** 엑셀에서 저장한 UTF-8 CSV 의 BOM 제거 */
+    private static void skipBom(BufferedReader reader) throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+
+    private record CsvRecord(Map<String, Integer> columns, List<String> values) {
+
+        String text(String name) {
+            Integer index = columns.get(name.toLowerCase(Locale.ROOT));
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        LocalDate date(String name) {
+            String value = text(name);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return LocalDate.parse(value);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException(name + " 날짜 형식(yyyy-MM-dd)이 올바르지 않습니다: " + value);
+            }
+        }
+
+        boolean bool(String... names) {
+            for (String name : names) {
+                String value = text(name);
+                if (value == null) {
+                    continue;
+                }
+                return switch (value.toLowerCase(Locale.ROOT)) {
+                    case "true", "y", "1" -> true;
+                    case "false", "n", "0" -> false;
+                    default -> throw new IllegalArgumentException(name + " 값은 true/false 여야 합니다: " + value);
+                };
+            }
+            return false;
+        }
+    }
+}
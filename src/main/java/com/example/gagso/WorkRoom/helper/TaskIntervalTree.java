@@ -0,0 +1,118 @@
+package com.example.gagso.WorkRoom.helper;
+
+import com.example.gagso.WorkRoom.dto.TaskListItemDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 업무 기간 [startDate, endDate] 구간 트리
+ *
+ * startDate(epochDay) 기준 treap 에 서브트리의 최대 endDate 를 덧붙인 형태라서
+ * 겹침 조회가 O(log n + 결과 수) 이고, 결과는 startDate 오름차순으로 나온다.
+ * 스레드 안전하지 않으므로 호출 측(TaskCalendarIndex)에서 잠금을 건다.
+ */
+class TaskIntervalTree {
+
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+    private int size;
+
+    void insert(TaskListItemDTO item) {
+        Node node = new Node(item, item.getStartDate().toEpochDay(), item.getEndDate().toEpochDay(), random.nextInt());
+        root = insert(root, node);
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** [from, to] (epochDay, 양 끝 포함) 와 겹치는 업무 */
+    List<TaskListItemDTO> overlapping(long from, long to) {
+        List<TaskListItemDTO> result = new ArrayList<>();
+        collect(root, from, to, result);
+        return result;
+    }
+
+    private static void collect(Node node, long from, long to, List<TaskListItemDTO> result) {
+        if (node == null || node.maxEnd < from) {
+            return;     // 이 서브트리에는 from 이후에 끝나는 업무가 없음
+        }
+        collect(node.left, from, to, result);
+        if (node.start > to) {
+            return;     // 오른쪽은 시작일이 더 늦으므로 볼 필요 없음
+        }
+        if (node.end >= from) {
+            result.add(node.item);
+        }
+        collect(node.right, from, to, result);
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.start < node.start) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        left.update();
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        right.update();
+        return right;
+    }
+
+    private static final class Node {
+        private final TaskListItemDTO item;
+        private final long start;
+        private final long end;
+        private final int priority;
+        private long maxEnd;
+        private Node left;
+        private Node right;
+
+        Node(TaskListItemDTO item, long start, long end, int priority) {
+            this.item = item;
+            this.start = start;
+            this.end = end;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+
+        void update() {
+            long max = end;
+            if (left != null) {
+                max = Math.max(max, left.maxEnd);
+            }
+            if (right != null) {
+                max = Math.max(max, right.maxEnd);
+            }
+            maxEnd = max;
+        }
+    }
+}
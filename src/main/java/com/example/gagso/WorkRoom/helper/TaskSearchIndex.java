@@ -0,0 +1,217 @@
+package com.example.gagso.WorkRoom.helper;
+
+import com.example.gagso.WorkRoom.dto.TaskListItemDTO;
+import com.example.gagso.WorkRoom.dto.TaskSearchDocDTO;
+import com.example.gagso.WorkRoom.event.TaskRegisteredEvent;
+import com.example.gagso.WorkRoom.models.Task;
+import com.example.gagso.WorkRoom.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업무 제목(title) / 단위업무(unitTask) 메모리 역색인
+ *
+ * 한글은 형태소 분석 없이 1-gram + 2-gram 으로 색인하고,
+ * 검색어의 2-gram posting 들을 작은 것부터 교집합한 뒤 실제 포함 여부를 확인한다.
+ * 그래서 LIKE '%title%' 처럼 전체 행을 훑지 않고 후보 수에만 비례해서 동작한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskSearchIndex {
+
+    private static final int TITLE_MATCH_SCORE = 100;
+    private static final int TITLE_EXACT_BONUS = 50;
+    private static final int TITLE_PREFIX_BONUS = 20;
+    private static final int UNIT_TASK_MATCH_SCORE = 10;
+
+    private final TaskRepository taskRepository;
+
+    private volatile Snapshot snapshot = new Snapshot();
+    private volatile boolean ready;
+
+    /** 기동 시 DB 전체로 색인 재구성 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /** 업무 등록이 커밋된 뒤 증분 반영 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskRegistered(TaskRegisteredEvent event) {
+        add(event.task());
+    }
+
+    public synchronized void rebuild() {
+        Snapshot fresh = new Snapshot();
+        for (TaskSearchDocDTO doc : taskRepository.findAllSearchDocs()) {
+            fresh.add(doc);
+        }
+        snapshot = fresh;
+        ready = true;
+        log.info("업무 검색 색인 재구성 완료: {}건", fresh.docs.size());
+    }
+
+    public synchronized void add(Task task) {
+        snapshot.add(new TaskSearchDocDTO(task.getTaskId(), task.getTitle(), task.getUnitTask(),
+                task.getStartDate(), task.getEndDate(), task.getManagerName()));
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 색인 검색
+     * @return 색인이 아직 준비되지 않았으면 empty (호출 측에서 DB 검색으로 대체)
+     */
+    public Optional<List<TaskListItemDTO>> search(String query, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        Snapshot current = snapshot;
+        String normalized = normalize(query);
+
+        if (normalized.isEmpty()) {
+            return Optional.of(current.docs.values().stream()
+                    .limit(limit)
+                    .map(Doc::item)
+                    .toList());
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (UUID taskId : current.candidates(normalized)) {
+            Doc doc = current.docs.get(taskId);
+            if (doc == null) {
+                continue;
+            }
+            int score = score(doc, normalized);
+            if (score > 0) {
+                hits.add(new Hit(doc, score));
+            }
+        }
+
+        return Optional.of(hits.stream()
+                .sorted(Comparator.comparingInt(Hit::score).reversed()
+                        .thenComparing(hit -> hit.doc().item().getStartDate(),
+                                Comparator.nullsLast(Comparator.reverseOrder())))
+                .limit(limit)
+                .map(hit -> hit.doc().item())
+                .toList());
+    }
+
+    private int score(Doc doc, String query) {
+        int score = 0;
+        int titlePos = doc.title().indexOf(query);
+        if (titlePos >= 0) {
+            score += TITLE_MATCH_SCORE;
+            if (doc.title().equals(query)) {
+                score += TITLE_EXACT_BONUS;
+            } else if (titlePos == 0) {
+                score += TITLE_PREFIX_BONUS;
+            }
+        }
+        if (doc.unitTask().contains(query)) {
+            score += UNIT_TASK_MATCH_SCORE;
+        }
+        return score;
+    }
+
+    /** 소문자 + 공백 제거 (띄어쓰기가 달라도 찾을 수 있도록) */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /** 1-gram + 2-gram 토큰 */
+    static Set<String> tokenize(String normalized) {
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            tokens.add(normalized.substring(i, i + 1));
+            if (i + 1 < normalized.length()) {
+                tokens.add(normalized.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    /** 검색어 토큰: 한 글자면 1-gram, 아니면 2-gram 만 사용 */
+    static Set<String> queryTokens(String normalized) {
+        if (normalized.length() == 1) {
+            return Set.of(normalized);
+        }
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            tokens.add(normalized.substring(i, i + 2));
+        }
+        return tokens;
+    }
+
+    private record Doc(String title, String unitTask, TaskListItemDTO item) {
+    }
+
+    private record Hit(Doc doc, int score) {
+    }
+
+    private static final class Snapshot {
+        private final Map<UUID, Doc> docs = new ConcurrentHashMap<>();
+        private final Map<String, Set<UUID>> postings = new ConcurrentHashMap<>();
+
+        void add(TaskSearchDocDTO source) {
+            String title = normalize(source.getTitle());
+            String unitTask = normalize(source.getUnitTask());
+            TaskListItemDTO item = new TaskListItemDTO(source.getTaskId(), source.getTitle(),
+                    source.getStartDate(), source.getEndDate(), source.getManagerName());
+            docs.put(source.getTaskId(), new Doc(title, unitTask, item));
+
+            Set<String> tokens = tokenize(title);
+            tokens.addAll(tokenize(unitTask));
+            for (String token : tokens) {
+                postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(source.getTaskId());
+            }
+        }
+
+        /** posting 이 작은 토큰부터 교집합 */
+        Set<UUID> candidates(String normalizedQuery) {
+            List<Set<UUID>> lists = new ArrayList<>();
+            for (String token : queryTokens(normalizedQuery)) {
+                Set<UUID> posting = postings.get(token);
+                if (posting == null) {
+                    return Set.of();
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            Set<UUID> result = new HashSet<>(lists.get(0));
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                result.retainAll(lists.get(i));
+            }
+            return result;
+        }
+    }
+}
@@ -1,28 +1,37 @@
 package com.example.gagso.WorkRoom.models;
 
+import com.example.gagso.common.id.IdGenerators;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
+import java.util.UUID;
 
 @Entity
-@Table(name = "Task")
+@Table(name = "Task", indexes = {
+        // 달력 조회: deptId = ? AND startDate <= :to AND endDate >= :from
+        // 과거 업무가 많은 부서는 endDate 쪽이, 미래 일정이 많은 부서는 startDate 쪽이 더 좁게 잘린다
+        @Index(name = "idx_task_dept_start_end", columnList = "deptId, startDate, endDate"),
+        @Index(name = "idx_task_dept_end_start", columnList = "deptId, endDate, startDate"),
+        // 알림 예약 구간 적재: alarmEnabled = true AND startDate BETWEEN ? AND ?
+        @Index(name = "idx_task_alarm_start", columnList = "alarmEnabled, startDate")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 public class Task {
 
     @Id
-    @Column(name = "taskId", length = 36, nullable = false, updatable = false)
-    private String taskId;
+    @Column(name = "taskId", nullable = false, updatable = false)
+    private UUID taskId;
 
     // JPA가 자동으로 taskId를 생성하도록 PrePersist 로직을 유지하는 것이 좋습니다.
     @PrePersist
     public void prePersist() {
         if (this.taskId == null) {
-            this.taskId = java.util.UUID.randomUUID().toString();
+            this.taskId = IdGenerators.next();
         }
     }
 
@@ -42,7 +51,10 @@ public class Task {
     private boolean alarmEnabled;
 
     @Column(name = "attachment", length = 1000, nullable = true)
-    private String attachment;
+    private String attachment;      // 첨부파일 저장소 키 (내용 SHA-256)
+
+    @Column(name = "attachmentName", length = 255, nullable = true)
+    private String attachmentName;  // 업로드 당시 원본 파일명
 
     @Column(name = "publicStartDate", nullable = true)
     private LocalDate publicStartDate;
@@ -0,0 +1,34 @@
+package com.example.gagso.WorkRoom.models;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업무 알림 진행 위치 (한 행)
+ * firedUntil 보다 앞 시각의 알림은 모두 울린 상태. 재기동하면 여기부터 다시 읽어서 멈춰 있던 동안 놓친 알림을 울린다.
+ */
+@Entity
+@Table(name = "TaskAlarmCheckpoint")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskAlarmCheckpoint {
+
+    public static final String ID = "task-alarm";
+
+    @Id
+    @Column(name = "name", nullable = false, updatable = false, length = 50)
+    private String name;
+
+    @Column(name = "fired_until", nullable = false)
+    private LocalDateTime firedUntil;
+
+    public TaskAlarmCheckpoint(String name, LocalDateTime firedUntil) {
+        this.name = name;
+        this.firedUntil = firedUntil;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.gagso.WorkRoom.repository;
+
+import com.example.gagso.WorkRoom.models.TaskAlarmCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskAlarmCheckpointRepository extends JpaRepository<TaskAlarmCheckpoint, String> {
+}
@@ -0,0 +1,30 @@
+package com.example.gagso.WorkRoom.repository;
+
+import com.example.gagso.WorkRoom.models.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public class TaskBatchInserter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 업무 묶음 INSERT (호출자 트랜잭션에 참여)
+     * taskId 를 미리 채워 두므로 save() 의 merge(SELECT) 없이 persist 하고,
+     * hibernate.jdbc.batch_size 단위로 JDBC 배치 전송된다.
+     */
+    @Transactional
+    public void insertAll(List<Task> tasks) {
+        for (Task task : tasks) {
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -1,20 +1,72 @@
 package com.example.gagso.WorkRoom.repository;
 
+import com.example.gagso.WorkRoom.dto.TaskAlarmDTO;
+import com.example.gagso.WorkRoom.dto.TaskAttachmentDTO;
+import com.example.gagso.WorkRoom.dto.TaskListItemDTO;
+import com.example.gagso.WorkRoom.dto.TaskSearchDocDTO;
 import com.example.gagso.WorkRoom.models.Task;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, String> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskRepositoryCustom {
+
+    // 목록 화면에 필요한 컬럼만 DTO 로 바로 조회 (엔티티/스냅샷 생성 없음)
+    String SELECT_LIST_ITEM = "SELECT new com.example.gagso.WorkRoom.dto.TaskListItemDTO("
+            + "t.taskId, t.title, t.startDate, t.endDate, t.managerName) FROM Task t";
 
     // 제목 검색
-    @Query("SELECT t FROM Task t WHERE t.title LIKE %:title%")
-    List<Task> findByCondition(@Param("title") String title);
+    @Query(SELECT_LIST_ITEM + " WHERE t.title LIKE %:title%")
+    List<TaskListItemDTO> findByCondition(@Param("title") String title);
 
     // 부서 ID로 업무 검색
     List<Task> findByDeptId(String deptId);
+
+    // 달력 조회: [from, to] 기간과 하루라도 겹치는 부서 업무 (idx_task_dept_start_end / idx_task_dept_end_start)
+    @Query(SELECT_LIST_ITEM + " WHERE t.deptId = :deptId AND t.startDate <= :to AND t.endDate >= :from"
+            + " ORDER BY t.startDate, t.taskId")
+    List<TaskListItemDTO> findOverlapping(@Param("deptId") String deptId,
+                                          @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 달력 메모리 색인 적재용: 부서 전체 업무
+    @Query(SELECT_LIST_ITEM + " WHERE t.deptId = :deptId")
+    List<TaskListItemDTO> findListItemsByDeptId(@Param("deptId") String deptId);
+
+    // 알림 예약: 시작일이 [from, to] 인 알림 설정 업무 (idx_task_alarm_start)
+    @Query("SELECT new com.example.gagso.WorkRoom.dto.TaskAlarmDTO("
+            + "t.taskId, t.title, t.managerId, t.deptId, t.startDate) FROM Task t"
+            + " WHERE t.alarmEnabled = true AND t.startDate BETWEEN :from AND :to")
+    List<TaskAlarmDTO> findAlarmsStartingBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 다운로드용: 첨부파일 키와 원본 파일명만 조회
+    @Query("SELECT new com.example.gagso.WorkRoom.dto.TaskAttachmentDTO(t.attachment, t.attachmentName) "
+            + "FROM Task t WHERE t.taskId = :taskId AND t.attachment IS NOT NULL")
+    Optional<TaskAttachmentDTO> findAttachmentByTaskId(@Param("taskId") UUID taskId);
+
+    // 같은 내용의 첨부파일을 참조하는 업무가 있는지 (중복 제거된 파일 정리용)
+    boolean existsByAttachment(String attachment);
+
+    @Query(SELECT_LIST_ITEM)
+    List<TaskListItemDTO> findAllListItems();
+
+    // 목록 커서 페이지 (taskId 는 UUIDv7 이라 등록 순서와 같음), pageable 은 크기 제한용
+    @Query(SELECT_LIST_ITEM + " ORDER BY t.taskId")
+    List<TaskListItemDTO> findListItemPage(Pageable pageable);
+
+    @Query(SELECT_LIST_ITEM + " WHERE t.taskId > :cursor ORDER BY t.taskId")
+    List<TaskListItemDTO> findListItemPageAfter(@Param("cursor") UUID cursor, Pageable pageable);
+
+    // NDJSON / 분석 스냅샷용 스트리밍 조회는 DB 별 fetch size 가 필요해서 TaskRepositoryImpl 에 있음
+
+    @Query("SELECT new com.example.gagso.WorkRoom.dto.TaskSearchDocDTO("
+            + "t.taskId, t.title, t.unitTask, t.startDate, t.endDate, t.managerName) FROM Task t")
+    List<TaskSearchDocDTO> findAllSearchDocs();
 }
@@ -0,0 +1,17 @@
+package com.example.gagso.WorkRoom.repository;
+
+import com.example.gagso.WorkRoom.dto.TaskAnalyticsRowDTO;
+import com.example.gagso.WorkRoom.dto.TaskListItemDTO;
+
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * 전체 목록을 DB 커서에서 행 단위로 읽는 스트림 (taskId 순, 호출 측 트랜잭션 안에서 소비 후 close)
+     */
+    Stream<TaskListItemDTO> streamAllListItems();
+
+    /** 분석용 컬럼 스냅샷 적재 (행 단위 스트리밍, 호출 측 트랜잭션 안에서 소비 후 close) */
+    Stream<TaskAnalyticsRowDTO> streamAllAnalyticsRows();
+}
@@ -0,0 +1,55 @@
+package com.example.gagso.WorkRoom.repository;
+
+import com.example.gagso.WorkRoom.dto.TaskAnalyticsRowDTO;
+import com.example.gagso.WorkRoom.dto.TaskListItemDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * TaskRepositoryCustom 구현 (Spring Data 가 이름 규칙으로 TaskRepository 에 합쳐줌)
+ *
+ * 대량 스트리밍 조회의 fetch size 를 DB 에 맞춰 정한다.
+ * MySQL Connector/J 는 Integer.MIN_VALUE 일 때만 결과를 한 번에 받지 않고 행 단위로 넘기고 (양수는 무시됨),
+ * H2 등 다른 드라이버는 음수를 거부하므로 양수 STREAM_FETCH_SIZE 를 쓴다.
+ */
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Integer fetchSize;
+
+    @Override
+    public Stream<TaskListItemDTO> streamAllListItems() {
+        return entityManager.createQuery(TaskRepository.SELECT_LIST_ITEM + " ORDER BY t.taskId", TaskListItemDTO.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, streamFetchSize())
+                .getResultStream();
+    }
+
+    @Override
+    public Stream<TaskAnalyticsRowDTO> streamAllAnalyticsRows() {
+        return entityManager.createQuery("SELECT new com.example.gagso.WorkRoom.dto.TaskAnalyticsRowDTO("
+                        + "t.taskId, t.startDate, t.endDate, t.isPublic, t.alarmEnabled, t.deptId, t.managerId, t.managerName)"
+                        + " FROM Task t ORDER BY t.taskId", TaskAnalyticsRowDTO.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, streamFetchSize())
+                .getResultStream();
+    }
+
+    private int streamFetchSize() {
+        Integer size = fetchSize;
+        if (size == null) {
+            String product = entityManager.unwrap(Session.class)
+                    .doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+            size = product.toLowerCase(Locale.ROOT).contains("mysql") ? Integer.MIN_VALUE : STREAM_FETCH_SIZE;
+            fetchSize = size;
+        }
+        return size;
+    }
+}
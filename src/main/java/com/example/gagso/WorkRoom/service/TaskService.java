@@ -1,32 +1,86 @@
 package com.example.gagso.WorkRoom.service;
 
 import com.example.gagso.WorkRoom.dto.TaskDTO;
+import com.example.gagso.WorkRoom.dto.TaskDeptMonthCountDTO;
+import com.example.gagso.WorkRoom.dto.TaskImportErrorDTO;
+import com.example.gagso.WorkRoom.dto.TaskImportResultDTO;
 import com.example.gagso.WorkRoom.dto.TaskListItemDTO;
+import com.example.gagso.WorkRoom.dto.TaskPageDTO;
+import com.example.gagso.WorkRoom.dto.TaskWorkloadDTO;
+import com.example.gagso.WorkRoom.event.TaskRegisteredEvent;
+import com.example.gagso.WorkRoom.event.TasksImportedEvent;
+import com.example.gagso.WorkRoom.helper.TaskCalendarIndex;
+import com.example.gagso.WorkRoom.helper.TaskColumnarSnapshot;
+import com.example.gagso.WorkRoom.helper.TaskImportReader;
+import com.example.gagso.WorkRoom.helper.TaskSearchIndex;
 import com.example.gagso.WorkRoom.helper.TaskValidator;
 import com.example.gagso.WorkRoom.models.Task;
+import com.example.gagso.WorkRoom.repository.TaskBatchInserter;
 import com.example.gagso.WorkRoom.repository.TaskRepository;
+import com.example.gagso.WorkRoom.storage.AttachmentFile;
+import com.example.gagso.WorkRoom.storage.AttachmentStore;
+import com.example.gagso.WorkRoom.storage.StoredAttachment;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import com.example.gagso.Log.model.ActionType;
 import com.example.gagso.Log.service.LogWriter;
-import java.io.File;
+import com.example.gagso.common.id.IdGenerators;
+import com.example.gagso.common.singleflight.SingleFlight;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    private static final int IMPORT_CHUNK_SIZE = 500;          // hibernate.jdbc.batch_size 와 맞춤
+    private static final int IMPORT_MAX_REPORTED_ERRORS = 1000;
+    private static final long ANALYTICS_MAX_MONTHS = 120;
+    private static final String FLIGHT_ALL_TASKS = "tasks.all";
+    private static final String FLIGHT_SEARCH = "tasks.search";
+
     private final TaskValidator validator;
     private final TaskRepository taskRepository;
 
     private final LogWriter<Task> taskLogWriter;
 
-    @Transactional
+    private final TaskSearchIndex searchIndex;
+    private final TaskCalendarIndex calendarIndex;
+    private final TaskColumnarSnapshot columnarSnapshot;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AttachmentStore attachmentStore;
+    private final TransactionTemplate transactionTemplate;
+
+    private final TaskImportReader importReader;
+    private final TaskBatchInserter taskBatchInserter;
+
+    private final SingleFlight singleFlight;
+
+    /**
+     * 업무 등록
+     * 첨부파일은 트랜잭션 밖에서 먼저 저장하고, DB 저장만 짧은 트랜잭션으로 처리한다.
+     * (파일 크기/업로드 속도와 무관하게 커넥션 점유 시간이 일정하도록)
+     */
     public String register(TaskDTO dto, MultipartFile file) {
         String validationMessage = validator.validate(dto);
         if (!validationMessage.isEmpty()) {
@@ -36,45 +90,250 @@ public class TaskService {
         Task task = toEntity(dto);
 
         if (file != null && !file.isEmpty()) {
-            String uploadDir = "C:/Users/wodnr/uploads/tasks/";
-            String originalFileName = file.getOriginalFilename();
-            String savedFileName = UUID.randomUUID().toString() + "_" + originalFileName;
-            File dest = new File(uploadDir + savedFileName);
-
-            try {
-                dest.getParentFile().mkdirs();
-                file.transferTo(dest);
-                task.setAttachment(savedFileName);
+            StoredAttachment stored;
+            try (InputStream in = file.getInputStream()) {
+                stored = attachmentStore.store(in, file.getOriginalFilename());
             } catch (IOException e) {
-                e.printStackTrace();
+                log.error("첨부파일 저장 실패: {}", file.getOriginalFilename(), e);
                 return "파일 업로드에 실패했습니다.";
             }
+            task.setAttachment(stored.key());
+            task.setAttachmentName(stored.originalFileName());
         }
 
-        taskRepository.save(task);
-
-        taskLogWriter.save(dto.getManagerId(), ActionType.REGISTER, task);
+        // DB 저장이 실패해서 남은 첨부파일은 여기서 지우지 않는다 (같은 내용을 다른 업무가 막 저장했을 수 있음)
+        // 참조 없는 파일은 AttachmentSweeper 가 grace 기간 뒤에 정리
+        transactionTemplate.executeWithoutResult(status -> {
+            taskRepository.save(task);
+            taskLogWriter.save(dto.getManagerId(), ActionType.REGISTER, task);
+            eventPublisher.publishEvent(new TaskRegisteredEvent(task));
+        });
 
         return "";
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 업무 일괄 등록 (CSV / NDJSON)
+     * 입력을 읽는 대로 검증해서 IMPORT_CHUNK_SIZE 건씩 한 트랜잭션으로 배치 INSERT 한다.
+     * 잘못된 행은 건너뛰고 사유만 모으며, 청크 저장이 실패하면 그 청크만 한 건씩 다시 저장해서 실패 행을 가려낸다.
+     * @param actorId 감사 로그에 남길 등록자 (클라이언트가 보낸 값, 검증된 신원이 아님)
+     */
+    public TaskImportResultDTO importTasks(InputStream in, TaskImportReader.Format format, String actorId)
+            throws IOException {
+        ImportJob job = new ImportJob(actorId);
+        importReader.read(in, format, job::accept);
+        job.flush();
+        return new TaskImportResultDTO(job.total, job.imported, job.failed, job.errors);
+    }
+
+    private void insertChunk(List<Task> tasks, String actorId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            taskBatchInserter.insertAll(tasks);
+            taskLogWriter.saveAll(actorId, ActionType.REGISTER, tasks);
+            for (Task task : tasks) {
+                eventPublisher.publishEvent(new TaskRegisteredEvent(task, true));
+            }
+        });
+    }
+
+    private class ImportJob {
+        private final String actorId;
+        private final List<Task> pending = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        private final List<Integer> pendingRows = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        private final List<TaskImportErrorDTO> errors = new ArrayList<>();
+        private int total;
+        private int imported;
+        private int failed;
+
+        ImportJob(String actorId) {
+            this.actorId = actorId;
+        }
+
+        void accept(TaskImportReader.Row row) {
+            total++;
+            if (row.error() != null) {
+                fail(row.row(), row.error());
+                return;
+            }
+            String validationMessage = validator.validate(row.task());
+            if (!validationMessage.isEmpty()) {
+                fail(row.row(), validationMessage);
+                return;
+            }
+            pending.add(toEntity(row.task()));
+            pendingRows.add(row.row());
+            if (pending.size() >= IMPORT_CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            int before = imported;
+            try {
+                insertChunk(pending, actorId);
+                imported += pending.size();
+            } catch (RuntimeException e) {
+                log.warn("업무 일괄 등록 청크 저장 실패, 건별로 재시도: {}건", pending.size(), e);
+                for (int i = 0; i < pending.size(); i++) {
+                    try {
+                        insertChunk(List.of(pending.get(i)), actorId);
+                        imported++;
+                    } catch (RuntimeException rowError) {
+                        fail(pendingRows.get(i), "저장 실패: " + rootMessage(rowError));
+                    }
+                }
+            }
+            pending.clear();
+            pendingRows.clear();
+            // 건별 재시도로 나눠 저장했어도 피드 알림은 청크마다 한 번
+            if (imported > before) {
+                eventPublisher.publishEvent(new TasksImportedEvent(imported - before));
+            }
+        }
+
+        private void fail(int row, String message) {
+            failed++;
+            if (errors.size() < IMPORT_MAX_REPORTED_ERRORS) {
+                errors.add(new TaskImportErrorDTO(row, message));
+            }
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    /**
+     * 전체 업무 목록
+     * 동시에 들어온 요청은 한 번의 조회 결과를 같이 받는다. (SingleFlight)
+     * 기다리는 요청이 커넥션을 잡지 않도록 트랜잭션은 repository 호출에만 건다.
+     */
     public List<TaskListItemDTO> getAllTasks() {
-        return taskRepository.findAll().stream()
-                .map(this::toListItemDTO)
-                .collect(Collectors.toList());
+        return singleFlight.execute(FLIGHT_ALL_TASKS, FLIGHT_ALL_TASKS,
+                () -> List.copyOf(taskRepository.findAllListItems()));
     }
 
+    /** 업무가 추가되면 합쳐 둔 목록/검색 결과를 버린다 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskRegistered(TaskRegisteredEvent event) {
+        singleFlight.forget(FLIGHT_ALL_TASKS);
+        singleFlight.forget(FLIGHT_SEARCH);
+    }
+
+    /**
+     * 업무 목록 커서 페이지 조회 (taskId 오름차순)
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지면 null
+     */
     @Transactional(readOnly = true)
-    public List<TaskListItemDTO> search(String title) {
-        return taskRepository.findByCondition(title).stream()
-                .map(this::toListItemDTO)
-                .collect(Collectors.toList());
+    public TaskPageDTO getTaskPage(String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);   // 한 건 더 읽어서 다음 페이지 여부 판단
+        List<TaskListItemDTO> rows = (cursor == null || cursor.isBlank())
+                ? taskRepository.findListItemPage(limit)
+                : taskRepository.findListItemPageAfter(UUID.fromString(cursor), limit);
+
+        boolean hasNext = rows.size() > size;
+        List<TaskListItemDTO> items = hasNext ? List.copyOf(rows.subList(0, size)) : rows;
+        String nextCursor = hasNext ? items.get(items.size() - 1).getTaskId().toString() : null;
+        return new TaskPageDTO(items, nextCursor, hasNext);
+    }
+
+    /**
+     * 전체 업무를 DB 커서에서 읽는 대로 한 건씩 넘김 (NDJSON 스트리밍용)
+     * DTO projection 이라 영속성 컨텍스트에 아무것도 쌓이지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public void streamAllTasks(Consumer<TaskListItemDTO> consumer) {
+        try (Stream<TaskListItemDTO> items = taskRepository.streamAllListItems()) {
+            items.forEach(consumer);
+        }
+    }
+
+    /**
+     * 업무 첨부파일 조회
+     * @return 업무가 없거나 첨부가 없거나 저장소에 파일이 없으면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<AttachmentFile> findAttachment(UUID taskId) {
+        return taskRepository.findAttachmentByTaskId(taskId)
+                .flatMap(found -> {
+                    try {
+                        return Optional.of(new AttachmentFile(found.getAttachment(), found.getAttachmentName(),
+                                attachmentStore.load(found.getAttachment())));
+                    } catch (IllegalArgumentException e) {
+                        // 저장소 도입 전 방식(UUID_파일명)으로 저장된 첨부
+                        return Optional.empty();
+                    }
+                })
+                .filter(file -> file.resource().exists());
+    }
+
+    /**
+     * 제목/단위업무 검색 (메모리 역색인, 점수순 limit 건)
+     * 기동 직후 색인이 준비되기 전에만 DB LIKE 검색으로 대체한다.
+     * 같은 (검색어, limit) 동시 요청은 한 번만 실행한다.
+     */
+    public List<TaskListItemDTO> search(String title, int limit) {
+        return singleFlight.execute(FLIGHT_SEARCH, new SearchKey(title, limit), () -> List.copyOf(
+                searchIndex.search(title, limit)
+                        .orElseGet(() -> taskRepository.findByCondition(title).stream()
+                                .limit(limit)
+                                .collect(Collectors.toList()))));
+    }
+
+    private record SearchKey(String title, int limit) {
+    }
+
+    /**
+     * 달력 조회: 부서 업무 중 [from, to] 기간과 겹치는 것 (startDate 오름차순)
+     * 자주 보는 부서는 메모리 구간 트리에서, 나머지는 (deptId, 날짜) 인덱스로 DB 에서 조회한다.
+     * 색인 적중 시 커넥션을 잡지 않도록 트랜잭션은 repository 호출에만 건다.
+     * @throws IllegalArgumentException 기간이 뒤집혔거나 1년을 넘을 때
+     */
+    public List<TaskListItemDTO> getCalendar(String deptId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일은 종료일보다 앞서야 합니다.");
+        }
+        if (!to.isBefore(from.plusYears(1))) {     // from 포함 1년 = from.plusYears(1) 전날까지
+            throw new IllegalArgumentException("조회 기간은 1년을 넘을 수 없습니다.");
+        }
+        return calendarIndex.overlapping(deptId, from, to)
+                .orElseGet(() -> taskRepository.findOverlapping(deptId, from, to));
+    }
+
+    /**
+     * 부서별 월별 업무 수 (시작일 기준, 메모리 컬럼 스냅샷 병렬 스캔)
+     * @return 스냅샷이 아직 준비되지 않았으면 empty
+     * @throws IllegalArgumentException 기간이 뒤집혔거나 10년을 넘을 때
+     */
+    public Optional<List<TaskDeptMonthCountDTO>> getDeptMonthCounts(TaskColumnarSnapshot.Filter filter,
+                                                                    YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작 월은 종료 월보다 앞서야 합니다.");
+        }
+        if (ChronoUnit.MONTHS.between(from, to) >= ANALYTICS_MAX_MONTHS) {
+            throw new IllegalArgumentException("조회 기간은 10년을 넘을 수 없습니다.");
+        }
+        return columnarSnapshot.countByDeptAndMonth(filter, from, to);
+    }
+
+    /**
+     * 담당자별 업무량 (asOf 기준 진행 중 / 예정 / 종료일 경과)
+     * @return 스냅샷이 아직 준비되지 않았으면 empty
+     */
+    public Optional<List<TaskWorkloadDTO>> getWorkload(TaskColumnarSnapshot.Filter filter, LocalDate asOf, int limit) {
+        return columnarSnapshot.workload(filter, asOf, limit);
     }
 
     private Task toEntity(TaskDTO dto) {
         Task task = new Task();
-        task.setTaskId(UUID.randomUUID().toString());
+        task.setTaskId(IdGenerators.next());
         task.setTitle(dto.getTitle());
         task.setStartDate(dto.getStartDate());
         task.setEndDate(dto.getEndDate());
@@ -89,13 +348,4 @@ public class TaskService {
 
         return task;
     }
-
-    private TaskListItemDTO toListItemDTO(Task entity) {
-        return new TaskListItemDTO(
-                entity.getTitle(),
-                entity.getStartDate(),
-                entity.getEndDate(),
-                entity.getManagerName()
-        );
-    }
 }
\ No newline at end of file
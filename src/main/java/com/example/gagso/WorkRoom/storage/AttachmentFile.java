@@ -0,0 +1,11 @@
+package com.example.gagso.WorkRoom.storage;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * 다운로드할 첨부파일
+ * @param key 내용 해시 (ETag 로 사용)
+ * @param fileName 업로드 당시 원본 파일명
+ */
+public record AttachmentFile(String key, String fileName, Resource resource) {
+}
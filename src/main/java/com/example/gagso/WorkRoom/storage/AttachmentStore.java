@@ -0,0 +1,32 @@
+package com.example.gagso.WorkRoom.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * 업무 첨부파일 저장소
+ * 키는 내용 해시이므로 같은 파일은 한 번만 저장되고, 여러 업무가 같은 파일을 가리킬 수 있다.
+ * 그래서 요청 처리 중에는 지우지 않고, 아무 업무도 참조하지 않는 파일을 sweep 으로 나중에 정리한다.
+ */
+public interface AttachmentStore {
+
+    /** 입력 스트림을 끝까지 읽어 저장하고 내용 해시 키를 돌려준다. */
+    StoredAttachment store(InputStream content, String originalFileName) throws IOException;
+
+    boolean exists(String key);
+
+    /** 저장된 파일 (없으면 exists() == false 인 Resource) */
+    Resource load(String key);
+
+    /**
+     * 참조되지 않는 파일 정리
+     * grace 동안 저장(중복 포함)된 적이 없고 isReferenced 가 false 인 파일만 지운다.
+     * 같은 키의 store 와는 서로 배타적으로 실행된다.
+     * @return 지운 파일 수
+     */
+    int sweep(Duration grace, Predicate<String> isReferenced) throws IOException;
+}
@@ -0,0 +1,81 @@
+package com.example.gagso.WorkRoom.storage;
+
+import com.example.gagso.WorkRoom.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 참조되지 않는 첨부파일 정리
+ *
+ * 업무 DB 저장이 실패해서 남은 파일을 요청 처리 중에 바로 지우면,
+ * 같은 내용으로 중복 제거된 다른 업무가 커밋된 직후 파일이 사라질 수 있다.
+ * 그래서 interval-minutes 마다 grace-minutes 동안 저장된 적 없고 어떤 업무도 참조하지 않는 파일만 지운다.
+ */
+@Slf4j
+@Component
+public class AttachmentSweeper implements SmartLifecycle {
+
+    private final AttachmentStore attachmentStore;
+    private final TaskRepository taskRepository;
+    private final Duration grace;
+    private final long intervalMinutes;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "attachment-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean running;
+
+    public AttachmentSweeper(AttachmentStore attachmentStore,
+                             TaskRepository taskRepository,
+                             @Value("${gagso.attachment.gc.grace-minutes}") long graceMinutes,
+                             @Value("${gagso.attachment.gc.interval-minutes}") long intervalMinutes) {
+        this.attachmentStore = attachmentStore;
+        this.taskRepository = taskRepository;
+        this.grace = Duration.ofMinutes(Math.max(1, graceMinutes));
+        this.intervalMinutes = Math.max(1, intervalMinutes);
+    }
+
+    /** @return 지운 파일 수 */
+    public int sweep() throws IOException {
+        int deleted = attachmentStore.sweep(grace, taskRepository::existsByAttachment);
+        if (deleted > 0) {
+            log.info("참조 없는 첨부파일 {}개 삭제", deleted);
+        }
+        return deleted;
+    }
+
+    private void sweepSafely() {
+        try {
+            sweep();
+        } catch (IOException | RuntimeException e) {
+            log.error("첨부파일 정리 실패", e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        executor.scheduleWithFixedDelay(this::sweepSafely, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        executor.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.gagso.WorkRoom.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크 첨부파일 저장소 (content-addressed)
+ *
+ * <pre>
+ *  {root}/ab/cd/abcd...(sha256 hex 64자)
+ *  {root}/tmp/upload-*.part   ← 업로드 중 임시 파일
+ * </pre>
+ *
+ * 업로드 스트림을 FileChannel 로 임시 파일에 쓰면서 SHA-256 을 같이 계산하고,
+ * 다 쓰면 해시 경로로 원자적 이동한다. 이미 같은 해시 파일이 있으면 임시 파일만 지우고 수정 시각을 갱신한다.
+ * 해시는 저장 시 키를 정하는 데만 쓰고, 읽을 때 다시 검증하지는 않는다. (ETag 로만 사용)
+ *
+ * 파일 삭제는 sweep 에서만 한다. 수정 시각이 grace 보다 오래됐고 DB 에서 참조하지 않는 파일만 지우며,
+ * 같은 키의 store 와 sweep 은 키별 잠금으로 겹치지 않는다.
+ * (저장 직후 DB 커밋 전인 업무가 같은 파일로 중복 제거되어도 grace 동안은 지워지지 않음)
+ */
+@Component
+public class LocalAttachmentStore implements AttachmentStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final HexFormat HEX = HexFormat.of();
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path root;
+    private final Path tmpDir;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public LocalAttachmentStore(@Value("${gagso.attachment.root}") String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.tmpDir = this.root.resolve("tmp");
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public StoredAttachment store(InputStream content, String originalFileName) throws IOException {
+        Files.createDirectories(tmpDir);
+        Path tmp = Files.createTempFile(tmpDir, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size = 0;
+
+            try (ReadableByteChannel in = Channels.newChannel(content);
+                 FileChannel out = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+                while (in.read(buffer) != -1) {
+                    buffer.flip();
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        size += out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                out.force(true);
+            }
+
+            String key = HEX.formatHex(digest.digest());
+            Path target = resolve(key);
+            ReentrantLock lock = lockOf(key);
+            lock.lock();
+            try {
+                if (Files.exists(target) && Files.size(target) == size) {
+                    // 같은 내용이 이미 저장되어 있음 → 중복 제거, sweep 이 grace 동안 건드리지 않도록 시각 갱신
+                    Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                    Files.delete(tmp);
+                } else {
+                    Files.createDirectories(target.getParent());
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                lock.unlock();
+            }
+            return new StoredAttachment(key, originalFileName, size);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public Resource load(String key) {
+        return new FileSystemResource(resolve(key));
+    }
+
+    @Override
+    public int sweep(Duration grace, Predicate<String> isReferenced) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return 0;
+        }
+        FileTime cutoff = FileTime.from(Instant.now().minus(grace));
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root, 3)) {
+            files = walk.filter(Files::isRegularFile).toList();
+        }
+
+        int deleted = 0;
+        for (Path file : files) {
+            if (file.startsWith(tmpDir)) {
+                // 저장 중 죽어서 남은 임시 파일
+                if (isOlderThan(file, cutoff)) {
+                    Files.deleteIfExists(file);
+                }
+                continue;
+            }
+            String key = file.getFileName().toString();
+            if (!isKey(key) || !file.equals(resolve(key))) {
+                continue;
+            }
+            ReentrantLock lock = lockOf(key);
+            lock.lock();
+            try {
+                // 잠금을 잡은 뒤 다시 확인: 그 사이 같은 내용이 저장됐으면 시각이 갱신되어 있다
+                if (isOlderThan(file, cutoff) && !isReferenced.test(key)) {
+                    Files.deleteIfExists(file);
+                    deleted++;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return deleted;
+    }
+
+    private static boolean isOlderThan(Path file, FileTime cutoff) throws IOException {
+        return Files.exists(file) && Files.getLastModifiedTime(file).compareTo(cutoff) < 0;
+    }
+
+    private ReentrantLock lockOf(String key) {
+        return locks[Math.floorMod(key.hashCode(), LOCK_STRIPES)];
+    }
+
+    /** 키 → 실제 경로 (키 형식이 아니면 예외, 경로 조작 방지) */
+    public Path resolve(String key) {
+        if (!isKey(key)) {
+            throw new IllegalArgumentException("잘못된 첨부파일 키입니다: " + key);
+        }
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private static boolean isKey(String key) {
+        return key != null && key.length() == 64 && key.chars().allMatch(c -> Character.digit(c, 16) >= 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
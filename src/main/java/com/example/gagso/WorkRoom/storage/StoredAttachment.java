@@ -0,0 +1,8 @@
+package com.example.gagso.WorkRoom.storage;
+
+/**
+ * 저장된 첨부파일 정보
+ * @param key 저장소 내부 키 (내용의 SHA-256 hex)
+ */
+public record StoredAttachment(String key, String originalFileName, long size) {
+}
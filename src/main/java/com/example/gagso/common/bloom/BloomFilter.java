@@ -0,0 +1,89 @@
+package com.example.gagso.common.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키 Bloom filter (스레드 안전, lock-free)
+ *
+ * mightContain 이 false 면 확실히 없는 키이고, true 면 fpp 확률로 오탐일 수 있다.
+ * 비트 위치는 64비트 해시 두 개로 만드는 double hashing (h1 + i * h2) 을 쓴다.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * @param expectedInsertions 예상 키 수
+     * @param fpp 목표 오탐률 (0 ~ 1)
+     */
+    public static BloomFilter create(long expectedInsertions, double fpp) {
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("fpp 는 0 과 1 사이여야 합니다: " + fpp);
+        }
+        long n = Math.max(1, expectedInsertions);
+        long bits = Math.max(64, (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        return new BloomFilter(bits, hashes);
+    }
+
+    public void put(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word;
+            do {
+                word = words.get(index);
+                if ((word & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(index, word, word | mask));
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitCount;
+    }
+
+    /** FNV-1a 64 + 최종 섞기 */
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    /** murmur3 fmix64 */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe1a85ec5L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.gagso.common.id;
+
+import java.util.UUID;
+
+/**
+ * 엔티티 PK 생성기
+ * 구현체는 여러 스레드에서 동시에 호출되어도 안전해야 한다.
+ */
+public interface IdGenerator {
+
+    UUID next();
+}
@@ -0,0 +1,23 @@
+package com.example.gagso.common.id;
+
+import java.util.UUID;
+
+/**
+ * 엔티티 @PrePersist 처럼 빈 주입이 안 되는 곳에서 쓰는 IdGenerator 진입점
+ * 실제 구현체는 IdGeneratorConfig 가 설정값(gagso.id.generator)에 따라 지정한다.
+ */
+public final class IdGenerators {
+
+    private static volatile IdGenerator generator = new TimeOrderedUuidGenerator();
+
+    private IdGenerators() {
+    }
+
+    public static UUID next() {
+        return generator.next();
+    }
+
+    public static void use(IdGenerator idGenerator) {
+        generator = idGenerator;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.gagso.common.id;
+
+import java.util.UUID;
+
+/**
+ * 기존 방식 (UUIDv4, 완전 랜덤)
+ */
+public class RandomUuidGenerator implements IdGenerator {
+
+    @Override
+    public UUID next() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.gagso.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리포지토리 호출별 반환 행 수 히스토그램 (gagso.repository.rows)
+ *
+ * 호출 시간은 Spring Boot 가 spring.data.repository.invocations 로 이미 기록하므로
+ * 여기서는 "몇 건을 읽었는가" 만 남긴다. 컬렉션 / Slice / Optional 반환만 대상이고
+ * exists, count, Stream 반환은 건너뛴다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryMetricsAspect {
+
+    private static final String APP_PACKAGE = "com.example.gagso.";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    @Around("execution(* com.example.gagso..repository.*Repository+.*(..))")
+    public Object recordRows(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = joinPoint.proceed();
+
+        long rows = rowCount(result);
+        if (rows >= 0) {
+            String repository = repositoryName(joinPoint.getThis());
+            String method = joinPoint.getSignature().getName();
+            summaries.computeIfAbsent(repository + "." + method, key -> DistributionSummary
+                            .builder("gagso.repository.rows")
+                            .description("리포지토리 호출당 반환 행 수")
+                            .baseUnit("rows")
+                            .tag("repository", repository)
+                            .tag("method", method)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry))
+                    .record(rows);
+        }
+        return result;
+    }
+
+    private static long rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return -1;
+    }
+
+    /** 프록시가 구현한 인터페이스 중 우리 패키지의 리포지토리 이름 */
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> {
+            for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+                if (candidate.getName().startsWith(APP_PACKAGE)) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+}
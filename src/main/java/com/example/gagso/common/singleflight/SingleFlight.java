@@ -0,0 +1,192 @@
+package com.example.gagso.common.singleflight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 조회 요청 합치기 (single flight)
+ *
+ * 같은 (name, key) 조회가 동시에 들어오면 먼저 온 요청(leader)만 loader 를 실행하고,
+ * 나머지는 그 결과(예외 포함)를 기다렸다가 같이 받는다.
+ * window-ms 가 0 보다 크면 끝난 결과를 그 시간 동안 더 들고 있어서, 직후에 오는 같은 요청도 바로 돌려준다.
+ * 결과 객체를 여러 요청이 공유하므로 loader 는 불변 값(List.copyOf 등)을 돌려줘야 한다.
+ *
+ * 메트릭: gagso.singleflight.calls{name, outcome=executed|shared|cached}
+ *        gagso.singleflight.coalescing.ratio{name} (loader 를 실행하지 않고 끝난 요청 비율)
+ */
+@Component
+public class SingleFlight {
+
+    private record FlightKey(String name, Object key) {
+    }
+
+    private static final class Flight {
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        final long generation;
+        volatile long completedAtNanos;
+
+        Flight(long generation) {
+            this.generation = generation;
+        }
+    }
+
+    private final class Stats {
+        final AtomicLong generation = new AtomicLong();
+        final LongAdder executed = new LongAdder();
+        final LongAdder coalesced = new LongAdder();
+        final Counter executedCounter;
+        final Counter sharedCounter;
+        final Counter cachedCounter;
+
+        Stats(String name) {
+            executedCounter = counter(name, "executed");
+            sharedCounter = counter(name, "shared");
+            cachedCounter = counter(name, "cached");
+            Gauge.builder("gagso.singleflight.coalescing.ratio", this, Stats::ratio)
+                    .description("loader 를 실행하지 않고 다른 요청 결과를 받은 비율")
+                    .tag("name", name)
+                    .register(meterRegistry);
+        }
+
+        private Counter counter(String name, String outcome) {
+            return Counter.builder("gagso.singleflight.calls")
+                    .description("합치기 대상 조회 요청 수")
+                    .tag("name", name)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+
+        double ratio() {
+            long coalescedCount = coalesced.sum();
+            long total = executed.sum() + coalescedCount;
+            return total == 0 ? 0 : (double) coalescedCount / total;
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxEntries;
+
+    private final ConcurrentHashMap<FlightKey, Flight> flights = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Stats> stats = new ConcurrentHashMap<>();
+
+    public SingleFlight(MeterRegistry meterRegistry,
+                        @Value("${gagso.single-flight.enabled}") boolean enabled,
+                        @Value("${gagso.single-flight.window-ms}") long windowMillis,
+                        @Value("${gagso.single-flight.max-entries}") int maxEntries) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.windowNanos = Math.max(0, windowMillis) * 1_000_000;
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * (name, key) 조회를 합쳐서 실행
+     * @param name 조회 종류 (메트릭 태그, forget 단위)
+     * @param key  같은 결과를 내는 요청끼리 같아야 함 (equals/hashCode)
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V execute(String name, Object key, Supplier<V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Stats stat = stats.computeIfAbsent(name, Stats::new);
+        FlightKey flightKey = new FlightKey(name, key);
+
+        while (true) {
+            long generation = stat.generation.get();
+            Flight flight = flights.get(flightKey);
+            if (flight != null && flight.generation == generation) {
+                if (!flight.future.isDone()) {
+                    stat.coalesced.increment();
+                    stat.sharedCounter.increment();
+                    return (V) await(flight);
+                }
+                if (isFresh(flight)) {
+                    stat.coalesced.increment();
+                    stat.cachedCounter.increment();
+                    return (V) await(flight);
+                }
+            }
+
+            // 없거나, 보관 기간이 지났거나, forget 이전에 시작된 결과면 새로 실행
+            Flight mine = new Flight(generation);
+            boolean leader = flight == null
+                    ? flights.putIfAbsent(flightKey, mine) == null
+                    : flights.replace(flightKey, flight, mine);
+            if (!leader) {
+                continue;   // 다른 스레드가 먼저 leader 가 됨
+            }
+            stat.executed.increment();
+            stat.executedCounter.increment();
+            return (V) lead(flightKey, mine, loader);
+        }
+    }
+
+    /** 이 name 의 진행 중/보관 중인 결과를 더 이상 쓰지 않음 (데이터 변경 시) */
+    public void forget(String name) {
+        Stats stat = stats.get(name);
+        if (stat != null) {
+            stat.generation.incrementAndGet();
+        }
+    }
+
+    private Object lead(FlightKey flightKey, Flight flight, Supplier<?> loader) {
+        try {
+            Object value = loader.get();
+            flight.completedAtNanos = System.nanoTime();
+            flight.future.complete(value);
+            if (windowNanos == 0) {
+                flights.remove(flightKey, flight);
+            } else if (flights.size() > maxEntries) {
+                sweep();
+            }
+            return value;
+        } catch (RuntimeException | Error e) {
+            // 실패는 보관하지 않는다. 기다리던 요청만 같은 예외를 받음
+            flights.remove(flightKey, flight);
+            flight.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private boolean isFresh(Flight flight) {
+        return System.nanoTime() - flight.completedAtNanos < windowNanos;
+    }
+
+    /** 보관 기간이 지났거나 forget 된 결과 정리 */
+    private void sweep() {
+        flights.entrySet().removeIf(entry -> {
+            Flight flight = entry.getValue();
+            Stats stat = stats.get(entry.getKey().name());
+            return flight.future.isDone()
+                    && (!isFresh(flight) || stat == null || flight.generation != stat.generation.get());
+        });
+    }
+
+    private static Object await(Flight flight) {
+        try {
+            return flight.future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
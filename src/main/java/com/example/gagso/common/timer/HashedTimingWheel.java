@@ -0,0 +1,194 @@
+package com.example.gagso.common.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 해시 타이밍 휠
+ *
+ * tick 간격으로 도는 슬롯 배열에 작업을 걸어 두고, 현재 슬롯에서 만료된 것만 executor 로 넘긴다.
+ * 등록/취소는 O(1) (등록은 큐에 넣고 ticker 스레드가 다음 tick 에 슬롯으로 옮김),
+ * 슬롯 수보다 먼 작업은 남은 바퀴 수(rounds)를 세면서 기다린다.
+ * 실행 시각 정밀도는 tick 간격이다.
+ */
+public final class HashedTimingWheel {
+
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    private final String name;
+    private final long tickNanos;
+    private final List<Timeout>[] wheel;
+    private final int mask;
+    private final Executor executor;
+
+    private final Queue<Timeout> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private volatile boolean running;
+    private volatile long startNanos;
+    private Thread ticker;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, long tickDuration, TimeUnit unit, int wheelSize, Executor executor) {
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize 는 2의 거듭제곱이어야 합니다: " + wheelSize);
+        }
+        this.name = name;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        this.mask = wheelSize - 1;
+        this.executor = executor;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        startNanos = System.nanoTime();
+        running = true;
+        ticker = new Thread(this::run, name + "-ticker");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    /** ticker 를 멈춘다. 아직 실행되지 않은 작업은 버린다. */
+    public synchronized void stop() {
+        running = false;
+        if (ticker != null) {
+            ticker.interrupt();
+            try {
+                ticker.join(TimeUnit.NANOSECONDS.toMillis(tickNanos) + 1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ticker = null;
+        }
+    }
+
+    /**
+     * delay 뒤에 task 를 executor 에서 실행
+     * @throws IllegalStateException 휠이 시작되지 않았을 때
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException(name + " 타이밍 휠이 동작 중이 아닙니다.");
+        }
+        long deadline = System.nanoTime() + Math.max(0, unit.toNanos(delay)) - startNanos;
+        Timeout timeout = new Timeout(this, task, deadline);
+        pending.incrementAndGet();
+        incoming.add(timeout);
+        return timeout;
+    }
+
+    /** 등록되어 아직 실행/취소되지 않은 작업 수 */
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    private void run() {
+        while (running) {
+            if (!waitForNextTick()) {
+                break;
+            }
+            transferIncoming();
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private boolean waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long sleepNanos = deadline - (System.nanoTime() - startNanos);
+            if (sleepNanos <= 0) {
+                return true;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void transferIncoming() {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            Timeout timeout = incoming.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() != Timeout.ST_INIT) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.rounds = Math.max(0, (calculated - tick) / wheel.length);
+            long slot = Math.max(calculated, tick);   // 이미 지난 작업은 이번 tick 에 실행
+            wheel[(int) (slot & mask)].add(timeout);
+        }
+    }
+
+    /** 만료된 작업 실행, 취소된 작업 제거, 나머지는 바퀴 수만 줄여서 남겨 둠 */
+    private void expire(List<Timeout> bucket) {
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            Timeout timeout = bucket.get(i);
+            if (timeout.state.get() != Timeout.ST_INIT) {
+                continue;
+            }
+            if (timeout.rounds > 0) {
+                timeout.rounds--;
+                bucket.set(kept++, timeout);
+            } else if (timeout.state.compareAndSet(Timeout.ST_INIT, Timeout.ST_EXPIRED)) {
+                pending.decrementAndGet();
+                executor.execute(timeout.task);
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+
+    public static final class Timeout {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final HashedTimingWheel owner;
+        private final Runnable task;
+        private final long deadline;        // startNanos 기준 상대 시각
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+        private long rounds;                // ticker 스레드만 접근
+
+        private Timeout(HashedTimingWheel owner, Runnable task, long deadline) {
+            this.owner = owner;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /** 아직 실행되지 않았으면 취소 (슬롯에서는 다음 순회 때 빠진다) */
+        public boolean cancel() {
+            if (state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                owner.pending.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == ST_EXPIRED;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.gagso.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * 프로젝트 공통 기본 설정값 로딩
+ * 로컬 application.properties 에 같은 키가 있으면 그 값이 우선한다.
+ */
+@Configuration
+@PropertySource(value = "classpath:gagso-defaults.properties", encoding = "UTF-8")
+public class DefaultPropertiesConfig {
+}
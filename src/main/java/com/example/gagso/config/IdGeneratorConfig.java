@@ -0,0 +1,29 @@
+package com.example.gagso.config;
+
+import com.example.gagso.common.id.IdGenerator;
+import com.example.gagso.common.id.IdGenerators;
+import com.example.gagso.common.id.RandomUuidGenerator;
+import com.example.gagso.common.id.TimeOrderedUuidGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    /**
+     * gagso.id.generator
+     *  - uuidv7 : 시간순 UUIDv7 (기본)
+     *  - random : 기존 UUIDv4
+     */
+    @Bean
+    public IdGenerator idGenerator(@Value("${gagso.id.generator}") String type) {
+        IdGenerator generator = switch (type) {
+            case "random" -> new RandomUuidGenerator();
+            case "uuidv7" -> new TimeOrderedUuidGenerator();
+            default -> throw new IllegalArgumentException("알 수 없는 gagso.id.generator: " + type);
+        };
+        IdGenerators.use(generator);
+        return generator;
+    }
+}
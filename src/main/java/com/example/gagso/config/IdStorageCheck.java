@@ -0,0 +1,64 @@
+package com.example.gagso.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * gagso.id.storage 와 실제 PK 컬럼 타입이 맞는지 기동 시 확인 (MySQL)
+ *
+ * ddl-auto=update 는 이미 있는 컬럼 타입을 바꾸지 않으므로, CHAR(36) 로 만들어진 테이블에서 BINARY 로 바꾸면
+ * 16바이트 값이 문자 컬럼에 들어가 ID 가 깨진다. 이 경우 db/id-storage-binary16.sql 로 먼저 옮기도록 기동을 막는다.
+ * 아직 테이블이 없으면 (새 스키마) 확인할 것이 없다.
+ *
+ * 빈 생성이 끝난 직후, 웹 서버와 SmartLifecycle 작업(감사 로그 drainer, 알림 휠 등)이 시작되기 전에 확인하므로
+ * 맞지 않는 스키마에는 요청이나 로그가 한 건도 쓰이지 않는다.
+ */
+@Slf4j
+@Component
+public class IdStorageCheck implements SmartInitializingSingleton {
+
+    /** (테이블, PK 컬럼) - Spring 기본 명명 전략 기준 */
+    private static final List<String[]> ID_COLUMNS = List.of(
+            new String[]{"log_entry", "log_id"},
+            new String[]{"task", "task_id"},
+            new String[]{"club", "club_id"});
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String storage;
+
+    public IdStorageCheck(JdbcTemplate jdbcTemplate, @Value("${gagso.id.storage}") String storage) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.storage = storage.toUpperCase(Locale.ROOT);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!isMySql()) {
+            return;
+        }
+        String expected = "BINARY".equals(storage) ? "binary" : "char";
+        for (String[] column : ID_COLUMNS) {
+            List<String> types = jdbcTemplate.queryForList(
+                    "SELECT DATA_TYPE FROM information_schema.COLUMNS"
+                            + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?",
+                    String.class, column[0], column[1]);
+            if (!types.isEmpty() && !expected.equalsIgnoreCase(types.get(0))) {
+                throw new IllegalStateException(String.format(
+                        "%s.%s 컬럼이 %s 인데 gagso.id.storage=%s 입니다. 기존 스키마는 db/id-storage-binary16.sql 로 먼저 옮겨야 합니다.",
+                        column[0], column[1], types.get(0), storage));
+            }
+        }
+    }
+
+    private boolean isMySql() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql")));
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.gagso.config.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 쓰기 API 요청 속도 제한
+ *
+ * 설정된 규칙(method + path pattern)에 맞는 요청은 엔드포인트 전체 버킷, 사용자별 버킷 순서로 토큰을 하나씩 쓰고,
+ * 모자라면 DB 커넥션을 잡기 전에 429 + Retry-After 로 바로 돌려보낸다.
+ *  - 엔드포인트에서 거절되면 사용자별 버킷은 만들지도, 쓰지도 않는다.
+ *  - 사용자별에서 거절되면 엔드포인트에서 쓴 토큰은 돌려준다.
+ * 사용자는 접속 IP 로 구분한다. 인증이 없어 헤더나 세션에 넣은 사용자 ID 는 클라이언트가 마음대로 정할 수 있고,
+ * 그 값으로 나누면 ID 를 바꿔 가며 새 버킷을 받거나 남의 버킷을 비울 수 있기 때문이다. (인증이 붙으면 그 principal 로 바꾼다)
+ * 프록시 뒤에서는 server.forward-headers-strategy 로 실제 클라이언트 주소가 remoteAddr 에 오도록 설정해야 한다.
+ * 가득 찬 채 쉬고 있는 버킷은 주기적으로 지운다. (지워도 새로 만든 버킷과 같아서 제한이 풀리지 않음)
+ * 사용자별 버킷 수는 max-entries 가 상한이라, 다 차면 바로 정리해 보고 그래도 자리가 없으면 새 사용자를 거절한다.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String REJECT_MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.";
+    private static final long FULL_RETRY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimitProperties properties;
+    private final List<CompiledRule> rules;
+    private final TokenBucketTable table;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rate-limit-evictor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.table = new TokenBucketTable(properties.getMaxEntries());
+        long now = System.nanoTime();
+        this.rules = properties.getRules().stream()
+                .map(rule -> new CompiledRule(rule, PathPatternParser.defaultInstance.parse(rule.getPattern()),
+                        rule.getEndpointCapacity() > 0
+                                ? new TokenBucket(rule.getEndpointCapacity(), rule.getEndpointRefillPerSecond(), now)
+                                : null))
+                .toList();
+
+        long period = Math.max(1, properties.getIdleEvictSeconds() / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.SECONDS);
+
+        Gauge.builder("gagso.ratelimit.buckets", table, TokenBucketTable::size)
+                .description("요청 속도 제한 버킷 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || rules.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CompiledRule rule = match(request);
+        if (rule == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long now = System.nanoTime();
+        RateLimitProperties.Rule config = rule.config();
+        long wait = 0;
+        String scope = null;
+        if (rule.endpoint() != null) {
+            wait = rule.endpoint().tryAcquire(now);
+            scope = "endpoint";
+        }
+        if (wait == 0 && config.getPerUserCapacity() > 0) {
+            String key = config.getName() + "|" + request.getRemoteAddr();
+            wait = table.tryAcquire(key, config.getPerUserCapacity(), config.getPerUserRefillPerSecond(), now);
+            if (wait == TokenBucketTable.FULL) {
+                evictIdle();
+                wait = table.tryAcquire(key, config.getPerUserCapacity(), config.getPerUserRefillPerSecond(), now);
+            }
+            scope = wait == TokenBucketTable.FULL ? "full" : "user";
+            if (wait == TokenBucketTable.FULL) {
+                wait = FULL_RETRY_NANOS;
+            }
+            if (wait > 0 && rule.endpoint() != null) {
+                rule.endpoint().refund(now);
+            }
+        }
+
+        if (wait > 0) {
+            reject(response, config.getName(), scope, wait);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private CompiledRule match(HttpServletRequest request) {
+        PathContainer path = null;
+        for (CompiledRule rule : rules) {
+            String method = rule.config().getMethod();
+            if (method != null && !method.isBlank() && !method.equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+            if (path == null) {
+                path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+            }
+            if (rule.pattern().matches(path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, String rule, String scope, long waitNanos) throws IOException {
+        rejectedCounters.computeIfAbsent(rule + "|" + scope, key -> Counter.builder("gagso.ratelimit.rejected")
+                        .description("요청 속도 제한으로 거절한 요청 수")
+                        .tag("rule", rule)
+                        .tag("scope", scope)
+                        .register(meterRegistry))
+                .increment();
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(REJECT_MESSAGE);
+    }
+
+    private void evictIdle() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int removed = table.evictIdle(System.nanoTime(), TimeUnit.SECONDS.toNanos(properties.getIdleEvictSeconds()));
+            if (removed > 0) {
+                log.debug("요청 속도 제한 버킷 {}개 정리", removed);
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        evictor.shutdownNow();
+    }
+
+    /** @param endpoint 엔드포인트 전체 버킷, 제한이 없으면 null */
+    private record CompiledRule(RateLimitProperties.Rule config, PathPattern pattern, TokenBucket endpoint) {
+    }
+}
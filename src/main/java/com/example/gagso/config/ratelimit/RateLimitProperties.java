@@ -0,0 +1,42 @@
+package com.example.gagso.config.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 속도 제한 설정 (gagso.rate-limit.*)
+ * 규칙마다 사용자별 버킷과 엔드포인트 전체 버킷을 둘 다 통과해야 한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "gagso.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** 이 시간 동안 안 쓰여서 가득 찬 버킷은 정리 */
+    private long idleEvictSeconds = 300;
+
+    /** 사용자별 버킷 수 상한. 다 차면 쉬는 버킷을 바로 정리하고, 그래도 모자라면 새 사용자 요청은 거절 */
+    private int maxEntries = 100_000;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String name;
+        private String method;              // GET, POST ... (비우면 모든 메소드)
+        private String pattern;             // /api/tasks, /api/clubs/** ...
+        private int perUserCapacity;        // 사용자별 순간 허용량(버킷 크기), 0 이면 사용자별 제한 없음
+        private double perUserRefillPerSecond;
+        private int endpointCapacity;       // 엔드포인트 전체, 0 이면 제한 없음
+        private double endpointRefillPerSecond;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.gagso.config.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * lock-free 토큰 버킷
+ *
+ * 토큰 수 대신 "버킷이 다시 가득 차는 시각"(GCRA 의 TAT) 하나만 AtomicLong 으로 들고 CAS 로 갱신한다.
+ * 용량 capacity, 초당 refillPerSecond 개 충전하는 토큰 버킷과 같은 결과를 내면서
+ * 요청마다 객체를 만들거나 잠그지 않는다.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;       // 토큰 하나가 차는 시간
+    private final long burstNanos;          // (capacity - 1) 개 만큼 미리 당겨 쓸 수 있는 시간
+    private final AtomicLong fullAt;        // 이 시각 이후면 버킷이 가득 찬 상태
+
+    TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = intervalNanos * (capacity - 1L);
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나 사용
+     * @return 0 이면 허용, 양수면 거절이고 그 값은 다음 토큰까지 기다릴 나노초
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long base = Math.max(current, nowNanos);
+            long wait = base - nowNanos - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, base + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * tryAcquire 로 받은 토큰 하나를 돌려줌 (뒤의 다른 제한에 걸려 요청을 처리하지 않은 경우)
+     * TAT 는 토큰마다 intervalNanos 씩 쌓이므로 한 칸 되돌리면 그 토큰을 안 쓴 것과 같다. (가득 찬 상태보다 더 채우지는 않음)
+     */
+    void refund(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long refunded = Math.max(current - intervalNanos, nowNanos);
+            if (refunded >= current || fullAt.compareAndSet(current, refunded)) {
+                return;
+            }
+        }
+    }
+
+    /** 가득 찬 채로 idleNanos 이상 지났는지 (지워도 새로 만든 버킷과 같음) */
+    boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - fullAt.get() >= idleNanos;
+    }
+}
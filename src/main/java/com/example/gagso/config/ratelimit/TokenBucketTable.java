@@ -0,0 +1,65 @@
+package com.example.gagso.config.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 키(규칙 + 사용자)별 토큰 버킷 테이블
+ * 조회/생성은 ConcurrentHashMap 으로, 버킷 갱신은 TokenBucket 의 CAS 로 처리해서 요청 경로에 잠금이 없다.
+ * 버킷 수는 maxEntries 를 넘지 않는다. (만들기 전에 자리를 먼저 잡고, 못 잡으면 FULL)
+ */
+final class TokenBucketTable {
+
+    /** tryAcquire 결과: 테이블이 가득 차서 새 버킷을 만들지 못함 */
+    static final long FULL = -1;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger count = new AtomicInteger();
+    private final int maxEntries;
+
+    TokenBucketTable(int maxEntries) {
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /** @return 0 이면 허용, 양수면 거절(다음 토큰까지 나노초), FULL 이면 버킷을 만들 자리가 없음 */
+    long tryAcquire(String key, int capacity, double refillPerSecond, long nowNanos) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (count.incrementAndGet() > maxEntries) {
+                count.decrementAndGet();
+                bucket = buckets.get(key);
+                if (bucket == null) {
+                    return FULL;
+                }
+            } else {
+                TokenBucket created = new TokenBucket(capacity, refillPerSecond, nowNanos);
+                bucket = buckets.putIfAbsent(key, created);
+                if (bucket == null) {
+                    bucket = created;
+                } else {
+                    count.decrementAndGet();    // 다른 요청이 먼저 만듦
+                }
+            }
+        }
+        return bucket.tryAcquire(nowNanos);
+    }
+
+    /** @return 지운 버킷 수 */
+    int evictIdle(long nowNanos, long idleNanos) {
+        int removed = 0;
+        for (Iterator<TokenBucket> it = buckets.values().iterator(); it.hasNext(); ) {
+            if (it.next().isIdle(nowNanos, idleNanos)) {
+                it.remove();
+                count.decrementAndGet();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
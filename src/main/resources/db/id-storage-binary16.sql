@@ -0,0 +1,22 @@
+-- gagso.id.storage=CHAR 로 만들어진 기존 스키마를 BINARY(16) 으로 옮기는 스크립트 (MySQL 8)
+--
+-- ddl-auto=update 는 컬럼 타입을 바꾸지 않으므로 gagso.id.storage=BINARY 는 새 스키마에서만 그대로 동작한다.
+-- 기존 스키마는 애플리케이션을 멈춘 상태에서 이 스크립트를 실행한 뒤 gagso.id.storage=BINARY 로 기동한다.
+--
+-- 컬럼을 VARBINARY(36) 으로 바꾼 뒤 같은 자리에서 UUID_TO_BIN 으로 16바이트로 줄이고 BINARY(16) 으로 고정한다.
+-- PK / 보조 인덱스 / 파티션 정의는 그대로 유지된다. (새 컬럼을 만들어 바꿔 끼우면 인덱스를 다시 만들어야 함)
+-- UUID_TO_BIN 의 기본 바이트 순서(swap 없음)는 Hibernate 가 UUID 를 BINARY 로 쓰는 순서와 같고, UUIDv7 의 시간 순서도 유지된다.
+-- 행마다 PK 가 바뀌어 클러스터 인덱스를 다시 쓰므로 테이블 크기만큼 걸린다.
+-- log_entry.target_id 는 여러 대상의 ID 를 문자열로 담는 컬럼이라 바꾸지 않는다.
+
+ALTER TABLE log_entry MODIFY log_id VARBINARY(36) NOT NULL;
+UPDATE log_entry SET log_id = UUID_TO_BIN(log_id);
+ALTER TABLE log_entry MODIFY log_id BINARY(16) NOT NULL;
+
+ALTER TABLE task MODIFY task_id VARBINARY(36) NOT NULL;
+UPDATE task SET task_id = UUID_TO_BIN(task_id);
+ALTER TABLE task MODIFY task_id BINARY(16) NOT NULL;
+
+ALTER TABLE club MODIFY club_id VARBINARY(36) NOT NULL;
+UPDATE club SET club_id = UUID_TO_BIN(club_id);
+ALTER TABLE club MODIFY club_id BINARY(16) NOT NULL;
@@ -0,0 +1,45 @@
+package com.example.gagso.Log.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LogCursorTest {
+
+    @Test
+    void roundTripsTimestampAndId() {
+        LogCursor cursor = new LogCursor(LocalDateTime.of(2026, 10, 17, 9, 30, 15, 123_456_789), UUID.randomUUID());
+
+        String encoded = cursor.encode();
+
+        assertEquals(cursor, LogCursor.decode(encoded));
+        assertFalse(encoded.contains("=") || encoded.contains("+") || encoded.contains("/"));
+    }
+
+    @Test
+    void roundTripsWholeSecondTimestamp() {
+        // LocalDateTime.toString 은 0초 / 0나노를 생략하므로 짧은 형식도 다시 읽혀야 한다
+        LogCursor cursor = new LogCursor(LocalDateTime.of(2026, 1, 2, 3, 4), new UUID(0, 1));
+
+        assertEquals(cursor, LogCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> LogCursor.decode("!!not-base64!!"));
+        assertThrows(IllegalArgumentException.class, () -> LogCursor.decode(encode("no-separator")));
+        assertThrows(IllegalArgumentException.class, () -> LogCursor.decode(encode("yesterday|" + UUID.randomUUID())));
+        assertThrows(IllegalArgumentException.class, () -> LogCursor.decode(encode("2026-10-17T09:30|not-a-uuid")));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
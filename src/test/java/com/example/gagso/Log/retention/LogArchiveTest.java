@@ -0,0 +1,133 @@
+package com.example.gagso.Log.retention;
+
+import com.example.gagso.Log.dto.LogListItemDTO;
+import com.example.gagso.Log.dto.LogSearchCondition;
+import com.example.gagso.Log.helper.LogCursor;
+import com.example.gagso.Log.model.ActionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogArchiveTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 1);
+    private static final LogSearchCondition ALL = new LogSearchCondition(null, null, null, null, null);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsCommittedDay() throws IOException {
+        LogArchive archive = open();
+        List<LogListItemDTO> rows = List.of(
+                row(DAY.atTime(18, 0), "kim", ActionType.REGISTER),
+                row(DAY.atTime(12, 0), "lee", ActionType.MODIFY),
+                row(DAY.atTime(9, 0), "kim", ActionType.DELETE));
+        write(archive, DAY, rows);
+
+        for (LogArchive target : List.of(archive, open())) {     // 다시 열어도 같은 결과
+            assertTrue(target.isArchived(DAY));
+            assertEquals(Optional.of(DAY.plusDays(1).atStartOfDay()), target.hotFrom());
+            assertEquals(ids(rows), ids(target.search(ALL, null, 10)));
+            assertEquals(ids(List.of(rows.get(0), rows.get(2))),
+                    ids(target.search(new LogSearchCondition(null, "kim", null, null, null), null, 10)));
+            assertEquals(ids(List.of(rows.get(1))),
+                    ids(target.search(new LogSearchCondition(null, null, ActionType.MODIFY, null, null), null, 10)));
+            assertTrue(target.search(new LogSearchCondition(null, "park", null, null, null), null, 10).isEmpty());
+            assertTrue(target.search(new LogSearchCondition("CLUB", null, null, null, null), null, 10).isEmpty());
+        }
+    }
+
+    @Test
+    void pagesAcrossDaysWithCursor() throws IOException {
+        LogArchive archive = open();
+        List<LogListItemDTO> first = List.of(
+                row(DAY.atTime(15, 0), "kim", ActionType.REGISTER),
+                row(DAY.atTime(10, 0), "kim", ActionType.REGISTER));
+        List<LogListItemDTO> second = List.of(
+                row(DAY.plusDays(1).atTime(11, 0), "lee", ActionType.REGISTER),
+                row(DAY.plusDays(1).atTime(8, 0), "lee", ActionType.REGISTER));
+        write(archive, DAY, first);
+        write(archive, DAY.plusDays(1), second);
+
+        List<LogListItemDTO> page1 = archive.search(ALL, null, 3);
+        assertEquals(List.of(second.get(0).getLogId(), second.get(1).getLogId(), first.get(0).getLogId()), ids(page1));
+
+        LogListItemDTO last = page1.get(page1.size() - 1);
+        List<LogListItemDTO> page2 = archive.search(ALL, new LogCursor(last.getTimeStamp(), last.getLogId()), 3);
+        assertEquals(ids(List.of(first.get(1))), ids(page2));
+
+        // from / to 는 [from, to)
+        LogSearchCondition range = new LogSearchCondition(null, null, null,
+                DAY.atTime(10, 0), DAY.plusDays(1).atTime(11, 0));
+        assertEquals(List.of(second.get(1).getLogId(), first.get(0).getLogId(), first.get(1).getLogId()),
+                ids(archive.search(range, null, 10)));
+    }
+
+    @Test
+    void uncommittedWriterLeavesNothing() throws IOException {
+        LogArchive archive = open();
+        try (LogArchive.DayWriter writer = archive.openWriter(DAY)) {
+            writer.append(row(DAY.atTime(9, 0), "kim", ActionType.REGISTER));
+        }
+
+        assertFalse(archive.isArchived(DAY));
+        assertTrue(archive.hotFrom().isEmpty());
+        assertTrue(files().isEmpty());
+        assertFalse(open().isArchived(DAY));
+    }
+
+    @Test
+    void deletesLeftoverTmpOnLoad() throws IOException {
+        Path month = Files.createDirectories(dir.resolve("2026/10"));
+        Path tmp = Files.writeString(month.resolve("log-2026-10-01.ndjson.gz.tmp"), "partial");
+
+        LogArchive archive = open();
+
+        assertFalse(Files.exists(tmp));
+        assertFalse(archive.isArchived(DAY));
+    }
+
+    private LogArchive open() {
+        return new LogArchive(dir.toString(), OBJECT_MAPPER);
+    }
+
+    private static void write(LogArchive archive, LocalDate day, List<LogListItemDTO> rows) throws IOException {
+        try (LogArchive.DayWriter writer = archive.openWriter(day)) {
+            for (LogListItemDTO row : rows) {
+                writer.append(row);
+            }
+            writer.commit();
+            assertEquals(rows.size(), writer.rows());
+        }
+    }
+
+    private List<Path> files() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    private static LogListItemDTO row(LocalDateTime timeStamp, String actorId, ActionType actionType) {
+        return new LogListItemDTO(UUID.randomUUID(), actorId, actionType, "TASK", "t-1", timeStamp);
+    }
+
+    private static List<UUID> ids(List<LogListItemDTO> rows) {
+        return rows.stream().map(LogListItemDTO::getLogId).toList();
+    }
+}
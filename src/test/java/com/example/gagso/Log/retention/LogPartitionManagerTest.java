@@ -0,0 +1,226 @@
+package com.example.gagso.Log.retention;
+
+import com.example.gagso.Log.dto.LogSearchCondition;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogPartitionManagerTest {
+
+    private static final LogSearchCondition ALL = new LogSearchCondition(null, null, null, null, null);
+    private static final int HOT_DAYS = 2;
+
+    @TempDir
+    Path dir;
+
+    private final LocalDate today = LocalDate.now();
+    private final FakeJdbcTemplate jdbc = new FakeJdbcTemplate();
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private LogArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        archive = new LogArchive(dir.toString(), new ObjectMapper().findAndRegisterModules());
+        for (int offset = -4; offset <= 1; offset++) {
+            jdbc.partitions.add(LogPartitionPlan.nameOf(today.plusDays(offset)));
+        }
+        jdbc.rows.put(name(-4), List.<Object[]>of(row(-4, 18, "kim"), row(-4, 9, "lee")));
+        jdbc.rows.put(name(-3), List.<Object[]>of(row(-3, 12, "kim")));
+    }
+
+    @Test
+    void exportsEachExpiredPartitionBeforeDroppingIt() {
+        int dropped = manager(1).maintain(false);
+
+        assertEquals(2, dropped);
+        assertEquals(List.of("EXPORT " + name(-4), "DROP " + name(-4), "EXPORT " + name(-3), "DROP " + name(-3)),
+                jdbc.retentionSteps());
+        assertTrue(archive.isArchived(today.minusDays(4)));
+        assertTrue(archive.isArchived(today.minusDays(3)));
+        assertEquals(3, archive.search(ALL, null, 10).size());
+        assertEquals(3.0, registry.get("gagso.log.archived").counter().count());
+    }
+
+    @Test
+    void keepsPartitionWhenExportFails() {
+        jdbc.failExportOf = name(-4);
+
+        assertThrows(IllegalStateException.class, () -> manager(1).maintain(false));
+
+        assertEquals(List.of("EXPORT " + name(-4)), jdbc.retentionSteps());
+        assertTrue(jdbc.partitions.contains(name(-4)));
+        assertFalse(archive.isArchived(today.minusDays(4)));
+    }
+
+    @Test
+    void dropsWithoutExportWhenDayAlreadyArchived() throws IOException {
+        // 이전 실행이 보관까지 끝내고 DROP 전에 죽은 경우
+        try (LogArchive.DayWriter writer = archive.openWriter(today.minusDays(4))) {
+            writer.commit();
+        }
+
+        int dropped = manager(1).maintain(false);
+
+        assertEquals(2, dropped);
+        assertEquals(List.of("DROP " + name(-4), "EXPORT " + name(-3), "DROP " + name(-3)), jdbc.retentionSteps());
+    }
+
+    @Test
+    void premakesPartitionsUpToPremakeDays() {
+        manager(3).maintain(false);
+
+        String reorganize = jdbc.statements.get(0);
+        assertTrue(reorganize.contains("REORGANIZE PARTITION pmax INTO ("
+                + LogPartitionPlan.definitions(today.plusDays(2), today.plusDays(3)) + ")"), reorganize);
+    }
+
+    @Test
+    void leavesUnpartitionedTableToScheduledRun() {
+        jdbc.partitions.clear();
+
+        assertEquals(0, manager(1).maintain(false));
+        assertTrue(jdbc.statements.isEmpty());
+    }
+
+    @Test
+    void doesNothingUnlessJpaStore() {
+        LogPartitionManager manager = new LogPartitionManager(jdbc, archive, registry,
+                "file", true, "log_entry", HOT_DAYS, 1, 60);
+
+        assertFalse(manager.isEnabled());
+        assertEquals(0, manager.maintain(true));
+        assertTrue(jdbc.statements.isEmpty());
+    }
+
+    private LogPartitionManager manager(int premakeDays) {
+        return new LogPartitionManager(jdbc, archive, registry,
+                "jpa", true, "log_entry", HOT_DAYS, premakeDays, 60);
+    }
+
+    private String name(int offset) {
+        return LogPartitionPlan.nameOf(today.plusDays(offset));
+    }
+
+    private Object[] row(int offset, int hour, String actorId) {
+        return new Object[]{UUID.randomUUID().toString(), actorId, "REGISTER", "TASK", "t-1",
+                Timestamp.valueOf(today.plusDays(offset).atTime(hour, 0))};
+    }
+
+    /** information_schema 조회, ALTER, 파티션 읽기만 흉내 내는 MySQL */
+    private static final class FakeJdbcTemplate extends JdbcTemplate {
+
+        final List<String> partitions = new ArrayList<>();
+        final Map<String, List<Object[]>> rows = new HashMap<>();
+        final List<String> statements = new ArrayList<>();
+        String failExportOf;
+
+        /** 보관(EXPORT)과 삭제(DROP) 순서만 */
+        List<String> retentionSteps() {
+            return statements.stream()
+                    .filter(statement -> statement.startsWith("EXPORT ") || statement.startsWith("DROP "))
+                    .toList();
+        }
+
+        @Override
+        public <T> T execute(ConnectionCallback<T> action) {
+            try {
+                return action.doInConnection(connection());
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void execute(String sql) {
+            int drop = sql.indexOf(" DROP PARTITION ");
+            if (drop >= 0) {
+                String partition = sql.substring(drop + " DROP PARTITION ".length());
+                partitions.remove(partition);
+                statements.add("DROP " + partition);
+            } else {
+                statements.add(sql);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            if (partitions.isEmpty()) {
+                return List.of();
+            }
+            List<Object> names = new ArrayList<>(partitions);
+            names.add(LogPartitionPlan.MAX_PARTITION);
+            return (List<T>) names;
+        }
+
+        @Override
+        public void query(PreparedStatementCreator creator, RowCallbackHandler handler) {
+            try {
+                String sql = creator.createPreparedStatement(connection()).toString();
+                String partition = sql.substring(sql.indexOf("PARTITION (") + "PARTITION (".length(), sql.indexOf(')'));
+                statements.add("EXPORT " + partition);
+                if (partition.equals(failExportOf)) {
+                    throw new IllegalStateException("export failed: " + partition);
+                }
+                for (Object[] row : rows.getOrDefault(partition, List.of())) {
+                    handler.processRow(resultSet(row));
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static Connection connection() {
+            return proxy(Connection.class, (method, args) -> switch (method) {
+                case "getMetaData" -> proxy(DatabaseMetaData.class, (m, a) -> "MySQL");
+                case "prepareStatement" -> proxy(PreparedStatement.class,
+                        (m, a) -> m.equals("toString") ? args[0] : null);
+                default -> null;
+            });
+        }
+
+        private static ResultSet resultSet(Object[] row) {
+            return proxy(ResultSet.class, (method, args) -> {
+                Object value = row[(int) args[0] - 1];
+                return method.equals("getString") ? value.toString() : value;
+            });
+        }
+
+        private interface Answer {
+            Object answer(String method, Object[] args);
+        }
+
+        private static <T> T proxy(Class<T> type, Answer answer) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (self, method, args) -> answer.answer(method.getName(), args)));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.gagso.Log.retention;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogPartitionPlanTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
+
+    @Test
+    void keepsOnlyDayPartitionsInOrder() {
+        assertEquals(List.of("p20261001", "p20261002"),
+                LogPartitionPlan.dayPartitions(List.of("p20261001", "p20261002", "pmax", "p_old")));
+    }
+
+    @Test
+    void namesAndParsesDays() {
+        assertEquals("p20261017", LogPartitionPlan.nameOf(TODAY));
+        assertEquals(TODAY, LogPartitionPlan.dayOf("p20261017"));
+    }
+
+    @Test
+    void premakesFromDayAfterLastPartition() {
+        List<String> partitions = List.of("p20261016", "p20261017");
+
+        assertEquals(List.of(LocalDate.of(2026, 10, 18), LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 20)),
+                LogPartitionPlan.premakeDays(partitions, TODAY, 3));
+    }
+
+    @Test
+    void premakesNothingWhenAlreadyAhead() {
+        assertTrue(LogPartitionPlan.premakeDays(List.of("p20261020"), TODAY, 3).isEmpty());
+        assertTrue(LogPartitionPlan.premakeDays(List.of("p20261025"), TODAY, 3).isEmpty());
+        assertTrue(LogPartitionPlan.premakeDays(List.of(), TODAY, 3).isEmpty());
+    }
+
+    @Test
+    void expiresOnlyDaysBeforeCutoff() {
+        List<String> partitions = List.of("p20261001", "p20261002", "p20261003", "p20261004", "p20261005");
+
+        assertEquals(List.of("p20261001", "p20261002", "p20261003"),
+                LogPartitionPlan.expired(partitions, LocalDate.of(2026, 10, 4)));
+        assertTrue(LogPartitionPlan.expired(partitions, LocalDate.of(2026, 10, 1)).isEmpty());
+    }
+
+    @Test
+    void stopsAtFirstPartitionNotExpired() {
+        // 순서가 어긋난 목록이어도 cutoff 이후 파티션 뒤로는 보지 않는다
+        List<String> partitions = List.of("p20261001", "p20261010", "p20261002", "p20261011");
+
+        assertEquals(List.of("p20261001"), LogPartitionPlan.expired(partitions, LocalDate.of(2026, 10, 5)));
+    }
+
+    @Test
+    void neverExpiresLastPartition() {
+        List<String> partitions = List.of("p20261001", "p20261002");
+
+        assertEquals(List.of("p20261001"), LogPartitionPlan.expired(partitions, TODAY));
+        assertTrue(LogPartitionPlan.expired(List.of("p20261001"), TODAY).isEmpty());
+        assertTrue(LogPartitionPlan.expired(List.of(), TODAY).isEmpty());
+    }
+
+    @Test
+    void definesEachDayThenMax() {
+        assertEquals("PARTITION p20261017 VALUES LESS THAN ('2026-10-18 00:00:00'), "
+                        + "PARTITION p20261018 VALUES LESS THAN ('2026-10-19 00:00:00'), "
+                        + "PARTITION pmax VALUES LESS THAN (MAXVALUE)",
+                LogPartitionPlan.definitions(TODAY, TODAY.plusDays(1)));
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.gagso.Log.service;
+
+import com.example.gagso.Log.model.ActionType;
+import com.example.gagso.Log.model.ActivityGranularity;
+import com.example.gagso.Log.model.ActivityRollupKey;
+import com.example.gagso.Log.model.LogEntry;
+import com.example.gagso.Log.repository.ActivityRollupBatchWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ActivityRollupCollectorTest {
+
+    private static final LocalDateTime PAST = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES).minusMinutes(10);
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final FakeBatchWriter writer = new FakeBatchWriter();
+    private final ActivityRollupCollector collector = new ActivityRollupCollector(writer, registry, true, 60);
+
+    @Test
+    void flushWritesFinishedMinutesOnly() {
+        record(PAST, "kim");
+        record(PAST, "kim");
+        LocalDateTime now = LocalDateTime.now();
+        record(now, "lee");
+
+        collector.flush(false);
+
+        assertEquals(1, writer.written.size());
+        assertEquals(2, written(0, ActivityGranularity.HOUR, "kim"));
+        assertEquals(2, written(0, ActivityGranularity.DAY, "kim"));
+        assertEquals(Map.of(minuteKey(now, "lee"), 1L), collector.pending().counts());
+
+        collector.flush(true);
+
+        assertEquals(2, writer.written.size());
+        assertTrue(collector.pending().counts().isEmpty());
+    }
+
+    @Test
+    void failedUpsertIsKeptAndRetriedOnNextFlush() {
+        record(PAST, "kim");
+        record(PAST, "kim");
+        writer.failures = 1;
+
+        collector.flush(false);
+
+        assertTrue(writer.written.isEmpty());
+        assertEquals(Map.of(minuteKey(PAST, "kim"), 2L), collector.pending().counts());
+        assertEquals(1.0, registry.get("gagso.log.rollup.failed").functionCounter().count());
+
+        record(PAST, "kim");
+        collector.flush(false);
+
+        assertEquals(1, writer.written.size());
+        assertEquals(3, written(0, ActivityGranularity.HOUR, "kim"));
+        assertTrue(collector.pending().counts().isEmpty());
+    }
+
+    @Test
+    void pendingCountsInFlightOnceAndFlagsUpsert() throws Exception {
+        record(PAST, "kim");
+        record(PAST, "kim");
+        long before = collector.stableVersion(0);
+        writer.entered = new CountDownLatch(1);
+        writer.release = new CountDownLatch(1);
+
+        Thread flusher = new Thread(() -> collector.flush(false));
+        flusher.start();
+        assertTrue(writer.entered.await(5, TimeUnit.SECONDS));
+
+        // upsert 중: 꺼낸 건수는 한 번만 보이고 version 은 홀수 (이 사이에 읽은 테이블 결과와는 합치지 않음)
+        ActivityRollupCollector.Pending during = collector.pending();
+        assertEquals(Map.of(minuteKey(PAST, "kim"), 2L), during.counts());
+        assertEquals(1L, during.version() & 1);
+        assertEquals(during.version(), collector.stableVersion(10));
+
+        writer.release.countDown();
+        flusher.join(5000);
+
+        ActivityRollupCollector.Pending after = collector.pending();
+        assertTrue(after.counts().isEmpty());
+        assertEquals(before + 2, after.version());
+        assertEquals(after.version(), collector.stableVersion(0));
+    }
+
+    private void record(LocalDateTime timeStamp, String actorId) {
+        LogEntry entry = new LogEntry();
+        entry.setActorId(actorId);
+        entry.setActionType(ActionType.REGISTER);
+        entry.setTargetType("TASK");
+        entry.setTargetId("t-1");
+        entry.setTimeStamp(timeStamp);
+        collector.record(entry);
+    }
+
+    /** flush 번째 upsert 에서 PAST 구간에 더한 건수 */
+    private long written(int flush, ActivityGranularity granularity, String actorId) {
+        return writer.written.get(flush).getOrDefault(rollupKey(granularity, PAST, actorId), 0L);
+    }
+
+    private static ActivityRollupCollector.MinuteKey minuteKey(LocalDateTime time, String actorId) {
+        return new ActivityRollupCollector.MinuteKey(time.truncatedTo(ChronoUnit.MINUTES), "TASK",
+                ActionType.REGISTER, actorId);
+    }
+
+    private static ActivityRollupKey rollupKey(ActivityGranularity granularity, LocalDateTime time, String actorId) {
+        return new ActivityRollupKey(granularity, granularity.bucketOf(time), "TASK", ActionType.REGISTER, actorId);
+    }
+
+    /** 받은 집계를 모아 두고, 정해진 횟수만큼 실패하거나 release 될 때까지 멈춘다 */
+    private static final class FakeBatchWriter extends ActivityRollupBatchWriter {
+
+        final List<Map<ActivityRollupKey, Long>> written = new ArrayList<>();
+        int failures;
+        CountDownLatch entered;
+        CountDownLatch release;
+
+        FakeBatchWriter() {
+            super(null);
+        }
+
+        @Override
+        public void upsertAll(Map<ActivityRollupKey, Long> counts) {
+            if (entered != null) {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failures > 0) {
+                failures--;
+                throw new IllegalStateException("upsert failed");
+            }
+            written.add(new HashMap<>(counts));
+        }
+    }
+}
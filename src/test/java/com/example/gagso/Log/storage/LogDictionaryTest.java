@@ -0,0 +1,103 @@
+package com.example.gagso.Log.storage;
+
+import com.example.gagso.Log.storage.LogDictionary.Kind;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogDictionaryTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void keepsIdsAcrossReopen() throws IOException {
+        Path file = dir.resolve("dictionary.log");
+        try (LogDictionary dictionary = LogDictionary.open(file, false)) {
+            assertEquals(0, dictionary.idOf(Kind.ACTOR, "kim"));
+            assertEquals(1, dictionary.idOf(Kind.ACTOR, "lee"));
+            assertEquals(0, dictionary.idOf(Kind.TARGET_TYPE, "TASK"));
+            assertEquals(0, dictionary.idOf(Kind.ACTOR, "kim"));
+        }
+
+        try (LogDictionary dictionary = LogDictionary.open(file, false)) {
+            assertEquals(0, dictionary.truncatedBytes());
+            assertEquals(2, dictionary.size(Kind.ACTOR));
+            assertEquals(1, dictionary.find(Kind.ACTOR, "lee"));
+            assertEquals("TASK", dictionary.valueOf(Kind.TARGET_TYPE, 0));
+            assertEquals(-1, dictionary.find(Kind.TARGET_TYPE, "CLUB"));
+        }
+    }
+
+    @Test
+    void truncatesAtFirstNonContiguousId() throws IOException {
+        Path file = dir.resolve("dictionary.log");
+        try (LogDictionary dictionary = LogDictionary.open(file, false)) {
+            dictionary.idOf(Kind.ACTOR, "kim");
+            dictionary.idOf(Kind.ACTOR, "lee");
+        }
+        long valid = Files.size(file);
+        // 번호 2 를 건너뛴 항목 뒤에 온 항목은 CRC 가 맞아도 믿지 않는다
+        appendEntry(file, Kind.ACTOR, 3, "park");
+        appendEntry(file, Kind.ACTOR, 2, "choi");
+
+        try (LogDictionary dictionary = LogDictionary.open(file, false)) {
+            assertEquals(2, dictionary.size(Kind.ACTOR));
+            assertEquals(-1, dictionary.find(Kind.ACTOR, "park"));
+            assertEquals(-1, dictionary.find(Kind.ACTOR, "choi"));
+            assertEquals(valid, Files.size(file));
+            assertTrue(dictionary.truncatedBytes() > 0);
+
+            assertEquals(2, dictionary.idOf(Kind.ACTOR, "choi"));
+        }
+        try (LogDictionary dictionary = LogDictionary.open(file, false)) {
+            assertEquals(0, dictionary.truncatedBytes());
+            assertEquals(2, dictionary.find(Kind.ACTOR, "choi"));
+        }
+    }
+
+    @Test
+    void truncatesTornTail() throws IOException {
+        Path file = dir.resolve("dictionary.log");
+        try (LogDictionary dictionary = LogDictionary.open(file, false)) {
+            dictionary.idOf(Kind.TARGET_TYPE, "CLUB");
+        }
+        long valid = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 20, 1, 2}));
+        }
+
+        try (LogDictionary dictionary = LogDictionary.open(file, false)) {
+            assertEquals(6, dictionary.truncatedBytes());
+            assertEquals(valid, Files.size(file));
+            assertEquals(0, dictionary.find(Kind.TARGET_TYPE, "CLUB"));
+        }
+    }
+
+    /** LogDictionary.add 와 같은 형식으로 항목 하나를 덧붙인다 */
+    private static void appendEntry(Path file, Kind kind, int id, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buf = ByteBuffer.allocate(LogRecordCodec.HEADER_BYTES + 1 + 5 + bytes.length);
+        buf.position(LogRecordCodec.HEADER_BYTES);
+        buf.put((byte) kind.ordinal());
+        LogRecordCodec.putVarInt(buf, id);
+        buf.put(bytes);
+        LogRecordCodec.seal(buf, 0);
+        buf.flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buf.hasRemaining()) {
+                channel.write(buf);
+            }
+        }
+    }
+}
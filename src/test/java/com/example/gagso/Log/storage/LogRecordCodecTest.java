@@ -0,0 +1,89 @@
+package com.example.gagso.Log.storage;
+
+import com.example.gagso.Log.model.ActionType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogRecordCodecTest {
+
+    private static final UUID ID = UUID.fromString("0192a3b4-c5d6-7e8f-9a0b-1c2d3e4f5a6b");
+
+    @Test
+    void roundTripsUuidAndTextTargets() {
+        ByteBuffer buf = ByteBuffer.allocate(512);
+        UUID target = UUID.randomUUID();
+        LogRecordCodec.encode(buf, 1_700_000_000_123L, ID, 3, 300, ActionType.MODIFY, target.toString());
+        int second = buf.position();
+        LogRecordCodec.encode(buf, 42L, ID, 0, 1, ActionType.LOGOUT, "문서-7");
+        int end = buf.position();
+
+        assertEquals(second, LogRecordCodec.frameSize(buf, 0, end));
+        LogRecordCodec.View view = new LogRecordCodec.View().read(buf, 0);
+        assertEquals(1_700_000_000_123L, view.epochMillis);
+        assertEquals(ID, view.id());
+        assertEquals(3, view.actor);
+        assertEquals(300, view.targetType);
+        assertEquals(ActionType.MODIFY, view.actionType());
+        assertEquals(target.toString(), view.targetId());
+
+        assertEquals(end - second, LogRecordCodec.frameSize(buf, second, end));
+        view.read(buf, second);
+        assertEquals(42L, view.epochMillis);
+        assertEquals(ActionType.LOGOUT, view.actionType());
+        assertEquals("문서-7", view.targetId());
+    }
+
+    @Test
+    void keepsNonCanonicalUuidTextVerbatim() {
+        ByteBuffer buf = ByteBuffer.allocate(256);
+        String upper = ID.toString().toUpperCase();
+        LogRecordCodec.encode(buf, 1L, ID, 0, 0, ActionType.REGISTER, upper);
+
+        assertEquals(upper, new LogRecordCodec.View().read(buf, 0).targetId());
+    }
+
+    @Test
+    void encodedSizeStaysWithinMaxEncodedSize() {
+        String targetId = "가".repeat(100);
+        ByteBuffer buf = ByteBuffer.allocate(1024);
+        LogRecordCodec.encode(buf, Long.MAX_VALUE, ID, Integer.MAX_VALUE, Integer.MAX_VALUE, ActionType.DELETE, targetId);
+
+        assertTrue(buf.position() <= LogRecordCodec.maxEncodedSize(targetId));
+    }
+
+    @Test
+    void rejectsTornAndCorruptFrames() {
+        ByteBuffer buf = ByteBuffer.allocate(256);
+        LogRecordCodec.encode(buf, 1L, ID, 1, 2, ActionType.LOGIN, "target");
+        int end = buf.position();
+
+        assertEquals(-1, LogRecordCodec.frameSize(buf, 0, end - 1));                       // 꼬리가 잘림
+        assertEquals(-1, LogRecordCodec.frameSize(buf, 0, LogRecordCodec.HEADER_BYTES - 1)); // 헤더도 다 못 씀
+        assertEquals(-1, LogRecordCodec.frameSize(buf, end, buf.capacity()));              // 0 으로 채워진 빈 영역
+
+        buf.put(LogRecordCodec.HEADER_BYTES + 3, (byte) (buf.get(LogRecordCodec.HEADER_BYTES + 3) ^ 1));
+        assertEquals(-1, LogRecordCodec.frameSize(buf, 0, end));                           // CRC 불일치
+    }
+
+    @Test
+    void varIntRoundTrips() {
+        int[] values = {0, 1, 127, 128, 16_383, 16_384, 1 << 21, Integer.MAX_VALUE};
+        ByteBuffer buf = ByteBuffer.allocate(values.length * 5);
+        for (int value : values) {
+            LogRecordCodec.putVarInt(buf, value);
+        }
+
+        int position = 0;
+        for (int value : values) {
+            long v = LogRecordCodec.getVarInt(buf, position);
+            assertEquals(value, (int) (v >>> 32));
+            position = (int) v;
+        }
+        assertEquals(buf.position(), position);
+    }
+}
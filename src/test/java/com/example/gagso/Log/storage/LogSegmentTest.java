@@ -0,0 +1,209 @@
+package com.example.gagso.Log.storage;
+
+import com.example.gagso.Log.model.ActionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogSegmentTest {
+
+    private static final int CAPACITY = 64 * 1024;
+    private static final int INDEX_INTERVAL = 2;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void truncatesTornTailWhenReopeningActiveSegment() throws IOException {
+        int good;
+        try (LogSegment segment = LogSegment.create(dir, 0, CAPACITY, INDEX_INTERVAL)) {
+            append(segment, 10, 20, 30, 40, 50);
+            good = segment.size();
+        }
+        byte[] torn = encode(60);
+        writeAt(segmentPath(0), good, ByteBuffer.wrap(torn, 0, torn.length - 1));
+
+        try (LogSegment segment = LogSegment.open(segmentPath(0), CAPACITY, INDEX_INTERVAL, true)) {
+            assertEquals(5, segment.recordCount());
+            assertEquals(good, segment.size());
+            assertEquals(torn.length - 1, segment.truncatedBytes());
+            assertEquals(CAPACITY - good, segment.remaining());
+
+            LogSegment.Snapshot snapshot = segment.snapshot();
+            assertEquals(3, snapshot.blockCount());
+            assertEquals(10, snapshot.minMillis());
+            assertEquals(50, snapshot.maxMillis());
+
+            // 잘라낸 자리부터 이어 쓴다
+            append(segment, 60);
+        }
+        try (LogSegment segment = LogSegment.open(segmentPath(0), CAPACITY, INDEX_INTERVAL, true)) {
+            assertEquals(6, segment.recordCount());
+            assertEquals(0, segment.truncatedBytes());
+        }
+    }
+
+    @Test
+    void stopsAtFirstCorruptRecord() throws IOException {
+        int[] sizes = new int[3];
+        try (LogSegment segment = LogSegment.create(dir, 0, CAPACITY, INDEX_INTERVAL)) {
+            for (int i = 0; i < sizes.length; i++) {
+                append(segment, (i + 1) * 10L);
+                sizes[i] = segment.size();
+            }
+        }
+        // 두 번째 레코드 payload 한 바이트를 바꾸면 그 뒤는 모두 버린다
+        writeAt(segmentPath(0), sizes[0] + LogRecordCodec.HEADER_BYTES + 1, ByteBuffer.wrap(new byte[]{(byte) 0xFF}));
+
+        try (LogSegment segment = LogSegment.open(segmentPath(0), CAPACITY, INDEX_INTERVAL, true)) {
+            assertEquals(1, segment.recordCount());
+            assertEquals(sizes[0], segment.size());
+            assertEquals(sizes[2] - sizes[0], segment.truncatedBytes());
+        }
+    }
+
+    @Test
+    void sealedSegmentUsesIndexFile() throws IOException {
+        LogSegment.Snapshot before;
+        try (LogSegment segment = LogSegment.create(dir, 7, CAPACITY, INDEX_INTERVAL)) {
+            append(segment, 5, 1, 9, 3, 7);
+            segment.seal();
+            before = segment.snapshot();
+        }
+        assertTrue(Files.exists(indexPath(7)));
+        assertEquals(before.size(), Files.size(segmentPath(7)));
+
+        try (LogSegment segment = LogSegment.open(segmentPath(7), CAPACITY, INDEX_INTERVAL, false)) {
+            assertSameIndex(before, segment.snapshot());
+            assertEquals(5, segment.recordCount());
+            assertEquals(7, segment.sequence());
+        }
+    }
+
+    @Test
+    void rebuildsMissingIndex() throws IOException {
+        LogSegment.Snapshot before;
+        try (LogSegment segment = LogSegment.create(dir, 0, CAPACITY, INDEX_INTERVAL)) {
+            append(segment, 5, 1, 9, 3, 7);
+            segment.seal();
+            before = segment.snapshot();
+        }
+        Files.delete(indexPath(0));
+
+        try (LogSegment segment = LogSegment.open(segmentPath(0), CAPACITY, INDEX_INTERVAL, false)) {
+            assertSameIndex(before, segment.snapshot());
+            assertEquals(5, segment.recordCount());
+        }
+        assertTrue(Files.exists(indexPath(0)));
+    }
+
+    @Test
+    void rebuildsIndexThatDoesNotMatchSegment() throws IOException {
+        int fourRecords;
+        try (LogSegment segment = LogSegment.create(dir, 0, CAPACITY, INDEX_INTERVAL)) {
+            append(segment, 10, 20, 30, 40);
+            fourRecords = segment.size();
+            append(segment, 50);
+            segment.seal();
+        }
+        // 색인을 쓴 뒤 세그먼트 꼬리가 잘려 크기가 달라진 경우
+        try (FileChannel channel = FileChannel.open(segmentPath(0), StandardOpenOption.WRITE)) {
+            channel.truncate(fourRecords + LogRecordCodec.HEADER_BYTES);
+        }
+
+        try (LogSegment segment = LogSegment.open(segmentPath(0), CAPACITY, INDEX_INTERVAL, false)) {
+            assertEquals(4, segment.recordCount());
+            assertEquals(fourRecords, segment.size());
+            assertTrue(segment.truncatedBytes() > 0);
+            assertEquals(40, segment.snapshot().maxMillis());
+        }
+        assertEquals(fourRecords, Files.size(segmentPath(0)));
+    }
+
+    @Test
+    void rebuildsCorruptIndex() throws IOException {
+        LogSegment.Snapshot before;
+        try (LogSegment segment = LogSegment.create(dir, 0, CAPACITY, INDEX_INTERVAL)) {
+            append(segment, 10, 20, 30);
+            segment.seal();
+            before = segment.snapshot();
+        }
+        writeAt(indexPath(0), 20, ByteBuffer.wrap(new byte[]{1, 2, 3}));
+
+        try (LogSegment segment = LogSegment.open(segmentPath(0), CAPACITY, INDEX_INTERVAL, false)) {
+            assertSameIndex(before, segment.snapshot());
+        }
+    }
+
+    @Test
+    void snapshotSeesOnlyRecordsWrittenBeforeIt() throws IOException {
+        try (LogSegment segment = LogSegment.create(dir, 0, CAPACITY, INDEX_INTERVAL)) {
+            append(segment, 10, 20, 30);
+            LogSegment.Snapshot snapshot = segment.snapshot();
+            append(segment, 40, 50);
+
+            assertEquals(2, snapshot.blockCount());
+            assertEquals(30, snapshot.blockMax(1));
+            assertEquals(30, snapshot.maxMillis());
+            assertTrue(snapshot.blockEnd(1) < segment.size());
+        }
+    }
+
+    private static void assertSameIndex(LogSegment.Snapshot expected, LogSegment.Snapshot actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.blockCount(), actual.blockCount());
+        assertEquals(expected.minMillis(), actual.minMillis());
+        assertEquals(expected.maxMillis(), actual.maxMillis());
+        for (int b = 0; b < expected.blockCount(); b++) {
+            assertEquals(expected.blockStart(b), actual.blockStart(b));
+            assertEquals(expected.blockEnd(b), actual.blockEnd(b));
+            assertEquals(expected.blockMin(b), actual.blockMin(b));
+            assertEquals(expected.blockMax(b), actual.blockMax(b));
+        }
+    }
+
+    private static void append(LogSegment segment, long... millis) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(millis.length * 128);
+        int[] offsets = new int[millis.length];
+        for (int i = 0; i < millis.length; i++) {
+            offsets[i] = buf.position();
+            buf.put(encode(millis[i]));
+        }
+        buf.flip();
+        segment.append(buf, offsets, millis, millis.length);
+    }
+
+    private static byte[] encode(long millis) {
+        ByteBuffer buf = ByteBuffer.allocate(128);
+        LogRecordCodec.encode(buf, millis, new UUID(millis, millis), 0, 0, ActionType.REGISTER, "target-" + millis);
+        byte[] bytes = new byte[buf.position()];
+        buf.get(0, bytes);
+        return bytes;
+    }
+
+    private static void writeAt(Path file, long position, ByteBuffer bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            while (bytes.hasRemaining()) {
+                position += channel.write(bytes, position);
+            }
+        }
+    }
+
+    private Path segmentPath(long sequence) {
+        return dir.resolve(String.format("%020d.seg", sequence));
+    }
+
+    private Path indexPath(long sequence) {
+        return dir.resolve(String.format("%020d.idx", sequence));
+    }
+}
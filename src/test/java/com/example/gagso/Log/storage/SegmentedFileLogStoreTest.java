@@ -0,0 +1,162 @@
+package com.example.gagso.Log.storage;
+
+import com.example.gagso.Log.dto.LogListItemDTO;
+import com.example.gagso.Log.dto.LogSearchCondition;
+import com.example.gagso.Log.helper.LogCursor;
+import com.example.gagso.Log.model.ActionType;
+import com.example.gagso.Log.model.LogEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentedFileLogStoreTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 9, 0);
+    private static final LogSearchCondition ALL = new LogSearchCondition(null, null, null, null, null);
+
+    @TempDir
+    Path dir;
+
+    private SegmentedFileLogStore store;
+
+    @AfterEach
+    void tearDown() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    void ordersSameTimestampByUnsignedId() {
+        store = open();
+        List<UUID> ids = List.of(
+                new UUID(1L, 0L),
+                new UUID(0x8000_0000_0000_0000L, 0L),          // 부호 있는 비교면 가장 작음
+                new UUID(0x7FFF_FFFF_FFFF_FFFFL, 0L),
+                new UUID(-1L, -1L),
+                new UUID(-1L, 1L));
+        List<LogEntry> entries = new ArrayList<>();
+        for (UUID id : ids) {
+            entries.add(entry(id, BASE, "kim"));
+        }
+        store.appendAll(entries);
+
+        // CHAR(36) 문자열 정렬(내림차순)과 같은 순서
+        List<UUID> expected = ids.stream()
+                .sorted(Comparator.comparing(UUID::toString).reversed())
+                .toList();
+        assertEquals(expected, idsOf(store.search(ALL, null, 10)));
+
+        List<LogListItemDTO> first = store.search(ALL, null, 2);
+        LogListItemDTO last = first.get(first.size() - 1);
+        assertEquals(expected.subList(2, 5),
+                idsOf(store.search(ALL, new LogCursor(last.getTimeStamp(), last.getLogId()), 10)));
+    }
+
+    @Test
+    void cursorContinuesAcrossSegmentsAndReopen() throws IOException {
+        store = open();
+        Random random = new Random(42);
+        List<LogEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            // 여러 건이 같은 시각을 갖도록 10ms 단위, ID 는 부호가 섞이도록 무작위
+            LocalDateTime at = BASE.plusNanos((i / 7) * 10_000_000L);
+            entries.add(entry(new UUID(random.nextLong(), random.nextLong()), at, "user" + (i % 50)));
+        }
+        for (int from = 0; from < entries.size(); from += 1000) {
+            store.appendAll(entries.subList(from, from + 1000));
+        }
+        assertTrue(segmentCount() >= 2, "세그먼트가 2개 이상이어야 경계를 넘는 조회를 확인할 수 있다");
+
+        List<UUID> expected = entries.stream()
+                .sorted(Comparator.comparing(LogEntry::getTimeStamp)
+                        .thenComparing(entry -> entry.getId().toString())
+                        .reversed())
+                .map(LogEntry::getId)
+                .toList();
+        assertEquals(expected, readAll(ALL, 997));
+
+        store.close();
+        store = open();
+        assertEquals(expected, readAll(ALL, 5000));
+
+        LogSearchCondition byActor = new LogSearchCondition(null, "user7", null, BASE.plusSeconds(10), BASE.plusSeconds(60));
+        List<UUID> expectedByActor = entries.stream()
+                .filter(entry -> entry.getActorId().equals("user7")
+                        && !entry.getTimeStamp().isBefore(BASE.plusSeconds(10))
+                        && entry.getTimeStamp().isBefore(BASE.plusSeconds(60)))
+                .sorted(Comparator.comparing(LogEntry::getTimeStamp)
+                        .thenComparing(entry -> entry.getId().toString())
+                        .reversed())
+                .map(LogEntry::getId)
+                .toList();
+        assertEquals(expectedByActor, readAll(byActor, 33));
+    }
+
+    @Test
+    void unknownActorFindsNothing() {
+        store = open();
+        store.appendAll(List.of(entry(UUID.randomUUID(), BASE, "kim")));
+
+        assertEquals(List.of(), store.search(new LogSearchCondition(null, "nobody", null, null, null), null, 10));
+    }
+
+    private List<UUID> readAll(LogSearchCondition condition, int pageSize) {
+        List<UUID> ids = new ArrayList<>();
+        Set<UUID> seen = new HashSet<>();
+        LogCursor cursor = null;
+        while (true) {
+            List<LogListItemDTO> page = store.search(condition, cursor, pageSize);
+            for (LogListItemDTO row : page) {
+                assertTrue(seen.add(row.getLogId()), "중복: " + row.getLogId());
+                ids.add(row.getLogId());
+            }
+            if (page.size() < pageSize) {
+                return ids;
+            }
+            LogListItemDTO last = page.get(page.size() - 1);
+            cursor = new LogCursor(last.getTimeStamp(), last.getLogId());
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(LogSegment::isSegmentFile).count();
+        }
+    }
+
+    private SegmentedFileLogStore open() {
+        return new SegmentedFileLogStore(dir.toString(), 2, 64, false);
+    }
+
+    private static List<UUID> idsOf(List<LogListItemDTO> rows) {
+        return rows.stream().map(LogListItemDTO::getLogId).toList();
+    }
+
+    private static LogEntry entry(UUID id, LocalDateTime at, String actorId) {
+        LogEntry entry = new LogEntry();
+        entry.setId(id);
+        entry.setTimeStamp(at);
+        entry.setActorId(actorId);
+        entry.setActionType(ActionType.MODIFY);
+        entry.setTargetType("TASK");
+        entry.setTargetId(UUID.randomUUID().toString());
+        return entry;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.gagso.WorkRoom.helper;
+
+import com.example.gagso.WorkRoom.helper.TaskImportReader.Format;
+import com.example.gagso.WorkRoom.helper.TaskImportReader.Row;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskImportReaderTest {
+
+    private final TaskImportReader reader = new TaskImportReader(new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    void readsQuotedFieldsWithCommasNewlinesAndEscapedQuotes() throws IOException {
+        List<Row> rows = read(Format.CSV, "title,unitTask\n"
+                + "\"보고서, 초안\",\"1단계\n2단계\"\n"
+                + "\"따옴표 \"\"인용\"\"\",\"\"\n");
+
+        assertEquals(2, rows.size());
+        assertEquals("보고서, 초안", rows.get(0).task().getTitle());
+        assertEquals("1단계\n2단계", rows.get(0).task().getUnitTask());
+        assertEquals("따옴표 \"인용\"", rows.get(1).task().getTitle());
+        assertNull(rows.get(1).task().getUnitTask());
+    }
+
+    @Test
+    void handlesCrlfBlankLinesAndMissingFinalNewline() throws IOException {
+        List<Row> rows = read(Format.CSV, "title,startDate,endDate\r\n"
+                + "회의,2026-10-01,2026-10-02\r\n"
+                + "\r\n"
+                + "\"여러\r\n줄\",2026-10-03,2026-10-03");
+
+        assertEquals(2, rows.size());
+        assertEquals("회의", rows.get(0).task().getTitle());
+        assertEquals(LocalDate.of(2026, 10, 2), rows.get(0).task().getEndDate());
+        // 따옴표 안의 CRLF 는 값 그대로
+        assertEquals("여러\r\n줄", rows.get(1).task().getTitle());
+        assertEquals(2, rows.get(1).row());
+    }
+
+    @Test
+    void skipsUtf8BomAndMatchesHeaderCaseInsensitively() throws IOException {
+        List<Row> rows = read(Format.CSV, "\uFEFF Title ,IsPublic,ALARMENABLED\n점검,Y,1\n");
+
+        assertEquals(1, rows.size());
+        assertEquals("점검", rows.get(0).task().getTitle());
+        assertTrue(rows.get(0).task().isPublic());
+        assertTrue(rows.get(0).task().isAlarmEnabled());
+    }
+
+    @Test
+    void reportsBadRowsAndKeepsReading() throws IOException {
+        List<Row> rows = read(Format.CSV, "title,startDate,public\n"
+                + "a,2026-13-01,\n"
+                + "b,,maybe\n"
+                + "c,,n\n");
+
+        assertEquals(3, rows.size());
+        assertNull(rows.get(0).task());
+        assertTrue(rows.get(0).error().contains("startDate"));
+        assertNull(rows.get(1).task());
+        assertTrue(rows.get(1).error().contains("public"));
+        assertEquals(3, rows.get(2).row());
+        assertFalse(rows.get(2).task().isPublic());
+    }
+
+    @Test
+    void rejectsCsvWithoutTitleColumn() {
+        assertThrows(IllegalArgumentException.class, () -> read(Format.CSV, "name,startDate\nx,2026-10-01\n"));
+    }
+
+    @Test
+    void readsEmptyInput() throws IOException {
+        assertEquals(List.of(), read(Format.CSV, ""));
+        assertEquals(List.of(), read(Format.NDJSON, "\uFEFF"));
+    }
+
+    @Test
+    void readsNdjsonAndReportsBadLines() throws IOException {
+        List<Row> rows = read(Format.NDJSON, "\uFEFF{\"title\":\"회의\",\"unitTask\":\"정리\"}\r\n"
+                + "\n"
+                + "{\"title\": \n"
+                + "{\"title\":\"점검\",\"alarmEnabled\":true}");
+
+        assertEquals(3, rows.size());
+        assertEquals("회의", rows.get(0).task().getTitle());
+        assertEquals("정리", rows.get(0).task().getUnitTask());
+        assertNull(rows.get(1).task());
+        assertTrue(rows.get(1).error().startsWith("JSON"));
+        assertEquals(3, rows.get(2).row());
+        assertTrue(rows.get(2).task().isAlarmEnabled());
+    }
+
+    private List<Row> read(Format format, String input) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        reader.read(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), format, rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.gagso.WorkRoom.helper;
+
+import com.example.gagso.WorkRoom.dto.TaskListItemDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskIntervalTreeTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 15);
+
+    @Test
+    void includesTasksTouchingEitherEdgeDay() {
+        TaskIntervalTree tree = new TaskIntervalTree();
+        TaskListItemDTO endsOnFrom = task("endsOnFrom", DAY.minusDays(5), DAY);
+        TaskListItemDTO startsOnTo = task("startsOnTo", DAY.plusDays(6), DAY.plusDays(9));
+        TaskListItemDTO singleDay = task("singleDay", DAY.plusDays(3), DAY.plusDays(3));
+        TaskListItemDTO covering = task("covering", DAY.minusDays(30), DAY.plusDays(30));
+        TaskListItemDTO endsBefore = task("endsBefore", DAY.minusDays(5), DAY.minusDays(1));
+        TaskListItemDTO startsAfter = task("startsAfter", DAY.plusDays(7), DAY.plusDays(8));
+        for (TaskListItemDTO item : List.of(startsAfter, singleDay, endsBefore, covering, startsOnTo, endsOnFrom)) {
+            tree.insert(item);
+        }
+
+        List<TaskListItemDTO> found = tree.overlapping(DAY.toEpochDay(), DAY.plusDays(6).toEpochDay());
+
+        assertEquals(List.of(covering, endsOnFrom, singleDay, startsOnTo), found);
+        assertEquals(6, tree.size());
+    }
+
+    @Test
+    void singleDayRangeMatchesOnlyTasksCoveringThatDay() {
+        TaskIntervalTree tree = new TaskIntervalTree();
+        TaskListItemDTO before = task("before", DAY.minusDays(1), DAY.minusDays(1));
+        TaskListItemDTO on = task("on", DAY, DAY);
+        TaskListItemDTO after = task("after", DAY.plusDays(1), DAY.plusDays(1));
+        tree.insert(after);
+        tree.insert(on);
+        tree.insert(before);
+
+        assertEquals(List.of(on), tree.overlapping(DAY.toEpochDay(), DAY.toEpochDay()));
+        assertEquals(List.of(), new TaskIntervalTree().overlapping(DAY.toEpochDay(), DAY.toEpochDay()));
+    }
+
+    @Test
+    void matchesLinearScanInStartDateOrder() {
+        Random random = new Random(7);
+        TaskIntervalTree tree = new TaskIntervalTree();
+        List<TaskListItemDTO> all = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            LocalDate start = DAY.plusDays(random.nextInt(730) - 365);
+            TaskListItemDTO item = task("t" + i, start, start.plusDays(random.nextInt(i % 10 == 0 ? 200 : 10)));
+            all.add(item);
+            tree.insert(item);
+        }
+
+        for (int q = 0; q < 300; q++) {
+            LocalDate from = DAY.plusDays(random.nextInt(800) - 400);
+            LocalDate to = from.plusDays(random.nextInt(45));
+            List<TaskListItemDTO> expected = all.stream()
+                    .filter(item -> !item.getEndDate().isBefore(from) && !item.getStartDate().isAfter(to))
+                    .toList();
+
+            List<TaskListItemDTO> found = tree.overlapping(from.toEpochDay(), to.toEpochDay());
+
+            assertEquals(expected.size(), found.size());
+            assertTrue(found.containsAll(expected));
+            for (int i = 1; i < found.size(); i++) {
+                assertFalse(found.get(i).getStartDate().isBefore(found.get(i - 1).getStartDate()));
+            }
+        }
+        assertEquals(all.size(), tree.size());
+    }
+
+    @Test
+    void keepsTasksWithTheSameStartDate() {
+        TaskIntervalTree tree = new TaskIntervalTree();
+        List<TaskListItemDTO> sameStart = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            TaskListItemDTO item = task("same" + i, DAY, DAY.plusDays(i));
+            sameStart.add(item);
+            tree.insert(item);
+        }
+
+        List<TaskListItemDTO> found = tree.overlapping(DAY.plusDays(50).toEpochDay(), DAY.plusDays(60).toEpochDay());
+
+        assertEquals(50, found.size());
+        assertTrue(sameStart.subList(50, 100).containsAll(found));
+    }
+
+    private static TaskListItemDTO task(String title, LocalDate start, LocalDate end) {
+        return new TaskListItemDTO(UUID.randomUUID(), title, start, end, "manager");
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.gagso.WorkRoom.helper;
+
+import com.example.gagso.WorkRoom.dto.TaskListItemDTO;
+import com.example.gagso.WorkRoom.dto.TaskSearchDocDTO;
+import com.example.gagso.WorkRoom.models.Task;
+import com.example.gagso.WorkRoom.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskSearchIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 1);
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskSearchIndex index = new TaskSearchIndex(taskRepository);
+
+    @Test
+    void isEmptyUntilRebuilt() {
+        assertEquals(Optional.empty(), index.search("보고", 10));
+    }
+
+    @Test
+    void ranksExactThenPrefixThenContainsThenUnitTask() {
+        rebuild(
+                doc("주간 회의록 정리", "보고", DAY),
+                doc("주간보고서 작성", "", DAY),
+                doc("주간 보고", "", DAY),
+                doc("팀 주간보고", "", DAY),
+                doc("회의", "주간보고 취합", DAY));
+
+        assertEquals(List.of("주간 보고", "주간보고서 작성", "팀 주간보고", "회의"), titles(index.search("주간보고", 10)));
+    }
+
+    @Test
+    void breaksTiesByLatestStartDate() {
+        rebuild(
+                doc("예산 검토 A", "", DAY.minusDays(3)),
+                doc("예산 검토 B", "", null),
+                doc("예산 검토 C", "", DAY.plusDays(3)));
+
+        // 모두 접두 일치로 같은 점수 → 시작일 최신순, 시작일 없는 것은 마지막
+        assertEquals(List.of("예산 검토 C", "예산 검토 A", "예산 검토 B"), titles(index.search("예산검토", 10)));
+    }
+
+    @Test
+    void ignoresCaseAndWhitespace() {
+        rebuild(doc("API Gateway 점검", "", DAY));
+
+        assertEquals(List.of("API Gateway 점검"), titles(index.search("api gate way", 10)));
+        assertEquals(List.of("API Gateway 점검"), titles(index.search("  점 검 ", 10)));
+    }
+
+    @Test
+    void verifiesCandidatesAgainstTheWholeQuery() {
+        // "보고" 와 "고서" 2-gram 은 모두 있지만 "보고서" 는 들어 있지 않음
+        rebuild(doc("고서 보고", "", DAY), doc("보고서", "", DAY));
+
+        assertEquals(List.of("보고서"), titles(index.search("보고서", 10)));
+        assertEquals(List.of(), titles(index.search("없는단어", 10)));
+    }
+
+    @Test
+    void matchesSingleCharacterQueryWithUnigrams() {
+        rebuild(doc("서버 이전", "", DAY), doc("회의", "", DAY));
+
+        assertEquals(List.of("서버 이전"), titles(index.search("버", 10)));
+    }
+
+    @Test
+    void appliesLimitAndIncludesTasksAddedAfterRebuild() {
+        rebuild(doc("점검 1", "", DAY), doc("점검 2", "", DAY.plusDays(1)));
+        Task task = new Task();
+        task.setTaskId(UUID.randomUUID());
+        task.setTitle("점검 3");
+        task.setUnitTask("");
+        task.setStartDate(DAY.plusDays(2));
+        task.setEndDate(DAY.plusDays(2));
+        index.add(task);
+
+        assertEquals(List.of("점검 3", "점검 2"), titles(index.search("점검", 2)));
+        assertEquals(2, index.search("", 2).orElseThrow().size());
+    }
+
+    private void rebuild(TaskSearchDocDTO... docs) {
+        when(taskRepository.findAllSearchDocs()).thenReturn(List.of(docs));
+        index.rebuild();
+        assertTrue(index.isReady());
+    }
+
+    private static TaskSearchDocDTO doc(String title, String unitTask, LocalDate start) {
+        return new TaskSearchDocDTO(UUID.randomUUID(), title, unitTask, start, start, "manager");
+    }
+
+    private static List<String> titles(Optional<List<TaskListItemDTO>> result) {
+        return result.orElseThrow().stream().map(TaskListItemDTO::getTitle).toList();
+    }
+}
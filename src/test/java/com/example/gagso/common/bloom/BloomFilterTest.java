@@ -0,0 +1,85 @@
+package com.example.gagso.common.bloom;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    @Test
+    void rejectsOutOfRangeFpp() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, -0.5));
+    }
+
+    @Test
+    void neverReportsFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("user-" + i), "user-" + i);
+        }
+    }
+
+    @Test
+    void keepsFalsePositiveRateNearTarget() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user-" + i);
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+        // 이론값 1% → 여유를 두고 2% 미만
+        assertTrue(falsePositives < probes * 0.02, "falsePositives=" + falsePositives);
+        // 키당 약 9.6 비트
+        assertTrue(filter.bitSize() >= 95_000 && filter.bitSize() <= 97_000, "bits=" + filter.bitSize());
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = BloomFilter.create(0, 0.01);
+
+        assertFalse(filter.mightContain(""));
+        assertFalse(filter.mightContain("user-1"));
+        filter.put("");
+        assertTrue(filter.mightContain(""));
+    }
+
+    @Test
+    void concurrentPutsLoseNoBits() throws InterruptedException {
+        BloomFilter filter = BloomFilter.create(40_000, 0.01);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t * 10_000;
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    filter.put("user-" + (offset + i));
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        for (int i = 0; i < 40_000; i++) {
+            assertTrue(filter.mightContain("user-" + i), "user-" + i);
+        }
+    }
+}
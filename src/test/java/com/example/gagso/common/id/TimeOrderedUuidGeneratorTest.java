@@ -0,0 +1,91 @@
+package com.example.gagso.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeOrderedUuidGeneratorTest {
+
+    private final TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+
+    @Test
+    void setsVersionAndVariant() {
+        UUID id = generator.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void embedsCurrentMillis() {
+        long before = System.currentTimeMillis();
+        UUID id = generator.next();
+        long after = System.currentTimeMillis();
+
+        long millis = id.getMostSignificantBits() >>> 16;
+        // 같은 ms 에 카운터가 넘치면 최대 몇 ms 앞설 수 있다
+        assertTrue(millis >= before && millis <= after + 1, "millis=" + millis);
+    }
+
+    @Test
+    void isStrictlyIncreasingInStringAndUnsignedOrder() {
+        UUID previous = generator.next();
+        for (int i = 0; i < 200_000; i++) {
+            UUID next = generator.next();
+            assertTrue(next.toString().compareTo(previous.toString()) > 0, previous + " >= " + next);
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    void staysUniqueAndOrderedPerThreadUnderContention() throws InterruptedException {
+        int threads = 8;
+        int perThread = 20_000;
+        ConcurrentLinkedQueue<List<UUID>> results = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                List<UUID> ids = new ArrayList<>(perThread);
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(generator.next());
+                }
+                results.add(ids);
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        Set<Long> msbs = new HashSet<>();
+        for (List<UUID> ids : results) {
+            for (int i = 0; i < ids.size(); i++) {
+                // 상위 64bit (ms + 카운터) 만으로도 전체에서 겹치지 않는다
+                assertTrue(msbs.add(ids.get(i).getMostSignificantBits()));
+                if (i > 0) {
+                    assertTrue(ids.get(i).toString().compareTo(ids.get(i - 1).toString()) > 0);
+                }
+            }
+        }
+        assertEquals(threads * perThread, msbs.size());
+    }
+}
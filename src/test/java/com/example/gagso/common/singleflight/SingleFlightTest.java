@@ -0,0 +1,190 @@
+package com.example.gagso.common.singleflight;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private static final String NAME = "tasks";
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void sharesOneExecutionBetweenConcurrentCallers() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(registry, true, 0, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = runAsync(() -> singleFlight.execute(NAME, "k", blockingLoader(release, "v")));
+        awaitCount("executed", 1);
+
+        List<CompletableFuture<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            followers.add(runAsync(() -> singleFlight.execute(NAME, "k", loader("other"))));
+        }
+        awaitCount("shared", 4);
+        release.countDown();
+
+        assertEquals("v", leader.get(2, TimeUnit.SECONDS));
+        for (CompletableFuture<String> follower : followers) {
+            assertEquals("v", follower.get(2, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0.8, registry.get("gagso.singleflight.coalescing.ratio").tag("name", NAME).gauge().value(), 1e-9);
+
+        // window 0 이면 끝난 결과는 들고 있지 않는다
+        assertEquals("other", singleFlight.execute(NAME, "k", loader("other")));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void reusesCompletedResultWithinWindowPerKey() {
+        SingleFlight singleFlight = new SingleFlight(registry, true, 60_000, 100);
+
+        String first = singleFlight.execute(NAME, "k", loader("v1"));
+        String cached = singleFlight.execute(NAME, "k", loader("v2"));
+        String otherKey = singleFlight.execute(NAME, "k2", loader("v3"));
+
+        assertSame(first, cached);
+        assertEquals("v3", otherKey);
+        assertEquals(2, loads.get());
+        assertEquals(1.0, count("cached"));
+    }
+
+    @Test
+    void forgetDropsCachedResultOfThatNameOnly() {
+        SingleFlight singleFlight = new SingleFlight(registry, true, 60_000, 100);
+        singleFlight.execute(NAME, "k", loader("v1"));
+        singleFlight.execute("clubs", "k", loader("c1"));
+
+        singleFlight.forget(NAME);
+
+        assertEquals("v2", singleFlight.execute(NAME, "k", loader("v2")));
+        assertEquals("c1", singleFlight.execute("clubs", "k", loader("c2")));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void forgetDuringFlightMakesLaterCallersReload() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(registry, true, 60_000, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> stale = runAsync(() -> singleFlight.execute(NAME, "k", blockingLoader(release, "old")));
+        awaitCount("executed", 1);
+
+        singleFlight.forget(NAME);
+        // 진행 중인 이전 세대 결과에 합류하지 않고 새로 읽는다
+        String fresh = singleFlight.execute(NAME, "k", loader("new"));
+        release.countDown();
+
+        assertEquals("new", fresh);
+        assertEquals("old", stale.get(2, TimeUnit.SECONDS));
+        assertEquals("new", singleFlight.execute(NAME, "k", loader("newer")));
+        assertEquals(2, loads.get());
+        assertEquals(0.0, count("shared"));
+    }
+
+    @Test
+    void sharesFailureWithWaitersButDoesNotKeepIt() throws Exception {
+        SingleFlight singleFlight = new SingleFlight(registry, true, 60_000, 100);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = runAsync(() -> singleFlight.execute(NAME, "k", () -> {
+            loads.incrementAndGet();
+            awaitQuietly(release);
+            throw new IllegalStateException("db down");
+        }));
+        awaitCount("executed", 1);
+        CompletableFuture<String> follower = runAsync(() -> singleFlight.execute(NAME, "k", loader("other")));
+        awaitCount("shared", 1);
+        release.countDown();
+
+        assertFailedWith(leader);
+        assertFailedWith(follower);
+        assertEquals("v", singleFlight.execute(NAME, "k", loader("v")));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void callsLoaderEveryTimeWhenDisabled() {
+        SingleFlight singleFlight = new SingleFlight(registry, false, 60_000, 100);
+
+        singleFlight.execute(NAME, "k", loader("v"));
+        singleFlight.execute(NAME, "k", loader("v"));
+
+        assertEquals(2, loads.get());
+    }
+
+    private Supplier<String> loader(String value) {
+        return () -> {
+            loads.incrementAndGet();
+            return value;
+        };
+    }
+
+    private Supplier<String> blockingLoader(CountDownLatch release, String value) {
+        return () -> {
+            loads.incrementAndGet();
+            awaitQuietly(release);
+            return value;
+        };
+    }
+
+    private double count(String outcome) {
+        return registry.get("gagso.singleflight.calls").tag("name", NAME).tag("outcome", outcome).counter().count();
+    }
+
+    /** 다른 스레드의 요청이 leader 가 되었거나 대기에 들어갔는지 메트릭으로 확인 */
+    private void awaitCount(String outcome, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (true) {
+            try {
+                if (count(outcome) >= expected) {
+                    return;
+                }
+            } catch (RuntimeException notRegisteredYet) {
+                // 첫 요청 전에는 미터가 없다
+            }
+            assertTrue(System.nanoTime() < deadline, outcome + " < " + expected);
+            Thread.sleep(1);
+        }
+    }
+
+    private static CompletableFuture<String> runAsync(Supplier<String> call) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                future.complete(call.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return future;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void assertFailedWith(CompletableFuture<String> future) {
+        Exception e = assertThrows(Exception.class, () -> future.get(2, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalStateException, String.valueOf(e.getCause()));
+    }
+}
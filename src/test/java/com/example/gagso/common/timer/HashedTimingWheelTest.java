@@ -0,0 +1,95 @@
+package com.example.gagso.common.timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedTimingWheelTest {
+
+    // 슬롯 4개 x 10ms → 40ms 보다 먼 작업은 rounds 를 세며 기다린다
+    private final HashedTimingWheel wheel = new HashedTimingWheel("test", 10, TimeUnit.MILLISECONDS, 4, Runnable::run);
+
+    @AfterEach
+    void stop() {
+        wheel.stop();
+    }
+
+    @Test
+    void rejectsNonPowerOfTwoWheelSizeAndScheduleBeforeStart() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new HashedTimingWheel("bad", 10, TimeUnit.MILLISECONDS, 6, Runnable::run));
+        assertThrows(IllegalStateException.class, () -> wheel.schedule(() -> { }, 10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void runsNoEarlierThanDelayAcrossSeveralRounds() throws InterruptedException {
+        wheel.start();
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        long begin = System.nanoTime();
+        long[] elapsed = new long[3];
+        long[] delays = {95, 15, 45};
+        for (int i = 0; i < delays.length; i++) {
+            int index = i;
+            wheel.schedule(() -> {
+                elapsed[index] = System.nanoTime() - begin;
+                fired.add("t" + delays[index]);
+                done.countDown();
+            }, delays[i], TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        // 95ms 는 두 바퀴 이상, 45ms 는 한 바퀴 넘게 돌고 실행
+        assertEquals(List.of("t15", "t45", "t95"), fired);
+        for (int i = 0; i < delays.length; i++) {
+            assertTrue(elapsed[i] >= TimeUnit.MILLISECONDS.toNanos(delays[i]), "t" + delays[i] + " fired early");
+        }
+        assertEquals(0, wheel.pendingCount());
+    }
+
+    @Test
+    void runsZeroDelayOnNextTick() throws InterruptedException {
+        wheel.start();
+        CountDownLatch done = new CountDownLatch(1);
+
+        HashedTimingWheel.Timeout timeout = wheel.schedule(done::countDown, 0, TimeUnit.MILLISECONDS);
+
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+    }
+
+    @Test
+    void cancelledTaskNeverRuns() throws InterruptedException {
+        wheel.start();
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch later = new CountDownLatch(1);
+
+        HashedTimingWheel.Timeout cancelled = wheel.schedule(runs::incrementAndGet, 30, TimeUnit.MILLISECONDS);
+        HashedTimingWheel.Timeout farCancelled = wheel.schedule(runs::incrementAndGet, 70, TimeUnit.MILLISECONDS);
+        wheel.schedule(later::countDown, 120, TimeUnit.MILLISECONDS);
+        assertEquals(3, wheel.pendingCount());
+
+        assertTrue(cancelled.cancel());
+        Thread.sleep(20);
+        // 이미 슬롯으로 옮겨진 뒤에 취소해도 실행되지 않는다
+        assertTrue(farCancelled.cancel());
+        assertFalse(cancelled.cancel());
+        assertTrue(cancelled.isCancelled());
+        assertEquals(1, wheel.pendingCount());
+
+        assertTrue(later.await(2, TimeUnit.SECONDS));
+        assertEquals(0, runs.get());
+        assertEquals(0, wheel.pendingCount());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.gagso.config.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long NOW = 1_000_000_000_000L;
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void allowsBurstUpToCapacityThenReportsWait() {
+        TokenBucket bucket = new TokenBucket(3, 1, NOW);
+
+        assertEquals(0, bucket.tryAcquire(NOW));
+        assertEquals(0, bucket.tryAcquire(NOW));
+        assertEquals(0, bucket.tryAcquire(NOW));
+        assertEquals(SECOND, bucket.tryAcquire(NOW));
+        assertEquals(SECOND / 4, bucket.tryAcquire(NOW + SECOND * 3 / 4));
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(3, 2, NOW);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(NOW));
+        }
+
+        assertEquals(0, bucket.tryAcquire(NOW + SECOND / 2));
+        assertTrue(bucket.tryAcquire(NOW + SECOND / 2) > 0);
+        // 오래 쉬어도 capacity 보다 많이 쌓이지 않는다
+        long later = NOW + SECOND * 100;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tryAcquire(later));
+        }
+        assertTrue(bucket.tryAcquire(later) > 0);
+    }
+
+    @Test
+    void refundGivesBackTheTokenButNeverOverfills() {
+        TokenBucket bucket = new TokenBucket(2, 1, NOW);
+        bucket.refund(NOW);                 // 가득 찬 상태 → 그대로
+        assertEquals(0, bucket.tryAcquire(NOW));
+        assertEquals(0, bucket.tryAcquire(NOW));
+        assertTrue(bucket.tryAcquire(NOW) > 0);
+
+        bucket.refund(NOW);
+
+        assertEquals(0, bucket.tryAcquire(NOW));
+        assertTrue(bucket.tryAcquire(NOW) > 0);
+    }
+
+    @Test
+    void becomesIdleOnlyAfterRefilledForIdlePeriod() {
+        TokenBucket bucket = new TokenBucket(5, 1, NOW);
+        assertTrue(bucket.isIdle(NOW, 0));
+
+        bucket.tryAcquire(NOW);             // NOW + 1s 에 다시 가득 참
+
+        assertFalse(bucket.isIdle(NOW + SECOND * 30, SECOND * 60));
+        assertTrue(bucket.isIdle(NOW + SECOND * 61, SECOND * 60));
+    }
+
+    @Test
+    void grantsExactlyCapacityUnderContention() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(100, 1, NOW);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 1_000; i++) {
+                    if (bucket.tryAcquire(NOW) == 0) {
+                        granted.incrementAndGet();
+                    }
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(100, granted.get());
+    }
+}